@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Booking contention benchmark for the striped doctor/patient booking locks.
+#
+# Phase 1 books one slot for each of DOCTORS different doctors concurrently. Nothing should
+#         conflict, so every request should succeed and lock wait should stay near zero.
+# Phase 2 fires CONFLICTS concurrent requests for the same doctor and slot from different
+#         patients. Exactly one should succeed.
+#
+# Usage: ./booking-contention.sh [DOCTORS] [CONCURRENCY] [CONFLICTS]
+# Requires the stack from docker-compose.yml (patient, doctor and appointment services).
+set -euo pipefail
+
+DOCTORS=${1:-200}
+CONCURRENCY=${2:-32}
+CONFLICTS=${3:-20}
+PATIENT_URL=${PATIENT_URL:-http://localhost:8001}
+DOCTOR_URL=${DOCTOR_URL:-http://localhost:8002}
+APPOINTMENT_URL=${APPOINTMENT_URL:-http://localhost:8003}
+DEPARTMENT=${DEPARTMENT:-Cardiology}
+
+RUN_ID=$(date +%s)
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# Two days ahead at 10:00 clears the 2-hour lead time and sits inside clinic hours
+SLOT_DAY=$(date -d "+2 days" +%F)
+SLOT_START="${SLOT_DAY}T10:00:00"
+SLOT_END="${SLOT_DAY}T10:30:00"
+
+create_doctor() {
+  curl -sf -X POST "$DOCTOR_URL/v1/doctors" -H 'Content-Type: application/json' \
+    -d "{\"name\":\"Bench Doctor $1\",\"email\":\"bench.doctor.$RUN_ID.$1@example.com\",\"phone\":\"+1555000$1\",\"department\":\"$DEPARTMENT\",\"specialization\":\"General\"}" \
+    | sed -E 's/.*"doctorId":([0-9]+).*/\1/'
+}
+
+create_patient() {
+  curl -sf -X POST "$PATIENT_URL/v1/patients" -H 'Content-Type: application/json' \
+    -d "{\"name\":\"Bench Patient $1\",\"email\":\"bench.patient.$RUN_ID.$1@example.com\",\"phone\":\"+1555100$1\",\"dob\":\"1990-01-01\"}" \
+    | sed -E 's/.*"patientId":([0-9]+).*/\1/'
+}
+
+book() {
+  # Prints the HTTP status of one booking: book <patientId> <doctorId>
+  curl -s -o /dev/null -w '%{http_code}\n' -X POST "$APPOINTMENT_URL/v1/appointments" \
+    -H 'Content-Type: application/json' \
+    -d "{\"patientId\":$1,\"doctorId\":$2,\"department\":\"$DEPARTMENT\",\"slotStart\":\"$SLOT_START\",\"slotEnd\":\"$SLOT_END\"}"
+}
+export -f book
+export APPOINTMENT_URL DEPARTMENT SLOT_START SLOT_END
+
+echo "Creating $DOCTORS doctors and $((DOCTORS + CONFLICTS)) patients..."
+for i in $(seq 1 "$DOCTORS"); do
+  echo "$(create_patient "$i") $(create_doctor "$i")" >> "$WORK_DIR/pairs"
+done
+CONFLICT_DOCTOR=$(create_doctor "c0")
+for i in $(seq 1 "$CONFLICTS"); do
+  echo "$(create_patient "c$i") $CONFLICT_DOCTOR" >> "$WORK_DIR/conflicts"
+done
+
+summarize() {
+  local label=$1 file=$2 elapsed=$3
+  local total ok
+  total=$(wc -l < "$file")
+  ok=$(grep -c '^201$' "$file" || true)
+  printf '%-22s requests=%-5s booked=%-5s rejected=%-5s wall=%sms\n' "$label" "$total" "$ok" "$((total - ok))" "$elapsed"
+}
+
+echo "Phase 1: $DOCTORS doctors in parallel (concurrency $CONCURRENCY)"
+START=$(date +%s%3N)
+xargs -P "$CONCURRENCY" -L 1 bash -c 'book "$0" "$1"' < "$WORK_DIR/pairs" > "$WORK_DIR/phase1"
+summarize "distinct doctors" "$WORK_DIR/phase1" "$(( $(date +%s%3N) - START ))"
+
+echo "Phase 2: $CONFLICTS requests for one doctor slot"
+START=$(date +%s%3N)
+xargs -P "$CONFLICTS" -L 1 bash -c 'book "$0" "$1"' < "$WORK_DIR/conflicts" > "$WORK_DIR/phase2"
+summarize "same doctor and slot" "$WORK_DIR/phase2" "$(( $(date +%s%3N) - START ))"
+if [ "$(grep -c '^201$' "$WORK_DIR/phase2" || true)" -ne 1 ]; then
+  echo "FAIL: expected exactly one booking for the contended slot" >&2
+  exit 1
+fi
+
+echo "Lock metrics:"
+curl -s "$APPOINTMENT_URL/actuator/prometheus" | grep -E '^appointment_booking_lock_(wait_ms|timeouts)' || true
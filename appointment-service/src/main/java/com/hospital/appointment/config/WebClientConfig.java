@@ -1,16 +1,19 @@
 package com.hospital.appointment.config;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@EnableConfigurationProperties(DownstreamProperties.class)
 public class WebClientConfig {
-    @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    @Bean(destroyMethod = "dispose")
+    public DownstreamClients downstreamClients(DownstreamProperties properties, MeterRegistry registry,
+                                               CircuitBreakerRegistry circuitBreakerRegistry,
+                                               BulkheadRegistry bulkheadRegistry) {
+        return new DownstreamClients(properties, registry, circuitBreakerRegistry, bulkheadRegistry);
     }
 }
-
-
-
@@ -1,7 +1,11 @@
 package com.hospital.appointment.controller;
 
 import com.hospital.appointment.dto.AppointmentDTO;
+import com.hospital.appointment.dto.BatchBookingRequest;
+import com.hospital.appointment.dto.BatchBookingResponse;
+import com.hospital.appointment.dto.CursorPageDTO;
 import com.hospital.appointment.dto.ErrorResponse;
+import com.hospital.appointment.dto.FreeSlotDTO;
 import com.hospital.appointment.dto.RescheduleRequest;
 import com.hospital.appointment.service.AppointmentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 
 import org.springframework.data.domain.Page;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -51,15 +56,17 @@ public class AppointmentController {
                 "appointments_created_total", "Counter - Total appointments created",
                 "appointments_cancelled_total", "Counter - Total appointments cancelled",
                 "appointments_rescheduled_total", "Counter - Total appointments rescheduled",
-                "appointment_booking_latency_ms", "Timer - Booking latency in milliseconds"
+                "appointment_booking_latency_ms", "Timer - Booking latency in milliseconds",
+                "appointment_booking_stage_latency_ms", "Timer - Booking validation stage latency (patient, doctor, availability, overlap)",
+                "appointment_daily_cap_rejections_total", "Counter - Bookings rejected by the daily cap"
             ),
             "logging", Map.of(
                 "format", "JSON",
                 "correlationId", "enabled"
             ),
             "availableEndpoints", Map.of(
-                "GET", "/v1/appointments, /v1/appointments/{id}, /v1/appointments/doctor/{doctorId}/count",
-                "POST", "/v1/appointments",
+                "GET", "/v1/appointments, /v1/appointments/{id}, /v1/appointments/doctor/{doctorId}/count, /v1/appointments/doctor/{doctorId}/free-slots, /v1/appointments/department/{department}/next-available",
+                "POST", "/v1/appointments, /v1/appointments/batch",
                 "PUT", "/v1/appointments/{id}/reschedule, /v1/appointments/{id}/cancel, /v1/appointments/{id}/complete, /v1/appointments/{id}/no-show"
             )
         );
@@ -86,16 +93,46 @@ public class AppointmentController {
         }
     }
     
+    @Operation(summary = "Book a series of appointments", description = "Books explicit slots and/or a DAILY or WEEKLY recurrence for one patient and doctor. Validates the series as a whole and returns a result per slot; rejected slots do not fail the others.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "At least one slot booked"),
+        @ApiResponse(responseCode = "400", description = "No slot booked or invalid request")
+    })
+    @PostMapping("/appointments/batch")
+    public ResponseEntity<?> bookBatch(@Valid @RequestBody BatchBookingRequest request) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            BatchBookingResponse response = appointmentService.bookBatch(request, correlationId);
+            HttpStatus status = response.getBooked() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(response);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse("BATCH_BOOKING_FAILED", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "List appointments",
+               description = "page/limit returns a page with an exact total. Passing cursor (empty for the first page) switches to keyset paging in (slotStart, appointmentId) order: each page returns nextCursor, and approximateTotal unless skipTotal=true")
     @GetMapping("/appointments")
     public ResponseEntity<?> listAppointments(
             @RequestParam(required = false) Long patientId,
             @RequestParam(required = false) Long doctorId,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean skipTotal) {
         String correlationId = UUID.randomUUID().toString();
         try {
             org.slf4j.MDC.put("correlationId", correlationId);
+            if (cursor != null) {
+                CursorPageDTO<AppointmentDTO> appointments = appointmentService.listAppointmentsAfter(
+                    patientId, doctorId, status, cursor, limit, skipTotal, correlationId);
+                return ResponseEntity.ok(appointments);
+            }
             Page<AppointmentDTO> appointments = appointmentService.listAppointments(patientId, doctorId, status, page, limit, correlationId);
             return ResponseEntity.ok(appointments);
         } catch (RuntimeException e) {
@@ -199,6 +236,50 @@ public class AppointmentController {
             org.slf4j.MDC.remove("correlationId");
         }
     }
+    
+    @Operation(summary = "Find free slots for a doctor", description = "Returns free slots of the given duration between 'from' and 'to' (ISO 8601, at most 31 days), at 15-minute granularity inside clinic hours. Honors the booking lead time and the daily cap.")
+    @GetMapping("/appointments/doctor/{doctorId}/free-slots")
+    public ResponseEntity<?> findFreeSlots(
+            @PathVariable Long doctorId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = "500") int limit) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            LocalDateTime fromTime = LocalDateTime.parse(from.replace("Z", ""));
+            LocalDateTime toTime = LocalDateTime.parse(to.replace("Z", ""));
+            List<FreeSlotDTO> slots = appointmentService.findFreeSlots(doctorId, fromTime, toTime, duration, limit, correlationId);
+            return ResponseEntity.ok(Map.of("doctorId", doctorId, "durationMinutes", duration, "slots", slots));
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse("FREE_SLOTS_FAILED", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Find the earliest free slots in a department", description = "Returns the earliest free slots of the given duration with any active doctor of the department, each with its doctorId, in start order. 'to' defaults to 90 days after 'from' (at most 180 days).")
+    @GetMapping("/appointments/department/{department}/next-available")
+    public ResponseEntity<?> findNextAvailableInDepartment(
+            @PathVariable String department,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = "10") int limit) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            LocalDateTime fromTime = from == null ? LocalDateTime.now() : LocalDateTime.parse(from.replace("Z", ""));
+            LocalDateTime toTime = to == null ? fromTime.plusDays(90) : LocalDateTime.parse(to.replace("Z", ""));
+            List<FreeSlotDTO> slots = appointmentService.findEarliestInDepartment(department, fromTime, toTime, duration, limit, correlationId);
+            return ResponseEntity.ok(Map.of("department", department, "durationMinutes", duration, "slots", slots));
+        } catch (Exception e) {
+            ErrorResponse error = new ErrorResponse("NEXT_AVAILABLE_FAILED", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
 }
-
-
@@ -0,0 +1,29 @@
+package com.hospital.appointment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Books several slots for one patient with one doctor. Slots can be listed explicitly,
+ * generated from a recurrence, or both.
+ */
+@Data
+public class BatchBookingRequest {
+    @NotNull(message = "Patient ID is required")
+    private Long patientId;
+    
+    @NotNull(message = "Doctor ID is required")
+    private Long doctorId;
+    
+    @NotNull(message = "Department is required")
+    private String department;
+    
+    @Valid
+    private List<BatchSlot> slots;
+    
+    @Valid
+    private RecurrenceSpec recurrence;
+}
@@ -0,0 +1,17 @@
+package com.hospital.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResponse {
+    private int requested;
+    private int booked;
+    private int rejected;
+    private List<BatchSlotResult> results; // same order as the requested slots
+}
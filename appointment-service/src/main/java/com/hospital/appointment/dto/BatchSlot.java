@@ -0,0 +1,19 @@
+package com.hospital.appointment.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSlot {
+    @NotNull(message = "Slot start time is required")
+    private LocalDateTime slotStart;
+    
+    @NotNull(message = "Slot end time is required")
+    private LocalDateTime slotEnd;
+}
@@ -0,0 +1,18 @@
+package com.hospital.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSlotResult {
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+    private String status; // BOOKED or REJECTED
+    private Long appointmentId;
+    private String reason;
+}
@@ -0,0 +1,17 @@
+package com.hospital.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorChangeDTO {
+    private Long doctorId;
+    private String department;
+    private Boolean active;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.hospital.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChangePageDTO {
+    private List<PatientChangeDTO> changes;
+    private Long nextSince;
+    private boolean hasMore;
+}
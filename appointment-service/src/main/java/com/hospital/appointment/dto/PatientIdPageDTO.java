@@ -0,0 +1,17 @@
+package com.hospital.appointment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientIdPageDTO {
+    private List<Long> ids;
+    private Long nextAfterId;
+    private boolean hasMore;
+    private Long changeSeq;
+}
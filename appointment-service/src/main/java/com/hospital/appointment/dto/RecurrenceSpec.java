@@ -0,0 +1,33 @@
+package com.hospital.appointment.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RecurrenceSpec {
+    @NotNull(message = "First slot start time is required")
+    private LocalDateTime firstSlotStart;
+    
+    @NotNull(message = "Duration is required")
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    private Integer durationMinutes;
+    
+    @NotNull(message = "Frequency is required")
+    private Frequency frequency;
+    
+    @Min(value = 1, message = "Interval must be at least 1")
+    private Integer interval = 1; // every N days or weeks
+    
+    @NotNull(message = "Occurrences is required")
+    @Min(value = 1, message = "Occurrences must be at least 1")
+    @Max(value = 52, message = "Occurrences must be at most 52")
+    private Integer occurrences;
+    
+    public enum Frequency {
+        DAILY, WEEKLY
+    }
+}
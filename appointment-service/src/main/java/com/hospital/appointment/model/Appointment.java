@@ -8,13 +8,22 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+    // Overlap checks, daily counts and doctor listings: doctor equality, then the slot range
+    @Index(name = "idx_appointment_doctor_slot", columnList = "doctorId, slotStart, slotEnd, status"),
+    @Index(name = "idx_appointment_patient_slot", columnList = "patientId, slotStart, slotEnd, status"),
+    // Slot-range scans (day counters) and keyset listing order
+    @Index(name = "idx_appointment_slot_start", columnList = "slotStart, appointmentId"),
+    // Interval index refresh: changes since the last poll, from every replica
+    @Index(name = "idx_appointment_updated_at", columnList = "updatedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Appointment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointment_seq", allocationSize = 50)
     private Long appointmentId;
     
     @Column(nullable = false)
@@ -42,12 +51,15 @@ public class Appointment {
     @Column(nullable = false)
     private Integer rescheduleCount = 0;
     
+    private LocalDateTime updatedAt;
+    
     @Version
     private Long version;
     
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (status == null) {
             status = AppointmentStatus.SCHEDULED;
         }
@@ -56,6 +68,11 @@ public class Appointment {
         }
     }
     
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
     public enum AppointmentStatus {
         SCHEDULED, CANCELLED, COMPLETED, NO_SHOW
     }
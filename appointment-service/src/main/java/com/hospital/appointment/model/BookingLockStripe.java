@@ -0,0 +1,20 @@
+package com.hospital.appointment.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per booking lock stripe. Bookings lock their doctor's and patient's rows until commit,
+ * which serializes conflicting bookings across replicas sharing the database.
+ */
+@Entity
+@Table(name = "booking_lock_stripes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingLockStripe {
+    @Id
+    private Integer stripe;
+}
@@ -0,0 +1,92 @@
+package com.hospital.appointment.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, nextAttemptAt"),
+    @Index(name = "idx_outbox_aggregate", columnList = "destination, aggregateId, status"),
+    @Index(name = "idx_outbox_claim_token", columnList = "claimToken")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    // One sequence call per event, no blocks: replicas drawing blocks of ids would let an event
+    // written later on one replica get a lower id than an earlier event of the same appointment
+    // written on another. With single draws, the next event of an appointment (written after the
+    // previous one committed) always gets a higher id.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 1)
+    private Long id;
+    
+    @Column(nullable = false, unique = true, length = 36)
+    private String eventId; // Sent with the payload; consumers skip ids they have already processed
+    
+    @Column(nullable = false)
+    private Long aggregateId; // appointmentId; events of one appointment are delivered in id order
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Destination destination;
+    
+    @Column(nullable = false)
+    private String eventType;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload; // JSON body sent as-is
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    @Column(nullable = false)
+    private Integer attempts = 0;
+    
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime sentAt;
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    @Column(length = 36)
+    private String claimToken; // Dispatch run that owns the event until claimedUntil
+    
+    private LocalDateTime claimedUntil;
+    
+    @Version
+    private Long version;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+        if (status == null) {
+            status = OutboxStatus.PENDING;
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+    }
+    
+    public enum Destination {
+        NOTIFICATION, BILLING
+    }
+    
+    public enum OutboxStatus {
+        PENDING, SENT, FAILED
+    }
+}
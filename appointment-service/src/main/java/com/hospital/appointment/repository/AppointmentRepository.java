@@ -39,6 +39,34 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         Pageable pageable
     );
     
+    // Keyset page: rows after (afterSlotStart, afterId) in (slotStart, appointmentId) order, no COUNT.
+    // The plain slotStart >= bound is what lets the index range scan start at the cursor.
+    @Query("SELECT a FROM Appointment a WHERE " +
+           "(:patientId IS NULL OR a.patientId = :patientId) AND " +
+           "(:doctorId IS NULL OR a.doctorId = :doctorId) AND " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "a.slotStart >= :afterSlotStart AND " +
+           "(a.slotStart > :afterSlotStart OR a.appointmentId > :afterId) " +
+           "ORDER BY a.slotStart, a.appointmentId")
+    List<Appointment> findPageByFiltersAfter(
+        @Param("patientId") Long patientId,
+        @Param("doctorId") Long doctorId,
+        @Param("status") AppointmentStatus status,
+        @Param("afterSlotStart") LocalDateTime afterSlotStart,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(a) FROM Appointment a WHERE " +
+           "(:patientId IS NULL OR a.patientId = :patientId) AND " +
+           "(:doctorId IS NULL OR a.doctorId = :doctorId) AND " +
+           "(:status IS NULL OR a.status = :status)")
+    long countByFilters(
+        @Param("patientId") Long patientId,
+        @Param("doctorId") Long doctorId,
+        @Param("status") AppointmentStatus status
+    );
+    
     @Query("SELECT a FROM Appointment a WHERE a.doctorId = :doctorId " +
            "AND a.status != 'CANCELLED' " +
            "AND a.slotStart < :slotEnd " +
@@ -59,6 +87,12 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         @Param("slotEnd") LocalDateTime slotEnd
     );
     
+    List<Appointment> findByStatusNot(AppointmentStatus status);
+    
+    // Includes cancellations, so the interval index can drop them
+    @Query("SELECT a FROM Appointment a WHERE a.updatedAt > :since")
+    List<Appointment> findUpdatedSince(@Param("since") LocalDateTime since);
+    
     List<Appointment> findByDoctorIdAndStatusNot(Long doctorId, AppointmentStatus status);
     
     @Query("SELECT COUNT(a) FROM Appointment a WHERE a.doctorId = :doctorId " +
@@ -69,6 +103,10 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         @Param("dateStart") LocalDateTime dateStart,
         @Param("dateEnd") LocalDateTime dateEnd
     );
+    
+    @Query("SELECT a.doctorId, a.slotStart FROM Appointment a WHERE a.slotStart >= :from " +
+           "AND a.status IN ('SCHEDULED', 'COMPLETED')")
+    List<Object[]> findCountedSlotsFrom(@Param("from") LocalDateTime from);
 }
 
 
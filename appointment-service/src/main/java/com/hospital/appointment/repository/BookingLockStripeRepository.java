@@ -0,0 +1,20 @@
+package com.hospital.appointment.repository;
+
+import com.hospital.appointment.model.BookingLockStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingLockStripeRepository extends JpaRepository<BookingLockStripe, Integer> {
+    // Row locks are taken in stripe order, like the in-process stripes, so bookings can't deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BookingLockStripe s WHERE s.stripe IN :stripes ORDER BY s.stripe")
+    List<BookingLockStripe> lockStripes(@Param("stripes") Collection<Integer> stripes);
+}
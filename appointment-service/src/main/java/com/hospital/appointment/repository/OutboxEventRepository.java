@@ -0,0 +1,54 @@
+package com.hospital.appointment.repository;
+
+import com.hospital.appointment.model.OutboxEvent;
+import com.hospital.appointment.model.OutboxEvent.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query("SELECT o.id FROM OutboxEvent o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now " +
+           "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) ORDER BY o.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * Claims events for one dispatch run. The conditions are re-checked row by row, so an event
+     * another replica claimed in the meantime is left alone and every event has one owner at a time.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent o SET o.claimToken = :token, o.claimedUntil = :until, o.version = o.version + 1 " +
+           "WHERE o.id IN :ids AND o.status = 'PENDING' AND (o.claimedUntil IS NULL OR o.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+    
+    List<OutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+    
+    /**
+     * Pending event ids per destination and appointment, in id order. Claimed events may only go
+     * out while they are a prefix of this list; anything else is held back by an earlier event
+     * that is backing off or owned by another replica.
+     */
+    @Query("SELECT o.destination, o.aggregateId, o.id FROM OutboxEvent o " +
+           "WHERE o.status = 'PENDING' AND o.aggregateId IN :aggregateIds ORDER BY o.id")
+    List<Object[]> findPendingIds(@Param("aggregateIds") Collection<Long> aggregateIds);
+    
+    long countByStatus(OutboxStatus status);
+    
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent o WHERE o.status = 'SENT' AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,374 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.model.Appointment;
+import com.hospital.appointment.model.Appointment.AppointmentStatus;
+import com.hospital.appointment.repository.AppointmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process index of active (non-cancelled) appointment intervals per doctor and per patient,
+ * plus a per-doctor, per-day occupancy bitmap of the clinic day for free-slot search.
+ * Loaded at startup, updated after each change committed on this instance, and refreshed
+ * every few seconds from rows changed in the database, which picks up the other replicas'
+ * changes. It can therefore lag the database by about one refresh interval, so it never decides
+ * a booking. On the booking path it is only a pre-filter: a conflict it finds (and the database
+ * confirms) is rejected before the remote checks and the booking lock, while a slot it
+ * considers free still goes through the database overlap queries under the lock. Its other use
+ * is the occupancy bitmaps behind free-slot search.
+ */
+@Component
+@Slf4j
+public class AppointmentIntervalIndex {
+    public static final LocalTime CLINIC_OPEN = LocalTime.of(9, 0);
+    public static final LocalTime CLINIC_CLOSE = LocalTime.of(18, 0);
+    public static final int CELL_MINUTES = 15;
+    public static final int CELLS_PER_DAY = 36; // 9:00-18:00 in 15-minute cells, one bit each
+    // Re-read changes this far behind the last refresh, for transactions that committed after
+    // stamping updatedAt and for clock differences between replicas
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final AppointmentRepository appointmentRepository;
+    private final Counter mismatchCounter;
+    private final Object loadLock = new Object();
+    private volatile State state = new State();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime refreshedUntil;
+    private List<Change> changesDuringRebuild; // guarded by this
+
+    public AppointmentIntervalIndex(AppointmentRepository appointmentRepository, MeterRegistry registry) {
+        this.appointmentRepository = appointmentRepository;
+        this.mismatchCounter = Counter.builder("appointment_interval_index_mismatches_total")
+                .description("Overlap answers from the interval index that the database contradicted")
+                .tag("service", "appointment-service")
+                .register(registry);
+        Gauge.builder("appointment_interval_index_size", this, index -> index.state.slotsById.size())
+                .description("Active appointments held in the interval index")
+                .tag("service", "appointment-service")
+                .register(registry);
+    }
+
+    /**
+     * Loads a complete new index from the database and swaps it in. Changes committed on this
+     * instance while it loads are replayed onto the new index before the swap, so none is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (loadLock) {
+            LocalDateTime started = LocalDateTime.now();
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            State rebuilt = new State();
+            int loaded;
+            try {
+                List<Appointment> active = appointmentRepository.findByStatusNot(AppointmentStatus.CANCELLED);
+                active.forEach(appointment -> rebuilt.apply(appointment.getAppointmentId(), toSlot(appointment)));
+                loaded = active.size();
+            } finally {
+                synchronized (this) {
+                    if (changesDuringRebuild != null) {
+                        changesDuringRebuild.forEach(change -> rebuilt.apply(change.appointmentId(), change.slot()));
+                        changesDuringRebuild = null;
+                    }
+                }
+            }
+            synchronized (this) {
+                state = rebuilt;
+            }
+            refreshedUntil = started;
+            ready = true;
+            log.info("Appointment interval index loaded - {} active appointments", loaded);
+        }
+    }
+
+    /**
+     * Applies appointments changed since the last refresh by any replica. A row read here can
+     * be overtaken by a newer commit on this instance; the next refresh reads it again.
+     */
+    @Scheduled(fixedDelayString = "${appointment.interval-index.refresh-interval-ms:5000}",
+               initialDelayString = "${appointment.interval-index.refresh-interval-ms:5000}")
+    public void refresh() {
+        synchronized (loadLock) {
+            if (!ready) {
+                return;
+            }
+            LocalDateTime started = LocalDateTime.now();
+            try {
+                List<Appointment> changed = appointmentRepository.findUpdatedSince(refreshedUntil.minus(REFRESH_OVERLAP));
+                changed.forEach(this::apply);
+                refreshedUntil = started;
+            } catch (Exception e) {
+                log.warn("Appointment interval index refresh failed, keeping current data: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Pre-filter for rejecting a conflicting booking before the remote calls and the booking
+     * lock. Only a hit costs a query: it is confirmed with the database before it is reported,
+     * because the entry may be an appointment another replica has since cancelled or moved. A
+     * miss (or an index that hasn't loaded yet) is not conclusive, since the conflicting booking
+     * may come from another replica; the caller's database check under the lock decides.
+     */
+    public boolean hasIndexedDoctorOverlap(Long doctorId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                           Long excludeAppointmentId) {
+        if (!ready || !state.overlaps(state.doctorTimelines, doctorId, slotStart, slotEnd, excludeAppointmentId)) {
+            return false;
+        }
+        return confirm("doctor", doctorId, excludeAppointmentId,
+                       appointmentRepository.findOverlappingAppointmentsForDoctor(doctorId, slotStart, slotEnd));
+    }
+
+    public boolean hasIndexedPatientOverlap(Long patientId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                            Long excludeAppointmentId) {
+        if (!ready || !state.overlaps(state.patientTimelines, patientId, slotStart, slotEnd, excludeAppointmentId)) {
+            return false;
+        }
+        return confirm("patient", patientId, excludeAppointmentId,
+                       appointmentRepository.findOverlappingAppointmentsForPatient(patientId, slotStart, slotEnd));
+    }
+
+    /**
+     * Occupancy of the doctor's clinic day: bit i is set when any active appointment overlaps
+     * the 15-minute cell starting at 9:00 + 15*i.
+     */
+    public long occupancy(Long doctorId, LocalDate day) {
+        return state.doctorDayOccupancy.getOrDefault(new DoctorDay(doctorId, day), 0L);
+    }
+
+    /**
+     * Brings the doctor's appointments overlapping [from, to) in line with the database, so a
+     * free-slot search doesn't offer a slot booked through another replica since the last
+     * refresh. Appointments the index holds there but the query no longer returns (cancelled or
+     * moved elsewhere) are re-read by id.
+     */
+    public void reloadDoctor(Long doctorId, LocalDateTime from, LocalDateTime to) {
+        List<Appointment> stored = appointmentRepository.findOverlappingAppointmentsForDoctor(doctorId, from, to);
+        Set<Long> storedIds = new HashSet<>();
+        for (Appointment appointment : stored) {
+            storedIds.add(appointment.getAppointmentId());
+            apply(appointment);
+        }
+        Timeline timeline = state.doctorTimelines.get(doctorId);
+        if (timeline == null) {
+            return;
+        }
+        List<Long> gone = timeline.idsOverlapping(from, to).stream().filter(id -> !storedIds.contains(id)).toList();
+        if (!gone.isEmpty()) {
+            Map<Long, Appointment> current = new HashMap<>();
+            appointmentRepository.findAllById(gone).forEach(appointment -> current.put(appointment.getAppointmentId(), appointment));
+            for (Long appointmentId : gone) {
+                Appointment appointment = current.get(appointmentId);
+                apply(appointmentId, appointment == null ? null : toSlot(appointment));
+            }
+        }
+    }
+
+    /**
+     * Applies the appointment's current state to the index once the surrounding transaction commits,
+     * so rolled-back writes never become visible. Outside a transaction it is applied immediately.
+     */
+    public void indexAfterCommit(Appointment appointment) {
+        Slot slot = toSlot(appointment);
+        Long appointmentId = appointment.getAppointmentId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(appointmentId, slot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(appointmentId, slot);
+            }
+        });
+    }
+
+    private void apply(Appointment appointment) {
+        apply(appointment.getAppointmentId(), toSlot(appointment));
+    }
+
+    private synchronized void apply(Long appointmentId, Slot slot) {
+        state.apply(appointmentId, slot);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(new Change(appointmentId, slot));
+        }
+    }
+
+    private Slot toSlot(Appointment appointment) {
+        if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
+            return null;
+        }
+        return new Slot(appointment.getDoctorId(), appointment.getPatientId(),
+                        appointment.getSlotStart(), appointment.getSlotEnd());
+    }
+
+    private boolean confirm(String owner, Long ownerId, Long excludeAppointmentId, List<Appointment> stored) {
+        boolean overlap = stored.stream().anyMatch(a -> !a.getAppointmentId().equals(excludeAppointmentId));
+        if (!overlap) {
+            // Usually an appointment cancelled or moved through another replica, which the next
+            // refresh would bring in
+            mismatchCounter.increment();
+            log.debug("Interval index hit for {} {} not confirmed by the database", owner, ownerId);
+        }
+        return overlap;
+    }
+
+    private static Timeline timeline(Map<Long, Timeline> timelines, Long ownerId) {
+        return timelines.computeIfAbsent(ownerId, id -> new Timeline());
+    }
+
+    private record Slot(Long doctorId, Long patientId, LocalDateTime slotStart, LocalDateTime slotEnd) {
+    }
+
+    private record DoctorDay(Long doctorId, LocalDate day) {
+    }
+
+    private record Change(Long appointmentId, Slot slot) {
+    }
+
+    /**
+     * One complete generation of the index. Writes are serialized by the enclosing index;
+     * reads go through the thread-safe maps and timelines.
+     */
+    private static final class State {
+        private final Map<Long, Timeline> doctorTimelines = new ConcurrentHashMap<>();
+        private final Map<Long, Timeline> patientTimelines = new ConcurrentHashMap<>();
+        private final Map<Long, Slot> slotsById = new ConcurrentHashMap<>();
+        private final Map<DoctorDay, Long> doctorDayOccupancy = new ConcurrentHashMap<>();
+
+        void apply(Long appointmentId, Slot slot) {
+            Slot previous = slot == null ? slotsById.remove(appointmentId) : slotsById.put(appointmentId, slot);
+            if (previous != null) {
+                timeline(doctorTimelines, previous.doctorId()).remove(appointmentId, previous);
+                timeline(patientTimelines, previous.patientId()).remove(appointmentId, previous);
+            }
+            if (slot != null) {
+                timeline(doctorTimelines, slot.doctorId()).add(appointmentId, slot);
+                timeline(patientTimelines, slot.patientId()).add(appointmentId, slot);
+            }
+            // Recompute rather than clear bits: a cell can be shared by two short appointments
+            if (previous != null) {
+                refreshOccupancy(previous);
+            }
+            if (slot != null) {
+                refreshOccupancy(slot);
+            }
+        }
+
+        boolean overlaps(Map<Long, Timeline> timelines, Long ownerId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                         Long excludeAppointmentId) {
+            Timeline timeline = timelines.get(ownerId);
+            return timeline != null && timeline.overlaps(slotStart, slotEnd, excludeAppointmentId);
+        }
+
+        private void refreshOccupancy(Slot slot) {
+            Timeline timeline = doctorTimelines.get(slot.doctorId());
+            for (LocalDate day = slot.slotStart().toLocalDate(); !day.isAfter(slot.slotEnd().toLocalDate()); day = day.plusDays(1)) {
+                DoctorDay key = new DoctorDay(slot.doctorId(), day);
+                long bits = timeline == null ? 0L : timeline.occupancy(day.atTime(CLINIC_OPEN));
+                if (bits == 0L) {
+                    doctorDayOccupancy.remove(key);
+                } else {
+                    doctorDayOccupancy.put(key, bits);
+                }
+            }
+        }
+    }
+
+    /**
+     * Intervals of one doctor or patient ordered by start time. Tracking the longest interval
+     * bounds the range scan to starts in (slotStart - longest, slotEnd), which for a real
+     * schedule holds only a handful of entries.
+     */
+    private static final class Timeline {
+        private final NavigableMap<LocalDateTime, Map<Long, LocalDateTime>> byStart = new TreeMap<>();
+        private Duration longest = Duration.ZERO;
+
+        synchronized void add(Long appointmentId, Slot slot) {
+            byStart.computeIfAbsent(slot.slotStart(), start -> new HashMap<>()).put(appointmentId, slot.slotEnd());
+            Duration length = Duration.between(slot.slotStart(), slot.slotEnd());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+
+        synchronized void remove(Long appointmentId, Slot slot) {
+            Map<Long, LocalDateTime> sameStart = byStart.get(slot.slotStart());
+            if (sameStart != null) {
+                sameStart.remove(appointmentId);
+                if (sameStart.isEmpty()) {
+                    byStart.remove(slot.slotStart());
+                }
+            }
+        }
+
+        synchronized boolean overlaps(LocalDateTime slotStart, LocalDateTime slotEnd, Long excludeAppointmentId) {
+            NavigableMap<LocalDateTime, Map<Long, LocalDateTime>> candidates =
+                byStart.subMap(slotStart.minus(longest), false, slotEnd, false);
+            for (Map<Long, LocalDateTime> sameStart : candidates.descendingMap().values()) {
+                for (Map.Entry<Long, LocalDateTime> entry : sameStart.entrySet()) {
+                    if (entry.getValue().isAfter(slotStart) && !entry.getKey().equals(excludeAppointmentId)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        synchronized List<Long> idsOverlapping(LocalDateTime slotStart, LocalDateTime slotEnd) {
+            List<Long> ids = new ArrayList<>();
+            for (Map<Long, LocalDateTime> sameStart : byStart.subMap(slotStart.minus(longest), false, slotEnd, false).values()) {
+                sameStart.forEach((appointmentId, end) -> {
+                    if (end.isAfter(slotStart)) {
+                        ids.add(appointmentId);
+                    }
+                });
+            }
+            return ids;
+        }
+
+        synchronized long occupancy(LocalDateTime dayOpen) {
+            LocalDateTime dayClose = dayOpen.plusMinutes((long) CELLS_PER_DAY * CELL_MINUTES);
+            long bits = 0L;
+            for (Map.Entry<LocalDateTime, Map<Long, LocalDateTime>> sameStart
+                    : byStart.subMap(dayOpen.minus(longest), false, dayClose, false).entrySet()) {
+                for (LocalDateTime end : sameStart.getValue().values()) {
+                    if (!end.isAfter(dayOpen)) {
+                        continue;
+                    }
+                    long fromMinute = Math.max(0, Duration.between(dayOpen, sameStart.getKey()).toMinutes());
+                    long toMinute = Math.min((long) CELLS_PER_DAY * CELL_MINUTES, Duration.between(dayOpen, end).toMinutes());
+                    int firstCell = (int) (fromMinute / CELL_MINUTES);
+                    int lastCell = (int) ((toMinute + CELL_MINUTES - 1) / CELL_MINUTES); // exclusive
+                    for (int cell = firstCell; cell < lastCell; cell++) {
+                        bits |= 1L << cell;
+                    }
+                }
+            }
+            return bits;
+        }
+    }
+}
@@ -1,37 +1,67 @@
 package com.hospital.appointment.service;
 
+import com.hospital.appointment.config.DownstreamClients;
 import com.hospital.appointment.dto.AppointmentDTO;
+import com.hospital.appointment.dto.BatchBookingRequest;
+import com.hospital.appointment.dto.BatchBookingResponse;
+import com.hospital.appointment.dto.BatchSlot;
+import com.hospital.appointment.dto.BatchSlotResult;
+import com.hospital.appointment.dto.CursorPageDTO;
+import com.hospital.appointment.dto.DoctorChangeDTO;
+import com.hospital.appointment.dto.FreeSlotDTO;
+import com.hospital.appointment.dto.RecurrenceSpec;
 import com.hospital.appointment.dto.RescheduleRequest;
 import com.hospital.appointment.model.Appointment;
 import com.hospital.appointment.model.Appointment.AppointmentStatus;
+import com.hospital.appointment.model.OutboxEvent.Destination;
 import com.hospital.appointment.repository.AppointmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AppointmentService {
+    private static final Duration DOCTOR_LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+    private static final int BILLING_EVENT_SCHEMA_VERSION = 2;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final AppointmentRepository appointmentRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final BookingValidationPipeline bookingValidationPipeline;
+    private final AppointmentIntervalIndex appointmentIntervalIndex;
+    private final DailyBookingCounter dailyBookingCounter;
+    private final BookingLockManager bookingLockManager;
+    private final FreeSlotFinder freeSlotFinder;
+    private final DoctorReplica doctorReplica;
+    private final OutboxPublisher outboxPublisher;
+    private final ApproximateTotals approximateTotals;
     private final Counter appointmentsCreatedCounter;
     private final Counter appointmentsCancelledCounter;
     private final Counter appointmentsRescheduledCounter;
     private final Timer appointmentBookingLatency;
     
+    @Value("${appointment.batch.max-slots:100}")
+    private int maxBatchSlots;
+    
     @Transactional
     public AppointmentDTO bookAppointment(AppointmentDTO appointmentDTO, String correlationId) {
         log.info("Booking appointment for patient {} with doctor {}", 
@@ -50,77 +80,39 @@ public class AppointmentService {
             throw new RuntimeException("Slot end time must be after slot start time");
         }
         
-        // Check patient exists and is active
-        Boolean patientActive = webClientBuilder.build()
-            .get()
-            .uri("http://patient-service:8001/v1/patients/{patientId}", appointmentDTO.getPatientId())
-            .retrieve()
-            .bodyToMono(Map.class)
-            .map(response -> true)
-            .onErrorReturn(false)
-            .block();
-        
-        if (!patientActive) {
-            throw new RuntimeException("Patient not found or inactive");
-        }
-        
-        // Check doctor exists and department match
-        Map<String, Object> doctor = webClientBuilder.build()
-            .get()
-            .uri("http://doctor-service:8002/v1/doctors/{doctorId}", appointmentDTO.getDoctorId())
-            .retrieve()
-            .bodyToMono(Map.class)
-            .block();
-        
-        if (doctor == null) {
-            throw new RuntimeException("Doctor not found");
-        }
-        
-        if (!appointmentDTO.getDepartment().equals(doctor.get("department"))) {
-            throw new RuntimeException("Department mismatch: Doctor belongs to " + doctor.get("department"));
-        }
-        
-        // Check slot availability
-        Map<String, Object> availabilityCheck = Map.of(
-            "department", appointmentDTO.getDepartment(),
-            "slotStart", appointmentDTO.getSlotStart().toString(),
-            "slotEnd", appointmentDTO.getSlotEnd().toString()
-        );
-        
-        Map<String, Object> availability = webClientBuilder.build()
-            .post()
-            .uri("http://doctor-service:8002/v1/doctors/{doctorId}/check-availability", 
-                 appointmentDTO.getDoctorId())
-            .bodyValue(availabilityCheck)
-            .retrieve()
-            .bodyToMono(Map.class)
-            .block();
-        
-        if (availability == null || !Boolean.TRUE.equals(availability.get("available"))) {
-            String message = (String) availability.getOrDefault("message", availability.getOrDefault("reason", "Slot not available"));
-            throw new RuntimeException("Slot not available: " + message);
-        }
-        
-        // Check no overlap for same doctor
-        List<Appointment> overlappingDoctor = appointmentRepository.findOverlappingAppointmentsForDoctor(
+        // Start the remote checks (patient, doctor, slot availability) concurrently;
+        // the local overlap checks run while they are in flight
+        CompletableFuture<Void> remoteChecks = bookingValidationPipeline.startBookingChecks(
+            appointmentDTO.getPatientId(),
             appointmentDTO.getDoctorId(),
+            appointmentDTO.getDepartment(),
             appointmentDTO.getSlotStart(),
             appointmentDTO.getSlotEnd()
         );
-        if (!overlappingDoctor.isEmpty()) {
-            throw new RuntimeException("Slot overlaps with existing appointment for doctor");
-        }
         
-        // Check max 1 active appointment per patient per overlapping time slot
-        List<Appointment> overlappingPatient = appointmentRepository.findOverlappingAppointmentsForPatient(
-            appointmentDTO.getPatientId(),
-            appointmentDTO.getSlotStart(),
-            appointmentDTO.getSlotEnd()
-        );
-        if (!overlappingPatient.isEmpty()) {
-            throw new RuntimeException("Patient already has an appointment in this time slot");
+        try {
+            bookingValidationPipeline.timeStage("overlap", () -> checkNoIndexedOverlap(
+                appointmentDTO.getDoctorId(), appointmentDTO.getPatientId(),
+                appointmentDTO.getSlotStart(), appointmentDTO.getSlotEnd(), null,
+                "Slot overlaps with existing appointment for doctor"));
+        } catch (RuntimeException e) {
+            remoteChecks.cancel(true);
+            throw e;
         }
         
+        bookingValidationPipeline.await(remoteChecks);
+        
+        // Serialize with other bookings for this doctor or patient until commit, then re-check
+        // against the database: a conflicting booking may have committed while the remote checks
+        // were in flight, or through another replica that the index hasn't caught up with
+        bookingLockManager.lockUntilCompletion(appointmentDTO.getDoctorId(), appointmentDTO.getPatientId());
+        checkNoOverlap(appointmentDTO.getDoctorId(), appointmentDTO.getPatientId(),
+                       appointmentDTO.getSlotStart(), appointmentDTO.getSlotEnd(), null,
+                       "Slot overlaps with existing appointment for doctor");
+        
+        // Check daily cap: max N appointments/day/doctor
+        dailyBookingCounter.reserve(appointmentDTO.getDoctorId(), appointmentDTO.getSlotStart());
+        
         // Create appointment
         Appointment appointment = new Appointment();
         appointment.setPatientId(appointmentDTO.getPatientId());
@@ -132,6 +124,7 @@ public class AppointmentService {
         appointment.setRescheduleCount(0);
         
         appointment = appointmentRepository.save(appointment);
+        appointmentIntervalIndex.indexAfterCommit(appointment);
         log.info("Appointment booked - ID: {}", appointment.getAppointmentId());
         
         // Record metrics
@@ -143,6 +136,134 @@ public class AppointmentService {
         return toDTO(appointment);
     }
     
+    /**
+     * Books a series of slots for one patient and doctor. Patient, doctor and slot availability
+     * are checked once for the whole series, overlaps are checked locally in one pass, and the
+     * accepted slots are inserted as one JDBC batch. Rejected slots do not fail the batch.
+     */
+    @Transactional
+    public BatchBookingResponse bookBatch(BatchBookingRequest request, String correlationId) {
+        List<BatchSlot> slots = expandSlots(request);
+        if (slots.isEmpty()) {
+            throw new RuntimeException("At least one slot or a recurrence is required");
+        }
+        if (slots.size() > maxBatchSlots) {
+            throw new RuntimeException(String.format("Batch exceeds maximum of %d slots", maxBatchSlots));
+        }
+        log.info("Booking batch of {} slots for patient {} with doctor {}", 
+                 slots.size(), request.getPatientId(), request.getDoctorId());
+        
+        String[] reasons = new String[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            BatchSlot slot = slots.get(i);
+            if (!slot.getSlotEnd().isAfter(slot.getSlotStart())) {
+                reasons[i] = "Slot end time must be after slot start time";
+            }
+        }
+        
+        // Slots in start order, so overlaps within the batch are found in the same pass
+        List<Integer> byStart = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            byStart.add(i);
+        }
+        byStart.sort(Comparator.comparing(i -> slots.get(i).getSlotStart()));
+        
+        CompletableFuture<List<String>> remoteChecks = bookingValidationPipeline.startBatchChecks(
+            request.getPatientId(),
+            request.getDoctorId(),
+            request.getDepartment(),
+            slots
+        );
+        
+        try {
+            bookingValidationPipeline.timeStage("overlap", () -> {
+                for (int i : byStart) {
+                    BatchSlot slot = slots.get(i);
+                    if (reasons[i] != null) {
+                        continue;
+                    }
+                    if (appointmentIntervalIndex.hasIndexedDoctorOverlap(request.getDoctorId(),
+                            slot.getSlotStart(), slot.getSlotEnd(), null)) {
+                        reasons[i] = "Slot overlaps with existing appointment for doctor";
+                    } else if (appointmentIntervalIndex.hasIndexedPatientOverlap(request.getPatientId(),
+                            slot.getSlotStart(), slot.getSlotEnd(), null)) {
+                        reasons[i] = "Patient already has an appointment in this time slot";
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            remoteChecks.cancel(true);
+            throw e;
+        }
+        
+        List<String> availability = bookingValidationPipeline.await(remoteChecks);
+        
+        bookingLockManager.lockUntilCompletion(request.getDoctorId(), request.getPatientId());
+        
+        List<Appointment> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        LocalDateTime acceptedUntil = null;
+        for (int i : byStart) {
+            BatchSlot slot = slots.get(i);
+            if (reasons[i] == null) {
+                reasons[i] = availability.get(i);
+            }
+            if (reasons[i] == null && (hasStoredDoctorOverlap(request.getDoctorId(),
+                    slot.getSlotStart(), slot.getSlotEnd(), null)
+                    || hasStoredPatientOverlap(request.getPatientId(),
+                    slot.getSlotStart(), slot.getSlotEnd(), null))) {
+                // Booked through another request or replica while the remote checks were in flight
+                reasons[i] = "Slot overlaps with existing appointment";
+            }
+            if (reasons[i] == null && acceptedUntil != null && slot.getSlotStart().isBefore(acceptedUntil)) {
+                reasons[i] = "Slot overlaps with another slot in this batch";
+            }
+            if (reasons[i] != null) {
+                continue;
+            }
+            try {
+                dailyBookingCounter.reserve(request.getDoctorId(), slot.getSlotStart());
+            } catch (RuntimeException e) {
+                reasons[i] = e.getMessage();
+                continue;
+            }
+            if (acceptedUntil == null || slot.getSlotEnd().isAfter(acceptedUntil)) {
+                acceptedUntil = slot.getSlotEnd();
+            }
+            
+            Appointment appointment = new Appointment();
+            appointment.setPatientId(request.getPatientId());
+            appointment.setDoctorId(request.getDoctorId());
+            appointment.setDepartment(request.getDepartment());
+            appointment.setSlotStart(slot.getSlotStart());
+            appointment.setSlotEnd(slot.getSlotEnd());
+            appointment.setStatus(AppointmentStatus.SCHEDULED);
+            appointment.setRescheduleCount(0);
+            accepted.add(appointment);
+            acceptedIndexes.add(i);
+        }
+        
+        List<Appointment> saved = appointmentRepository.saveAll(accepted);
+        Long[] appointmentIds = new Long[slots.size()];
+        for (int j = 0; j < saved.size(); j++) {
+            Appointment appointment = saved.get(j);
+            appointmentIds[acceptedIndexes.get(j)] = appointment.getAppointmentId();
+            appointmentIntervalIndex.indexAfterCommit(appointment);
+            sendNotification(appointment, "BOOKED", correlationId);
+        }
+        appointmentsCreatedCounter.increment(saved.size());
+        log.info("Batch booked - {} of {} slots", saved.size(), slots.size());
+        
+        List<BatchSlotResult> results = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            BatchSlot slot = slots.get(i);
+            results.add(reasons[i] == null
+                ? new BatchSlotResult(slot.getSlotStart(), slot.getSlotEnd(), "BOOKED", appointmentIds[i], null)
+                : new BatchSlotResult(slot.getSlotStart(), slot.getSlotEnd(), "REJECTED", null, reasons[i]));
+        }
+        return new BatchBookingResponse(slots.size(), saved.size(), slots.size() - saved.size(), results);
+    }
+    
     @Transactional
     public AppointmentDTO rescheduleAppointment(Long appointmentId, RescheduleRequest request, String correlationId) {
         Appointment appointment = appointmentRepository.findById(appointmentId)
@@ -166,54 +287,43 @@ public class AppointmentService {
             throw new RuntimeException("New appointment slot must be at least 2 hours from now");
         }
         
-        // Check doctor availability
-        Map<String, Object> availabilityCheck = Map.of(
-            "slotStart", request.getNewSlotStart().toString(),
-            "slotEnd", request.getNewSlotEnd().toString()
-        );
-        
-        Map<String, Object> availability = webClientBuilder.build()
-            .post()
-            .uri("http://doctor-service:8002/v1/doctors/{doctorId}/check-availability", 
-                 appointment.getDoctorId())
-            .bodyValue(availabilityCheck)
-            .retrieve()
-            .bodyToMono(Map.class)
-            .block();
-        
-        if (availability == null || !Boolean.TRUE.equals(availability.get("available"))) {
-            String message = (String) availability.getOrDefault("message", availability.getOrDefault("reason", "New slot not available"));
-            throw new RuntimeException("New slot not available: " + message);
-        }
-        
         // Validate new slot times: slotEnd must be after slotStart
         if (request.getNewSlotEnd().isBefore(request.getNewSlotStart()) || 
             request.getNewSlotEnd().isEqual(request.getNewSlotStart())) {
             throw new RuntimeException("Slot end time must be after slot start time");
         }
         
-        // Check no overlap for same doctor with new slot
-        List<Appointment> overlappingDoctor = appointmentRepository.findOverlappingAppointmentsForDoctor(
+        // Check doctor availability remotely while the overlap checks run locally
+        CompletableFuture<Void> remoteChecks = bookingValidationPipeline.startRescheduleChecks(
             appointment.getDoctorId(),
             request.getNewSlotStart(),
             request.getNewSlotEnd()
         );
-        // Exclude the current appointment from overlap check
-        overlappingDoctor.removeIf(a -> a.getAppointmentId().equals(appointmentId));
-        if (!overlappingDoctor.isEmpty()) {
-            throw new RuntimeException("New slot overlaps with existing appointment for doctor");
+        
+        // Overlap checks exclude the appointment being moved
+        Long doctorId = appointment.getDoctorId();
+        Long patientId = appointment.getPatientId();
+        try {
+            bookingValidationPipeline.timeStage("overlap", () -> checkNoIndexedOverlap(
+                doctorId, patientId, request.getNewSlotStart(), request.getNewSlotEnd(), appointmentId,
+                "New slot overlaps with existing appointment for doctor"));
+        } catch (RuntimeException e) {
+            remoteChecks.cancel(true);
+            throw e;
         }
         
-        // Check no overlap for same patient with new slot
-        List<Appointment> overlappingPatient = appointmentRepository.findOverlappingAppointmentsForPatient(
-            appointment.getPatientId(),
-            request.getNewSlotStart(),
-            request.getNewSlotEnd()
-        );
-        // Exclude the current appointment from overlap check
-        overlappingPatient.removeIf(a -> a.getAppointmentId().equals(appointmentId));
-        if (!overlappingPatient.isEmpty()) {
-            throw new RuntimeException("Patient already has an appointment in this time slot");
+        bookingValidationPipeline.await(remoteChecks);
+        
+        bookingLockManager.lockUntilCompletion(doctorId, patientId);
+        checkNoOverlap(doctorId, patientId, request.getNewSlotStart(), request.getNewSlotEnd(), appointmentId,
+                       "New slot overlaps with existing appointment for doctor");
+        
+        // Moving to another day takes a booking on the new day and gives back the old one
+        LocalDateTime previousSlotStart = appointment.getSlotStart();
+        if (DailyBookingCounter.isCounted(appointment.getStatus())
+                && !previousSlotStart.toLocalDate().equals(request.getNewSlotStart().toLocalDate())) {
+            dailyBookingCounter.reserve(appointment.getDoctorId(), request.getNewSlotStart());
+            dailyBookingCounter.releaseAfterCommit(appointment.getDoctorId(), previousSlotStart);
         }
         
         // Update appointment
@@ -221,6 +331,7 @@ public class AppointmentService {
         appointment.setSlotEnd(request.getNewSlotEnd());
         appointment.setRescheduleCount(appointment.getRescheduleCount() + 1);
         appointment = appointmentRepository.save(appointment);
+        appointmentIntervalIndex.indexAfterCommit(appointment);
         
         log.info("Appointment rescheduled - ID: {}", appointmentId);
         
@@ -238,8 +349,13 @@ public class AppointmentService {
         Appointment appointment = appointmentRepository.findById(appointmentId)
             .orElseThrow(() -> new RuntimeException("Appointment not found"));
         
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(AppointmentStatus.CANCELLED);
-        appointment = appointmentRepository.save(appointment);
+        // Flush so the version carried by the billing event is the one this change commits
+        appointment = appointmentRepository.saveAndFlush(appointment);
+        appointmentIntervalIndex.indexAfterCommit(appointment);
+        dailyBookingCounter.statusChangedAfterCommit(appointment.getDoctorId(), appointment.getSlotStart(),
+                                                     previousStatus, appointment.getStatus());
         
         log.info("Appointment cancelled - ID: {}", appointmentId);
         
@@ -260,8 +376,13 @@ public class AppointmentService {
         Appointment appointment = appointmentRepository.findById(appointmentId)
             .orElseThrow(() -> new RuntimeException("Appointment not found"));
         
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(AppointmentStatus.NO_SHOW);
-        appointment = appointmentRepository.save(appointment);
+        // Flush so the version carried by the billing event is the one this change commits
+        appointment = appointmentRepository.saveAndFlush(appointment);
+        appointmentIntervalIndex.indexAfterCommit(appointment);
+        dailyBookingCounter.statusChangedAfterCommit(appointment.getDoctorId(), appointment.getSlotStart(),
+                                                     previousStatus, appointment.getStatus());
         
         log.info("Appointment marked as NO_SHOW - ID: {}", appointmentId);
         
@@ -279,8 +400,13 @@ public class AppointmentService {
         Appointment appointment = appointmentRepository.findById(appointmentId)
             .orElseThrow(() -> new RuntimeException("Appointment not found"));
         
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(AppointmentStatus.COMPLETED);
-        appointment = appointmentRepository.save(appointment);
+        // Flush so the version carried by the billing event is the one this change commits
+        appointment = appointmentRepository.saveAndFlush(appointment);
+        appointmentIntervalIndex.indexAfterCommit(appointment);
+        dailyBookingCounter.statusChangedAfterCommit(appointment.getDoctorId(), appointment.getSlotStart(),
+                                                     previousStatus, appointment.getStatus());
         
         log.info("Appointment completed - ID: {}", appointmentId);
         
@@ -299,19 +425,54 @@ public class AppointmentService {
         Page<Appointment> appointmentPage;
         
         // Convert status string to enum
-        AppointmentStatus statusEnum = null;
+        AppointmentStatus statusEnum = parseStatusFilter(status);
+        
+        // Use repository query with filters
+        appointmentPage = appointmentRepository.findByFilters(patientId, doctorId, statusEnum, pageable);
+        
+        return appointmentPage.map(this::toDTO);
+    }
+    
+    /**
+     * Keyset-paged listing in (slotStart, appointmentId) order. An empty cursor starts at the
+     * first page; each page returns the cursor for the next. Unlike page/limit, deep pages cost
+     * the same as the first and there is no COUNT per page: the total is a cached approximation,
+     * left out entirely with skipTotal.
+     */
+    public CursorPageDTO<AppointmentDTO> listAppointmentsAfter(Long patientId, Long doctorId, String status,
+                                                               String cursor, int limit, boolean skipTotal,
+                                                               String correlationId) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new RuntimeException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        AppointmentStatus statusEnum = parseStatusFilter(status);
+        PageCursor after = cursor.isEmpty() ? PageCursor.FIRST : PageCursor.decode(cursor);
+        
+        // One extra row tells whether there is a next page
+        List<Appointment> rows = appointmentRepository.findPageByFiltersAfter(patientId, doctorId, statusEnum,
+            after.at(), after.id(), PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<Appointment> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Appointment last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getSlotStart(), last.getAppointmentId()).encode();
+        }
+        
+        Long total = skipTotal ? null : approximateTotals.get(Arrays.asList(patientId, doctorId, statusEnum),
+            () -> appointmentRepository.countByFilters(patientId, doctorId, statusEnum));
+        return new CursorPageDTO<>(page.stream().map(this::toDTO).toList(), nextCursor, hasMore, total);
+    }
+    
+    private static AppointmentStatus parseStatusFilter(String status) {
         if (status != null && !status.isEmpty()) {
             try {
-                statusEnum = AppointmentStatus.valueOf(status.toUpperCase());
+                return AppointmentStatus.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 // Invalid status, will be ignored
             }
         }
-        
-        // Use repository query with filters
-        appointmentPage = appointmentRepository.findByFilters(patientId, doctorId, statusEnum, pageable);
-        
-        return appointmentPage.map(this::toDTO);
+        return null;
     }
     
     public AppointmentDTO getAppointment(Long appointmentId, String correlationId) {
@@ -321,55 +482,127 @@ public class AppointmentService {
     }
     
     public Long countAppointmentsByDoctorIdAndDate(Long doctorId, LocalDateTime date, String correlationId) {
-        // Calculate start and end of the day for the given date
-        LocalDateTime dateStart = date.toLocalDate().atStartOfDay();
-        LocalDateTime dateEnd = dateStart.plusDays(1);
-        return appointmentRepository.countAppointmentsByDoctorIdAndDate(doctorId, dateStart, dateEnd);
+        // Served from the daily booking counters kept for the cap check
+        return dailyBookingCounter.count(doctorId, date.toLocalDate());
     }
     
-    private void sendNotification(Appointment appointment, String eventType, String correlationId) {
-        try {
-            Map<String, Object> notification = Map.of(
-                "appointmentId", appointment.getAppointmentId(),
-                "patientId", appointment.getPatientId(),
-                "doctorId", appointment.getDoctorId(),
-                "eventType", eventType,
-                "slotStart", appointment.getSlotStart().toString(),
-                "slotEnd", appointment.getSlotEnd().toString(),
-                "correlationId", correlationId
-            );
-            
-            webClientBuilder.build()
-                .post()
-                .uri("http://notification-service:8007/v1/notifications")
-                .bodyValue(notification)
-                .retrieve()
-                .bodyToMono(Void.class)
-                .subscribe();
-        } catch (Exception e) {
-            log.error("Failed to send notification", e);
+    public List<FreeSlotDTO> findFreeSlots(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                           int durationMinutes, int limit, String correlationId) {
+        freeSlotFinder.validateRange(from, to, durationMinutes);
+        DoctorChangeDTO doctor = doctorReplica.findDoctor(doctorId)
+            .onErrorMap(e -> DownstreamClients.describeFailure(DownstreamClients.DOCTOR_SERVICE, e))
+            .block(DOCTOR_LOOKUP_TIMEOUT);
+        if (doctor == null || Boolean.FALSE.equals(doctor.getActive())) {
+            return List.of();
         }
+        return freeSlotFinder.findFreeSlots(doctorId, from, to, durationMinutes, limit);
+    }
+    
+    public List<FreeSlotDTO> findEarliestInDepartment(String department, LocalDateTime from, LocalDateTime to,
+                                                      int durationMinutes, int limit, String correlationId) {
+        List<Long> doctorIds = doctorReplica.activeDoctorIds(department);
+        log.info("Searching earliest {} slots across {} {} doctors", limit, doctorIds.size(), department);
+        return freeSlotFinder.findEarliest(doctorIds, from, to, durationMinutes, limit);
+    }
+    
+    private void sendNotification(Appointment appointment, String eventType, String correlationId) {
+        Map<String, Object> notification = Map.of(
+            "appointmentId", appointment.getAppointmentId(),
+            "patientId", appointment.getPatientId(),
+            "doctorId", appointment.getDoctorId(),
+            "eventType", eventType,
+            "slotStart", appointment.getSlotStart().toString(),
+            "slotEnd", appointment.getSlotEnd().toString(),
+            "correlationId", correlationId
+        );
+        
+        // Delivered by the outbox dispatcher once this transaction commits
+        outboxPublisher.publish(appointment.getAppointmentId(), Destination.NOTIFICATION, eventType, notification);
     }
     
     private void notifyBillingService(Appointment appointment, String eventType, String correlationId) {
-        try {
-            Map<String, Object> billingEvent = Map.of(
-                "appointmentId", appointment.getAppointmentId(),
-                "patientId", appointment.getPatientId(),
-                "eventType", eventType,
-                "correlationId", correlationId
-            );
-            
-            webClientBuilder.build()
-                .post()
-                .uri("http://billing-service:8004/v1/billing-events")
-                .bodyValue(billingEvent)
-                .retrieve()
-                .bodyToMono(Void.class)
-                .subscribe();
-        } catch (Exception e) {
-            log.error("Failed to notify billing service", e);
+        // Schema v2 carries an appointment snapshot, so billing doesn't have to call back for it
+        Map<String, Object> billingEvent = new LinkedHashMap<>(Map.of(
+            "schemaVersion", BILLING_EVENT_SCHEMA_VERSION,
+            "appointmentId", appointment.getAppointmentId(),
+            "patientId", appointment.getPatientId(),
+            "doctorId", appointment.getDoctorId(),
+            "department", appointment.getDepartment(),
+            "slotStart", appointment.getSlotStart().toString(),
+            "slotEnd", appointment.getSlotEnd().toString(),
+            "statusVersion", appointment.getVersion(),
+            "eventType", eventType,
+            "correlationId", correlationId
+        ));
+        if ("CANCELLED".equals(eventType)) {
+            // Set by the flush above; the fee window is measured from here, not from when billing gets the event
+            billingEvent.put("cancelledAt", appointment.getUpdatedAt().toString());
+        }
+        
+        outboxPublisher.publish(appointment.getAppointmentId(), Destination.BILLING, eventType, billingEvent);
+    }
+    
+    /**
+     * Early rejection from the interval index while the remote checks are in flight, before the
+     * booking lock. Passing it doesn't clear the slot; {@link #checkNoOverlap} does that.
+     */
+    private void checkNoIndexedOverlap(Long doctorId, Long patientId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                       Long excludeAppointmentId, String doctorOverlapMessage) {
+        if (appointmentIntervalIndex.hasIndexedDoctorOverlap(doctorId, slotStart, slotEnd, excludeAppointmentId)) {
+            throw new RuntimeException(doctorOverlapMessage);
+        }
+        if (appointmentIntervalIndex.hasIndexedPatientOverlap(patientId, slotStart, slotEnd, excludeAppointmentId)) {
+            throw new RuntimeException("Patient already has an appointment in this time slot");
+        }
+    }
+    
+    /**
+     * The overlap check that decides a booking, against the database. Run it under the booking
+     * lock, so no conflicting booking can commit between the check and the caller's commit.
+     */
+    private void checkNoOverlap(Long doctorId, Long patientId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                Long excludeAppointmentId, String doctorOverlapMessage) {
+        // Check no overlap for same doctor
+        if (hasStoredDoctorOverlap(doctorId, slotStart, slotEnd, excludeAppointmentId)) {
+            throw new RuntimeException(doctorOverlapMessage);
+        }
+        
+        // Check max 1 active appointment per patient per overlapping time slot
+        if (hasStoredPatientOverlap(patientId, slotStart, slotEnd, excludeAppointmentId)) {
+            throw new RuntimeException("Patient already has an appointment in this time slot");
+        }
+    }
+    
+    private boolean hasStoredDoctorOverlap(Long doctorId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                           Long excludeAppointmentId) {
+        return appointmentRepository.findOverlappingAppointmentsForDoctor(doctorId, slotStart, slotEnd).stream()
+            .anyMatch(a -> !a.getAppointmentId().equals(excludeAppointmentId));
+    }
+    
+    private boolean hasStoredPatientOverlap(Long patientId, LocalDateTime slotStart, LocalDateTime slotEnd,
+                                            Long excludeAppointmentId) {
+        return appointmentRepository.findOverlappingAppointmentsForPatient(patientId, slotStart, slotEnd).stream()
+            .anyMatch(a -> !a.getAppointmentId().equals(excludeAppointmentId));
+    }
+    
+    private List<BatchSlot> expandSlots(BatchBookingRequest request) {
+        List<BatchSlot> slots = new ArrayList<>();
+        if (request.getSlots() != null) {
+            slots.addAll(request.getSlots());
+        }
+        RecurrenceSpec recurrence = request.getRecurrence();
+        if (recurrence != null) {
+            int interval = recurrence.getInterval() == null ? 1 : recurrence.getInterval();
+            Duration duration = Duration.ofMinutes(recurrence.getDurationMinutes());
+            for (int i = 0; i < recurrence.getOccurrences(); i++) {
+                long step = (long) i * interval;
+                LocalDateTime slotStart = recurrence.getFrequency() == RecurrenceSpec.Frequency.WEEKLY
+                    ? recurrence.getFirstSlotStart().plusWeeks(step)
+                    : recurrence.getFirstSlotStart().plusDays(step);
+                slots.add(new BatchSlot(slotStart, slotStart.plus(duration)));
+            }
         }
+        return slots;
     }
     
     private AppointmentDTO toDTO(Appointment appointment) {
@@ -0,0 +1,42 @@
+package com.hospital.appointment.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Row counts for cursor-paged listings, cached per filter for a short TTL so that paging
+ * through a large result runs one COUNT rather than one per page. Totals can lag by up to
+ * the TTL. Concurrent misses for the same filter may both count; that's harmless.
+ */
+@Component
+public class ApproximateTotals {
+    private final Map<Object, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Value("${appointment.listing.approximate-total-ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${appointment.listing.approximate-total-max-entries:10000}")
+    private int maxEntries;
+
+    public long get(Object filterKey, LongSupplier count) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(filterKey);
+        if (cached != null && now - cached.countedAt() < ttlMs) {
+            return cached.count();
+        }
+        long value = count.getAsLong();
+        if (counts.size() >= maxEntries) {
+            // Per-patient filters make the key space open-ended; start over rather than track recency
+            counts.clear();
+        }
+        counts.put(filterKey, new CachedCount(value, now));
+        return value;
+    }
+
+    private record CachedCount(long count, long countedAt) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.model.BookingLockStripe;
+import com.hospital.appointment.repository.BookingLockStripeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks that serialize bookings touching the same doctor or patient while letting
+ * unrelated bookings run in parallel. Stripes are always taken in ascending index order, so
+ * two bookings that share stripes cannot deadlock. Locks are held until the surrounding
+ * transaction completes, which is after the interval index has seen the committed change.
+ * Each in-process stripe is backed by a row in booking_lock_stripes, locked with SELECT ... FOR
+ * UPDATE in the booking's transaction, so replicas sharing the database are serialized too. The
+ * in-process lock is taken first, so bookings on one instance queue locally rather than in the
+ * database. Every replica must use the same stripe count.
+ */
+@Component
+@Slf4j
+public class BookingLockManager {
+    private static final long DOCTOR_SALT = 0x5DEECE66DL;
+    private static final long PATIENT_SALT = 0x2545F4914F6CDD1DL;
+
+    private final ReentrantLock[] stripes;
+    private final BookingLockStripeRepository stripeRepository;
+    private final TransactionTemplate stripeInit;
+    private final Timer lockWait;
+    private final Timer rowLockWait;
+    private final Counter lockTimeouts;
+
+    @Value("${appointment.booking.lock-timeout-ms:2000}")
+    private long lockTimeoutMs;
+
+    public BookingLockManager(BookingLockStripeRepository stripeRepository, PlatformTransactionManager transactionManager,
+                              MeterRegistry registry, @Value("${appointment.booking.lock-stripes:1024}") int stripeCount) {
+        this.stripeRepository = stripeRepository;
+        this.stripeInit = new TransactionTemplate(transactionManager);
+        this.stripeInit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int size = Integer.highestOneBit(Math.max(16, stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockWait = Timer.builder("appointment_booking_lock_wait_ms")
+                .description("Time spent waiting for doctor/patient booking locks")
+                .tag("service", "appointment-service")
+                .register(registry);
+        this.rowLockWait = Timer.builder("appointment_booking_row_lock_wait_ms")
+                .description("Time spent waiting for the database rows backing doctor/patient booking locks")
+                .tag("service", "appointment-service")
+                .register(registry);
+        this.lockTimeouts = Counter.builder("appointment_booking_lock_timeouts_total")
+                .description("Bookings that gave up waiting for a doctor/patient booking lock")
+                .tag("service", "appointment-service")
+                .register(registry);
+    }
+
+    /**
+     * Locks the doctor's and patient's stripes, in process and in the database, and releases them
+     * when the current transaction completes (commit or rollback).
+     */
+    public void lockUntilCompletion(Long doctorId, Long patientId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking locks require an active transaction");
+        }
+        int[] acquired = lock(stripe(doctorId, DOCTOR_SALT), stripe(patientId, PATIENT_SALT));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(acquired);
+            }
+        });
+        lockRows(acquired);
+    }
+
+    private void lockRows(int[] indexes) {
+        List<Integer> ids = Arrays.stream(indexes).boxed().toList();
+        long startNanos = System.nanoTime();
+        try {
+            if (stripeRepository.lockStripes(ids).size() < ids.size()) {
+                // First use of a stripe: create its row in its own transaction, then lock it
+                for (Integer id : ids) {
+                    try {
+                        stripeInit.executeWithoutResult(tx -> {
+                            if (!stripeRepository.existsById(id)) {
+                                stripeRepository.saveAndFlush(new BookingLockStripe(id));
+                            }
+                        });
+                    } catch (DataIntegrityViolationException e) {
+                        log.debug("Booking lock stripe {} created concurrently", id);
+                    }
+                }
+                stripeRepository.lockStripes(ids);
+            }
+        } finally {
+            rowLockWait.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int[] lock(int... indexes) {
+        int[] ordered = Arrays.stream(indexes).distinct().sorted().toArray();
+        long startNanos = System.nanoTime();
+        int held = 0;
+        try {
+            for (int index : ordered) {
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(lockTimeoutMs) - (System.nanoTime() - startNanos);
+                if (!stripes[index].tryLock(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+                    lockTimeouts.increment();
+                    throw new RuntimeException("Booking is busy for this doctor or patient, please retry");
+                }
+                held++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for booking lock", e);
+        } finally {
+            lockWait.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (held < ordered.length) {
+                unlock(Arrays.copyOf(ordered, held));
+            }
+        }
+        return ordered;
+    }
+
+    private void unlock(int[] indexes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private int stripe(Long id, long salt) {
+        // SplitMix64 finalizer spreads sequential ids across stripes
+        long z = id * 0x9E3779B97F4A7C15L + salt;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) (z & (stripes.length - 1));
+    }
+}
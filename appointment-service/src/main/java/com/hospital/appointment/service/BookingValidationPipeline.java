@@ -0,0 +1,202 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.config.DownstreamClients;
+import com.hospital.appointment.dto.BatchSlot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.function.Tuple3;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the remote booking checks (patient, doctor, slot availability) concurrently
+ * under a single deadline. The first failing check cancels the ones still in flight.
+ * A dependency that is down or shedding load fails the booking with an "unavailable"
+ * error rather than being mistaken for a missing patient or doctor.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingValidationPipeline {
+    private final DownstreamClients downstreamClients;
+    private final DoctorReplica doctorReplica;
+    private final PatientExistenceFilter patientExistenceFilter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${appointment.booking.validation-timeout-ms:3000}")
+    private long validationTimeoutMs;
+
+    public CompletableFuture<Void> startBookingChecks(Long patientId, Long doctorId, String department,
+                                                      LocalDateTime slotStart, LocalDateTime slotEnd) {
+        Map<String, Object> availabilityCheck = Map.of(
+            "department", department,
+            "slotStart", slotStart.toString(),
+            "slotEnd", slotEnd.toString()
+        );
+
+        Mono<Void> checks = Mono.when(
+            timed("patient", checkPatient(patientId)),
+            timed("doctor", checkDoctor(doctorId, department)),
+            timed("availability", checkAvailability(doctorId, availabilityCheck, "Slot not available"))
+        );
+        return withDeadline(checks).toFuture();
+    }
+
+    public CompletableFuture<Void> startRescheduleChecks(Long doctorId, LocalDateTime newSlotStart, LocalDateTime newSlotEnd) {
+        Map<String, Object> availabilityCheck = Map.of(
+            "slotStart", newSlotStart.toString(),
+            "slotEnd", newSlotEnd.toString()
+        );
+
+        Mono<Void> checks = timed("availability", checkAvailability(doctorId, availabilityCheck, "New slot not available"));
+        return withDeadline(checks).toFuture();
+    }
+
+    /**
+     * Checks patient and doctor once for a whole series and the slots with one batch
+     * availability call. Completes with one rejection reason per slot, null where available.
+     */
+    public CompletableFuture<List<String>> startBatchChecks(Long patientId, Long doctorId, String department,
+                                                            List<BatchSlot> slots) {
+        List<Map<String, Object>> slotChecks = slots.stream()
+            .map(slot -> Map.<String, Object>of(
+                "slotStart", slot.getSlotStart().toString(),
+                "slotEnd", slot.getSlotEnd().toString()))
+            .toList();
+        Map<String, Object> availabilityCheck = Map.of("department", department, "slots", slotChecks);
+
+        Mono<List<String>> checks = Mono.zip(
+            timed("patient", checkPatient(patientId)).thenReturn(true),
+            timed("doctor", checkDoctor(doctorId, department)).thenReturn(true),
+            timed("availability", checkAvailabilityBatch(doctorId, availabilityCheck, slots.size()))
+        ).map(Tuple3::getT3);
+        return withDeadline(checks).toFuture();
+    }
+
+    /**
+     * Waits for checks started with one of the start methods and rethrows the first failure.
+     */
+    public <T> T await(CompletableFuture<T> checks) {
+        try {
+            return checks.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Booking validation failed", e.getCause());
+        } catch (CancellationException e) {
+            throw new RuntimeException("Booking validation was cancelled", e);
+        }
+    }
+
+    public void timeStage(String stage, Runnable work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SignalType outcome = SignalType.ON_ERROR;
+        try {
+            work.run();
+            outcome = SignalType.ON_COMPLETE;
+        } finally {
+            sample.stop(stageTimer(stage, outcome));
+        }
+    }
+
+    private Mono<Void> checkPatient(Long patientId) {
+        return patientExistenceFilter.exists(patientId)
+            .onErrorMap(e -> DownstreamClients.describeFailure(DownstreamClients.PATIENT_SERVICE, e))
+            .flatMap(patientActive -> patientActive
+                ? Mono.<Void>empty()
+                : Mono.error(new RuntimeException("Patient not found or inactive")));
+    }
+
+    private Mono<Void> checkDoctor(Long doctorId, String department) {
+        return doctorReplica.findDoctor(doctorId)
+            .onErrorMap(e -> DownstreamClients.describeFailure(DownstreamClients.DOCTOR_SERVICE, e))
+            .flatMap(doctor -> {
+                if (Boolean.FALSE.equals(doctor.getActive())) {
+                    return Mono.<Void>error(new RuntimeException("Doctor is inactive"));
+                }
+                if (!department.equals(doctor.getDepartment())) {
+                    return Mono.<Void>error(new RuntimeException("Department mismatch: Doctor belongs to " + doctor.getDepartment()));
+                }
+                return Mono.<Void>empty();
+            });
+    }
+
+    private Mono<Void> checkAvailability(Long doctorId, Map<String, Object> availabilityCheck, String failurePrefix) {
+        return downstreamClients.get(DownstreamClients.DOCTOR_SERVICE)
+            .post()
+            .uri("/v1/doctors/{doctorId}/check-availability", doctorId)
+            .bodyValue(availabilityCheck)
+            .retrieve()
+            .bodyToMono(Map.class)
+            .onErrorMap(e -> DownstreamClients.describeFailure(DownstreamClients.DOCTOR_SERVICE, e))
+            .defaultIfEmpty(Map.of())
+            .flatMap(availability -> {
+                if (Boolean.TRUE.equals(availability.get("available"))) {
+                    return Mono.<Void>empty();
+                }
+                Object message = availability.getOrDefault("message", availability.getOrDefault("reason", failurePrefix));
+                return Mono.error(new RuntimeException(failurePrefix + ": " + message));
+            });
+    }
+
+    private Mono<List<String>> checkAvailabilityBatch(Long doctorId, Map<String, Object> availabilityCheck, int slotCount) {
+        return downstreamClients.get(DownstreamClients.DOCTOR_SERVICE)
+            .post()
+            .uri("/v1/doctors/{doctorId}/check-availability/batch", doctorId)
+            .bodyValue(availabilityCheck)
+            .retrieve()
+            .bodyToFlux(Map.class)
+            .onErrorMap(e -> DownstreamClients.describeFailure(DownstreamClients.DOCTOR_SERVICE, e))
+            .map(availability -> Boolean.TRUE.equals(availability.get("available"))
+                ? ""
+                : "Slot not available: " + availability.getOrDefault("message", availability.getOrDefault("reason", "unavailable")))
+            .collectList()
+            .flatMap(reasons -> reasons.size() == slotCount
+                ? Mono.just(reasons.stream().map(reason -> reason.isEmpty() ? null : reason).toList())
+                : Mono.error(new RuntimeException("Doctor Service returned " + reasons.size() + " results for " + slotCount + " slots")));
+    }
+
+    private <T> Mono<T> withDeadline(Mono<T> checks) {
+        return checks
+            .timeout(Duration.ofMillis(validationTimeoutMs))
+            .onErrorMap(TimeoutException.class, e -> {
+                log.warn("Booking validation exceeded deadline of {} ms", validationTimeoutMs);
+                return new RuntimeException("Booking validation timed out after " + validationTimeoutMs + " ms");
+            });
+    }
+
+    private <T> Mono<T> timed(String stage, Mono<T> check) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return check.doFinally(signal -> sample.stop(stageTimer(stage, signal)));
+        });
+    }
+
+    private Timer stageTimer(String stage, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case CANCEL -> "cancelled";
+            default -> "failure";
+        };
+        return Timer.builder("appointment_booking_stage_latency_ms")
+                .description("Latency of individual booking validation stages")
+                .tag("service", "appointment-service")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,216 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.model.Appointment.AppointmentStatus;
+import com.hospital.appointment.repository.AppointmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-doctor, per-day booking counts for the daily cap, without a round trip through Doctor
+ * Service. Only SCHEDULED and COMPLETED appointments count, matching
+ * {@link AppointmentRepository#countAppointmentsByDoctorIdAndDate}.
+ * The local counts only see other replicas' bookings when they are reconciled, so they are used
+ * to reject a full day quickly and to skip full days in searches. A booking that passes is
+ * recounted in the database under the doctor's booking lock, which is what enforces the cap.
+ * Days from today onward are loaded at startup; earlier days are loaded on first use.
+ */
+@Component
+@Slf4j
+public class DailyBookingCounter {
+    private final AppointmentRepository appointmentRepository;
+    private final Map<DoctorDay, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private final Counter capRejections;
+    private volatile LocalDate loadedFrom;
+
+    @Value("${appointment.scheduling.daily-cap:20}")
+    private int dailyCap;
+
+    public DailyBookingCounter(AppointmentRepository appointmentRepository, MeterRegistry registry) {
+        this.appointmentRepository = appointmentRepository;
+        this.capRejections = Counter.builder("appointment_daily_cap_rejections_total")
+                .description("Bookings rejected because the doctor reached the daily cap")
+                .tag("service", "appointment-service")
+                .register(registry);
+        Gauge.builder("appointment_daily_counter_size", counts, Map::size)
+                .description("Doctor-days tracked by the daily booking counter")
+                .tag("service", "appointment-service")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialLoad() {
+        reconcile();
+    }
+
+    /**
+     * Reloads counts for today onward from the database. Each replica only sees its own
+     * writes between runs, so this also picks up bookings and cancellations made through other
+     * instances. Until then a day another replica freed up may still be rejected here.
+     */
+    @Scheduled(fixedDelayString = "${appointment.scheduling.reconcile-interval-ms:60000}",
+               initialDelayString = "${appointment.scheduling.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        LocalDate today = LocalDate.now();
+        try {
+            Map<DoctorDay, Integer> stored = new HashMap<>();
+            List<Object[]> slots = appointmentRepository.findCountedSlotsFrom(today.atStartOfDay());
+            for (Object[] row : slots) {
+                DoctorDay key = new DoctorDay((Long) row[0], ((LocalDateTime) row[1]).toLocalDate());
+                stored.merge(key, 1, Integer::sum);
+            }
+            stored.forEach((key, count) -> counts.computeIfAbsent(key, k -> new AtomicInteger()).set(count));
+            counts.forEach((key, count) -> {
+                if (!key.day().isBefore(today) && !stored.containsKey(key)) {
+                    count.set(0);
+                }
+            });
+            counts.keySet().removeIf(key -> key.day().isBefore(today.minusDays(1)));
+            loadedFrom = today;
+            log.info("Daily booking counter loaded - {} doctor-days, daily cap: {}", stored.size(), dailyCap);
+        } catch (Exception e) {
+            log.warn("Daily booking counter reconcile failed, keeping current counts: {}", e.getMessage());
+        }
+    }
+
+    public long count(Long doctorId, LocalDate day) {
+        return counter(doctorId, day).get();
+    }
+
+    public boolean hasCapacity(Long doctorId, LocalDate day) {
+        AtomicInteger counter = counts.get(new DoctorDay(doctorId, day));
+        LocalDate from = loadedFrom;
+        if (counter == null && from != null && !day.isBefore(from)) {
+            // Searches probe many empty days; don't create an entry for each of them
+            return dailyCap > 0;
+        }
+        return (counter != null ? counter : counter(doctorId, day)).get() < dailyCap;
+    }
+
+    /**
+     * Takes one booking for the doctor's day, failing if the cap is already reached. The caller
+     * must hold the doctor's booking lock ({@link BookingLockManager#lockUntilCompletion}): no
+     * other booking for the doctor can commit between the recount and the caller's commit, on
+     * any replica. The local count is corrected to the database's and is given back if the
+     * surrounding transaction rolls back.
+     */
+    public void reserve(Long doctorId, LocalDateTime slotStart) {
+        LocalDate day = slotStart.toLocalDate();
+        AtomicInteger counter = counter(doctorId, day);
+        if (counter.get() >= dailyCap) {
+            throw capReached();
+        }
+        // Includes this transaction's own unflushed bookings (e.g. earlier slots of a batch):
+        // the query flushes them first
+        int booked = appointmentRepository
+            .countAppointmentsByDoctorIdAndDate(doctorId, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+            .intValue();
+        if (booked >= dailyCap) {
+            counter.set(booked);
+            throw capReached();
+        }
+        counter.set(booked + 1);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        counter.decrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gives back one booking for the doctor's day once the surrounding transaction commits.
+     */
+    public void releaseAfterCommit(Long doctorId, LocalDateTime slotStart) {
+        AtomicInteger counter = counter(doctorId, slotStart.toLocalDate());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(counter);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(counter);
+            }
+        });
+    }
+
+    /**
+     * Adjusts the count after a status transition. Transitions into a counted status are
+     * not capped: the slot was already held when the appointment was booked.
+     */
+    public void statusChangedAfterCommit(Long doctorId, LocalDateTime slotStart,
+                                         AppointmentStatus previous, AppointmentStatus current) {
+        boolean wasCounted = isCounted(previous);
+        boolean isCounted = isCounted(current);
+        if (wasCounted && !isCounted) {
+            releaseAfterCommit(doctorId, slotStart);
+        } else if (!wasCounted && isCounted) {
+            AtomicInteger counter = counter(doctorId, slotStart.toLocalDate());
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                counter.incrementAndGet();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private RuntimeException capReached() {
+        capRejections.increment();
+        return new RuntimeException(String.format(
+            "Slot not available: Doctor has reached daily appointment limit (%d appointments/day)", dailyCap));
+    }
+
+    public static boolean isCounted(AppointmentStatus status) {
+        return status == AppointmentStatus.SCHEDULED || status == AppointmentStatus.COMPLETED;
+    }
+
+    private AtomicInteger counter(Long doctorId, LocalDate day) {
+        DoctorDay key = new DoctorDay(doctorId, day);
+        AtomicInteger counter = counts.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        LocalDate from = loadedFrom;
+        if (from != null && !day.isBefore(from)) {
+            // Loaded range: no entry means no bookings yet
+            return counts.computeIfAbsent(key, k -> new AtomicInteger());
+        }
+        return counts.computeIfAbsent(key, k -> new AtomicInteger(appointmentRepository
+            .countAppointmentsByDoctorIdAndDate(doctorId, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+            .intValue()));
+    }
+
+    private static void release(AtomicInteger counter) {
+        counter.updateAndGet(value -> Math.max(0, value - 1));
+    }
+
+    private record DoctorDay(Long doctorId, LocalDate day) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.config.DownstreamClients;
+import com.hospital.appointment.dto.DoctorChangeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local read model of doctor id, department and active flag, replicated from Doctor Service.
+ * Bulk-loaded at startup, refreshed incrementally from /v1/doctors/changes, and filled
+ * from a remote lookup when a doctor is not yet known locally.
+ */
+@Component
+@Slf4j
+public class DoctorReplica {
+    private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(10);
+    private static final LocalDateTime INITIAL_CURSOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // Re-read changes this far behind the latest updatedAt seen, for updates that committed after
+    // a row with a later updatedAt was fetched, and for clock differences between replicas
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final DownstreamClients downstreamClients;
+    private final Map<Long, DoctorChangeDTO> doctors = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private volatile LocalDateTime cursor;
+    private volatile long lastRefreshMillis = 0;
+
+    public DoctorReplica(DownstreamClients downstreamClients, MeterRegistry registry) {
+        this.downstreamClients = downstreamClients;
+        this.hitCounter = Counter.builder("appointment_doctor_replica_lookups_total")
+                .description("Doctor lookups served by the local replica")
+                .tag("service", "appointment-service")
+                .tag("result", "hit")
+                .register(registry);
+        this.missCounter = Counter.builder("appointment_doctor_replica_lookups_total")
+                .description("Doctor lookups that fell back to Doctor Service")
+                .tag("service", "appointment-service")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("appointment_doctor_replica_staleness_seconds", this, DoctorReplica::stalenessSeconds)
+                .description("Seconds since the doctor replica was last refreshed successfully")
+                .tag("service", "appointment-service")
+                .register(registry);
+        Gauge.builder("appointment_doctor_replica_size", doctors, Map::size)
+                .description("Doctors held in the local replica")
+                .tag("service", "appointment-service")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bulkLoad() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${appointment.doctor-replica.refresh-interval-ms:30000}",
+               initialDelayString = "${appointment.doctor-replica.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        LocalDateTime since = cursor;
+        try {
+            List<DoctorChangeDTO> changes = fetchChanges(since == null ? null : since.minus(REFRESH_OVERLAP));
+            LocalDateTime latest = since == null ? INITIAL_CURSOR : since;
+            int applied = 0;
+            for (DoctorChangeDTO change : changes) {
+                DoctorChangeDTO previous = doctors.get(change.getDoctorId());
+                if (previous == null || isNewer(change, previous)) {
+                    doctors.put(change.getDoctorId(), change);
+                    applied++;
+                }
+                if (change.getUpdatedAt() != null && change.getUpdatedAt().isAfter(latest)) {
+                    latest = change.getUpdatedAt();
+                }
+            }
+            cursor = latest;
+            lastRefreshMillis = System.currentTimeMillis();
+            if (since == null) {
+                log.info("Doctor replica loaded - {} doctors", doctors.size());
+            } else if (applied > 0) {
+                log.info("Doctor replica refreshed - {} changes since {}", applied, since.minus(REFRESH_OVERLAP));
+            }
+        } catch (Exception e) {
+            log.warn("Doctor replica refresh failed, keeping current data: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the doctor from the replica, or fetches it from Doctor Service on a miss.
+     */
+    public Mono<DoctorChangeDTO> findDoctor(Long doctorId) {
+        DoctorChangeDTO doctor = doctors.get(doctorId);
+        if (doctor != null) {
+            hitCounter.increment();
+            return Mono.just(doctor);
+        }
+        missCounter.increment();
+        return downstreamClients.get(DownstreamClients.DOCTOR_SERVICE)
+            .get()
+            .uri("/v1/doctors/{doctorId}", doctorId)
+            .retrieve()
+            .bodyToMono(DoctorChangeDTO.class)
+            .onErrorMap(WebClientResponseException.NotFound.class, e -> new RuntimeException("Doctor not found"))
+            .switchIfEmpty(Mono.error(new RuntimeException("Doctor not found")))
+            .doOnNext(fetched -> doctors.put(doctorId, fetched));
+    }
+
+    /**
+     * Active doctors of a department known to the replica, in id order.
+     */
+    public List<Long> activeDoctorIds(String department) {
+        return doctors.values().stream()
+            .filter(doctor -> department.equalsIgnoreCase(doctor.getDepartment()))
+            .filter(doctor -> !Boolean.FALSE.equals(doctor.getActive()))
+            .map(DoctorChangeDTO::getDoctorId)
+            .sorted()
+            .toList();
+    }
+
+    private static boolean isNewer(DoctorChangeDTO change, DoctorChangeDTO previous) {
+        // Re-read rows in the overlap window come back unchanged; a row without a timestamp always wins
+        return change.getUpdatedAt() == null || previous.getUpdatedAt() == null
+            || !change.getUpdatedAt().isBefore(previous.getUpdatedAt()) && !change.equals(previous);
+    }
+
+    private List<DoctorChangeDTO> fetchChanges(LocalDateTime since) {
+        WebClient doctorService = downstreamClients.get(DownstreamClients.DOCTOR_SERVICE);
+        WebClient.RequestHeadersSpec<?> request = since == null
+            ? doctorService.get().uri("/v1/doctors/changes")
+            : doctorService.get().uri("/v1/doctors/changes?since={since}", since.toString());
+        return request
+            .retrieve()
+            .bodyToFlux(DoctorChangeDTO.class)
+            .collectList()
+            .block(REFRESH_TIMEOUT);
+    }
+
+    private double stalenessSeconds() {
+        if (lastRefreshMillis == 0) {
+            return Double.NaN;
+        }
+        return (System.currentTimeMillis() - lastRefreshMillis) / 1000.0;
+    }
+}
@@ -0,0 +1,193 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.dto.FreeSlotDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static com.hospital.appointment.service.AppointmentIntervalIndex.CELLS_PER_DAY;
+import static com.hospital.appointment.service.AppointmentIntervalIndex.CELL_MINUTES;
+import static com.hospital.appointment.service.AppointmentIntervalIndex.CLINIC_OPEN;
+
+/**
+ * Finds free slots from the per-doctor day occupancy bitmaps kept by the interval index.
+ * A slot is free when every 15-minute cell it covers is unoccupied, it lies inside clinic
+ * hours, it respects the booking lead time, and the doctor is below the daily cap that day.
+ * A single-doctor search first reconciles the doctor's range with the database, so it agrees on
+ * every replica. The department search reads the bitmaps as they are, which may miss bookings
+ * made through another replica in the last index refresh interval; booking such a slot fails
+ * the overlap check rather than double-booking.
+ */
+@Component
+@RequiredArgsConstructor
+public class FreeSlotFinder {
+    private static final long CLINIC_DAY_MASK = (1L << CELLS_PER_DAY) - 1;
+
+    private final AppointmentIntervalIndex appointmentIntervalIndex;
+    private final DailyBookingCounter dailyBookingCounter;
+
+    @Value("${appointment.free-slots.lead-time-minutes:120}")
+    private long leadTimeMinutes;
+
+    @Value("${appointment.free-slots.max-days:31}")
+    private long maxDays;
+
+    @Value("${appointment.free-slots.max-department-horizon-days:180}")
+    private long maxDepartmentHorizonDays;
+
+    public List<FreeSlotDTO> findFreeSlots(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                           int durationMinutes, int limit) {
+        validateRange(from, to, durationMinutes);
+        appointmentIntervalIndex.reloadDoctor(doctorId, from, to);
+        List<FreeSlotDTO> slots = new ArrayList<>();
+        Iterator<LocalDateTime> starts = freeSlotStarts(doctorId, from, to, durationMinutes);
+        while (starts.hasNext() && slots.size() < limit) {
+            LocalDateTime slotStart = starts.next();
+            slots.add(new FreeSlotDTO(doctorId, slotStart, slotStart.plusMinutes(durationMinutes)));
+        }
+        return slots;
+    }
+
+    /**
+     * Earliest free slots across several doctors: a k-way merge of the per-doctor lazy
+     * iterators through a priority queue, so only about limit + doctors slots are examined
+     * however long the horizon is. Ties on start time go to the lower doctor id.
+     */
+    public List<FreeSlotDTO> findEarliest(List<Long> doctorIds, LocalDateTime from, LocalDateTime to,
+                                          int durationMinutes, int limit) {
+        validateRange(from, to, durationMinutes, maxDepartmentHorizonDays);
+        PriorityQueue<DoctorCursor> queue = new PriorityQueue<>(Math.max(1, doctorIds.size()),
+            Comparator.comparing(DoctorCursor::slotStart).thenComparing(DoctorCursor::doctorId));
+        for (Long doctorId : doctorIds) {
+            Iterator<LocalDateTime> starts = freeSlotStarts(doctorId, from, to, durationMinutes);
+            if (starts.hasNext()) {
+                queue.add(new DoctorCursor(doctorId, starts.next(), starts));
+            }
+        }
+
+        List<FreeSlotDTO> slots = new ArrayList<>();
+        while (!queue.isEmpty() && slots.size() < limit) {
+            DoctorCursor earliest = queue.poll();
+            slots.add(new FreeSlotDTO(earliest.doctorId(), earliest.slotStart(),
+                                      earliest.slotStart().plusMinutes(durationMinutes)));
+            if (earliest.starts().hasNext()) {
+                queue.add(new DoctorCursor(earliest.doctorId(), earliest.starts().next(), earliest.starts()));
+            }
+        }
+        return slots;
+    }
+
+    public void validateRange(LocalDateTime from, LocalDateTime to, int durationMinutes) {
+        validateRange(from, to, durationMinutes, maxDays);
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to, int durationMinutes, long maxRangeDays) {
+        if (!to.isAfter(from)) {
+            throw new RuntimeException("'to' must be after 'from'");
+        }
+        if (Duration.between(from, to).toDays() > maxRangeDays) {
+            throw new RuntimeException(String.format("Search range must not exceed %d days", maxRangeDays));
+        }
+        if (durationMinutes < CELL_MINUTES || durationMinutes > CELLS_PER_DAY * CELL_MINUTES) {
+            throw new RuntimeException(String.format("Duration must be between %d and %d minutes",
+                                                     CELL_MINUTES, CELLS_PER_DAY * CELL_MINUTES));
+        }
+    }
+
+    /**
+     * Lazily yields free slot starts in ascending order. Days are only examined as the
+     * iterator reaches them, so callers that stop early never touch the rest of the range.
+     */
+    public Iterator<LocalDateTime> freeSlotStarts(Long doctorId, LocalDateTime from, LocalDateTime to, int durationMinutes) {
+        LocalDateTime earliestStart = LocalDateTime.now().plusMinutes(leadTimeMinutes);
+        LocalDateTime lowerBound = from.isAfter(earliestStart) ? from : earliestStart;
+        int cells = (durationMinutes + CELL_MINUTES - 1) / CELL_MINUTES;
+        return new FreeSlotIterator(doctorId, lowerBound, to, durationMinutes, cells);
+    }
+
+    private record DoctorCursor(Long doctorId, LocalDateTime slotStart, Iterator<LocalDateTime> starts) {
+    }
+
+    private final class FreeSlotIterator implements Iterator<LocalDateTime> {
+        private final Long doctorId;
+        private final LocalDateTime lowerBound;
+        private final LocalDateTime upperBound;
+        private final int durationMinutes;
+        private final int cells;
+        private LocalDate day;
+        private long startBits;
+        private LocalDateTime next;
+
+        private FreeSlotIterator(Long doctorId, LocalDateTime lowerBound, LocalDateTime upperBound,
+                                 int durationMinutes, int cells) {
+            this.doctorId = doctorId;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.durationMinutes = durationMinutes;
+            this.cells = cells;
+            this.day = lowerBound.toLocalDate().minusDays(1);
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+            while (true) {
+                while (startBits != 0) {
+                    int cell = Long.numberOfTrailingZeros(startBits);
+                    startBits &= startBits - 1;
+                    LocalDateTime slotStart = day.atTime(CLINIC_OPEN).plusMinutes((long) cell * CELL_MINUTES);
+                    if (slotStart.plusMinutes(durationMinutes).isAfter(upperBound)) {
+                        // Later cells of this day and all later days end even further out
+                        startBits = 0;
+                        day = upperBound.toLocalDate();
+                        return;
+                    }
+                    if (!slotStart.isBefore(lowerBound)) {
+                        next = slotStart;
+                        return;
+                    }
+                }
+                day = day.plusDays(1);
+                if (day.isAfter(upperBound.toLocalDate())) {
+                    return;
+                }
+                startBits = dailyBookingCounter.hasCapacity(doctorId, day) ? freeStarts(day) : 0L;
+            }
+        }
+
+        private long freeStarts(LocalDate day) {
+            long free = ~appointmentIntervalIndex.occupancy(doctorId, day) & CLINIC_DAY_MASK;
+            // Bit i survives only if cells i .. i+cells-1 are all free; cells past 18:00 are never free
+            long starts = free;
+            for (int j = 1; j < cells && starts != 0; j++) {
+                starts &= free >>> j;
+            }
+            return starts;
+        }
+    }
+}
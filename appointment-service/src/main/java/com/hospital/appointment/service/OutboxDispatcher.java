@@ -0,0 +1,288 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.config.DownstreamClients;
+import com.hospital.appointment.model.OutboxEvent;
+import com.hospital.appointment.model.OutboxEvent.Destination;
+import com.hospital.appointment.model.OutboxEvent.OutboxStatus;
+import com.hospital.appointment.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox in batches. Every replica runs a dispatcher, so each poll first claims its
+ * batch with a lease (appointment.outbox.lease-ms); rows claimed by another replica are skipped,
+ * and a replica that dies mid-batch only holds its events until the lease runs out. Writes are
+ * version-checked, so a dispatcher whose lease expired cannot overwrite the new owner's result.
+ * A lease can still expire during a slow send and the event go out twice: consumers drop repeats
+ * by the eventId in the payload.
+ * <p>
+ * Events of different appointments are delivered concurrently (bounded by
+ * appointment.outbox.concurrency); events of one appointment go out one at a time in id order,
+ * and a failing event holds back the later ones until it is delivered or given up on. Failures
+ * back off exponentially with jitter.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final DownstreamClients downstreamClients;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    @Value("${appointment.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${appointment.outbox.concurrency:8}")
+    private int concurrency;
+
+    @Value("${appointment.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${appointment.outbox.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${appointment.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${appointment.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${appointment.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${appointment.outbox.retention-hours:168}")
+    private long retentionHours;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, DownstreamClients downstreamClients,
+                            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.downstreamClients = downstreamClients;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("appointment_outbox_pending", pendingEvents, AtomicLong::get)
+                .description("Outbox events waiting to be delivered")
+                .tag("service", "appointment-service")
+                .register(meterRegistry);
+        Gauge.builder("appointment_outbox_lag_seconds", this, OutboxDispatcher::lagSeconds)
+                .description("Age of the oldest undelivered outbox event")
+                .tag("service", "appointment-service")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${appointment.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        try {
+            List<OutboxEvent> claimed = claimBatch();
+            if (!claimed.isEmpty()) {
+                deliver(claimed);
+            }
+            updateBacklog();
+        } catch (Exception e) {
+            log.warn("Outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${appointment.outbox.cleanup-interval-ms:3600000}")
+    public void purgeDelivered() {
+        int deleted = outboxEventRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} delivered outbox events", deleted);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxEventRepository.findClaimableIds(now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        if (outboxEventRepository.claim(ids, token, now.plusNanos(leaseMs * 1_000_000), now) == 0) {
+            return List.of();
+        }
+        return outboxEventRepository.findByClaimTokenOrderByIdAsc(token);
+    }
+
+    private void deliver(List<OutboxEvent> claimed) {
+        Map<String, Deque<Long>> pending = new HashMap<>();
+        for (Object[] row : outboxEventRepository.findPendingIds(claimed.stream().map(OutboxEvent::getAggregateId).distinct().toList())) {
+            pending.computeIfAbsent(key((Destination) row[0], (Long) row[1]), k -> new ArrayDeque<>()).add((Long) row[2]);
+        }
+
+        Map<String, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : claimed) {
+            groups.computeIfAbsent(key(event.getDestination(), event.getAggregateId()), k -> new ArrayList<>()).add(event);
+        }
+        // Per appointment, only the claimed events that are next in line; the rest wait behind an
+        // earlier event that is backing off or being delivered by another replica
+        List<List<OutboxEvent>> ready = new ArrayList<>();
+        for (Map.Entry<String, List<OutboxEvent>> group : groups.entrySet()) {
+            Deque<Long> next = pending.getOrDefault(group.getKey(), new ArrayDeque<>());
+            List<OutboxEvent> inLine = new ArrayList<>();
+            for (OutboxEvent event : group.getValue()) {
+                if (!event.getId().equals(next.poll())) {
+                    break;
+                }
+                inLine.add(event);
+            }
+            if (!inLine.isEmpty()) {
+                ready.add(inLine);
+            }
+        }
+
+        Flux.fromIterable(ready)
+            .flatMap(this::deliverInOrder, concurrency)
+            .then()
+            .block();
+
+        // Release every claimed event, sent or not, so the next poll on any replica can take it
+        for (OutboxEvent event : claimed) {
+            event.setClaimToken(null);
+            event.setClaimedUntil(null);
+            try {
+                outboxEventRepository.save(event);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // Lease expired and another replica claimed it; its outcome wins
+                outcomeCounter(event, "lease_lost").increment();
+                log.warn("Outbox event {} was reclaimed after its lease expired", event.getId());
+            }
+        }
+    }
+
+    private Mono<Void> deliverInOrder(List<OutboxEvent> events) {
+        return Flux.fromIterable(events)
+            .concatMap(event -> {
+                if (LocalDateTime.now().plusNanos(sendTimeoutMs * 1_000_000).isAfter(event.getClaimedUntil())) {
+                    // The lease could run out mid-send; leave the rest to the next poll
+                    return Mono.just(false);
+                }
+                return send(event)
+                    .then(Mono.fromCallable(() -> markSent(event)))
+                    .onErrorResume(e -> Mono.just(markFailed(event, e)));
+            })
+            .takeWhile(Boolean::booleanValue)
+            .then();
+    }
+
+    private Mono<Void> send(OutboxEvent event) {
+        WebClient client = event.getDestination() == Destination.NOTIFICATION
+            ? downstreamClients.get(DownstreamClients.NOTIFICATION_SERVICE)
+            : downstreamClients.get(DownstreamClients.BILLING_SERVICE);
+        String path = event.getDestination() == Destination.NOTIFICATION ? "/v1/notifications" : "/v1/billing-events";
+        return client
+            .post()
+            .uri(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Idempotency-Key", event.getEventId())
+            .bodyValue(event.getPayload())
+            .retrieve()
+            .toBodilessEntity()
+            .timeout(Duration.ofMillis(sendTimeoutMs))
+            .then();
+    }
+
+    private boolean markSent(OutboxEvent event) {
+        event.setStatus(OutboxStatus.SENT);
+        event.setSentAt(LocalDateTime.now());
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(null);
+        outcomeCounter(event, "sent").increment();
+        return true;
+    }
+
+    /**
+     * Returns whether later events of the same appointment may still go out in this batch.
+     */
+    private boolean markFailed(OutboxEvent event, Throwable error) {
+        if (DownstreamClients.isRejected(error)) {
+            // Refused locally by an open breaker or full bulkhead: nothing was sent, so don't use up an attempt
+            long delay = initialBackoffMs + ThreadLocalRandom.current().nextLong(initialBackoffMs / 4 + 1);
+            event.setNextAttemptAt(LocalDateTime.now().plusNanos(delay * 1_000_000));
+            event.setLastError(truncate(error.getMessage()));
+            outcomeCounter(event, "rejected").increment();
+            return false;
+        }
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(error.getMessage()));
+        if (isPermanent(error) || attempts >= maxAttempts) {
+            // Given up on: no longer pending, so it stops holding back later events
+            event.setStatus(OutboxStatus.FAILED);
+            outcomeCounter(event, "failed").increment();
+            log.error("Outbox event {} ({} {}) failed after {} attempts: {}",
+                      event.getId(), event.getDestination(), event.getEventType(), attempts, error.getMessage());
+            return true;
+        }
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 20));
+        long jitter = ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+        event.setNextAttemptAt(LocalDateTime.now().plusNanos((backoff + jitter) * 1_000_000));
+        outcomeCounter(event, "retry").increment();
+        log.warn("Outbox event {} ({} {}) attempt {} failed, retrying in {} ms: {}",
+                 event.getId(), event.getDestination(), event.getEventType(), attempts, backoff + jitter, error.getMessage());
+        return false;
+    }
+
+    private static boolean isPermanent(Throwable error) {
+        // Client errors other than timeouts and throttling will not succeed on retry
+        return error instanceof WebClientResponseException response
+            && response.getStatusCode().is4xxClientError()
+            && response.getStatusCode().value() != 408
+            && response.getStatusCode().value() != 429;
+    }
+
+    private void updateBacklog() {
+        pendingEvents.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+        oldestPendingMillis.set(outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+            .map(event -> Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis())
+            .orElse(0L));
+    }
+
+    private double lagSeconds() {
+        return oldestPendingMillis.get() / 1000.0;
+    }
+
+    private Counter outcomeCounter(OutboxEvent event, String outcome) {
+        return Counter.builder("appointment_outbox_dispatched_total")
+                .description("Outbox delivery attempts by destination and outcome")
+                .tag("service", "appointment-service")
+                .tag("destination", event.getDestination().name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String key(Destination destination, Long aggregateId) {
+        return destination + ":" + aggregateId;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hospital.appointment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.appointment.model.OutboxEvent;
+import com.hospital.appointment.model.OutboxEvent.Destination;
+import com.hospital.appointment.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records outgoing notification and billing events in the outbox table. Called inside the
+ * business transaction, so an event exists exactly when the change that produced it committed.
+ * Delivery is done by {@link OutboxDispatcher}. Every event gets an eventId, added to the
+ * payload, that stays the same across redeliveries so consumers can drop repeats.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void publish(Long appointmentId, Destination destination, String eventType, Map<String, Object> payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateId(appointmentId);
+        event.setDestination(destination);
+        event.setEventType(eventType);
+        event.setEventId(UUID.randomUUID().toString());
+        Map<String, Object> body = new LinkedHashMap<>(payload);
+        body.put("eventId", event.getEventId());
+        try {
+            event.setPayload(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + destination + " event " + eventType, e);
+        }
+        outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,263 @@
+package com.hospital.appointment.service;
+
+import com.hospital.appointment.config.DownstreamClients;
+import com.hospital.appointment.dto.PatientChangeDTO;
+import com.hospital.appointment.dto.PatientChangePageDTO;
+import com.hospital.appointment.dto.PatientIdPageDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "does this patient exist" for booking. Checks, in order: a small LRU of patients
+ * confirmed by Patient Service, a short-TTL negative cache, and a Bloom filter built from the
+ * Patient Service id snapshot. The filter only answers "no": an id it has never seen, at or below
+ * the highest id it knows of, is rejected without a call. A filter positive may be a false one,
+ * so it is confirmed with Patient Service (its patient cache serves the lookup) and the answer
+ * goes into the LRU. Ids above the highest known one may be newer than the last refresh, so they
+ * are looked up too. Between snapshots the filter follows the Patient Service change feed from the sequence number
+ * the snapshot was taken at: new patients are added, and deleted ones are remembered in a set
+ * that is checked first, since a Bloom filter can't drop an entry.
+ */
+@Component
+@Slf4j
+public class PatientExistenceFilter {
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(10);
+    private static final int SNAPSHOT_PAGE_SIZE = 10000;
+    private static final int CHANGES_PAGE_SIZE = 1000;
+
+    private final DownstreamClients downstreamClients;
+    private final Map<Long, Boolean> confirmed;
+    private final Map<Long, Long> negativeExpiry = new ConcurrentHashMap<>();
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    private final Counter confirmedHits;
+    private final Counter filterHits;
+    private final Counter negativeHits;
+    private final Counter deletedHits;
+    private final Counter remoteLookups;
+    private volatile LongBloomFilter filter;
+    private volatile long changeCursor = 0;
+    private volatile long maxKnownId = 0;
+
+    @Value("${appointment.patient-filter.expected-patients:1000000}")
+    private long expectedPatients;
+
+    @Value("${appointment.patient-filter.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${appointment.patient-filter.negative-ttl-ms:30000}")
+    private long negativeTtlMs;
+
+    @Value("${appointment.patient-filter.max-negative-entries:10000}")
+    private int maxNegativeEntries;
+
+    public PatientExistenceFilter(DownstreamClients downstreamClients, MeterRegistry registry,
+                                  @Value("${appointment.patient-filter.confirmed-cache-size:10000}") int confirmedCacheSize) {
+        this.downstreamClients = downstreamClients;
+        this.confirmed = Collections.synchronizedMap(new LinkedHashMap<Long, Boolean>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > confirmedCacheSize;
+            }
+        });
+        this.confirmedHits = lookupCounter(registry, "confirmed");
+        this.filterHits = lookupCounter(registry, "filter");
+        this.negativeHits = lookupCounter(registry, "negative");
+        this.deletedHits = lookupCounter(registry, "deleted");
+        this.remoteLookups = lookupCounter(registry, "remote");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialLoad() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filter from a full id snapshot and restarts the change feed from the sequence
+     * number of its first page. Changes made while the snapshot was paged are replayed by the next
+     * refresh. Runs periodically to bound the deleted-id set and the filter's fill.
+     */
+    @Scheduled(fixedDelayString = "${appointment.patient-filter.full-refresh-interval-ms:600000}",
+               initialDelayString = "${appointment.patient-filter.full-refresh-interval-ms:600000}")
+    public synchronized void rebuild() {
+        try {
+            long[] ids = new long[1024];
+            int count = 0;
+            long afterId = 0;
+            long maxId = 0;
+            Long head = null;
+            PatientIdPageDTO page;
+            do {
+                page = fetchIds(afterId);
+                if (head == null) {
+                    head = page.getChangeSeq() == null ? 0L : page.getChangeSeq();
+                }
+                for (Long id : page.getIds()) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, ids.length * 2);
+                    }
+                    ids[count++] = id;
+                    maxId = Math.max(maxId, id);
+                }
+                afterId = page.getNextAfterId();
+            } while (page.isHasMore());
+
+            LongBloomFilter rebuilt = LongBloomFilter.create(Math.max(expectedPatients, count * 2L), falsePositiveRate);
+            for (int i = 0; i < count; i++) {
+                rebuilt.put(ids[i]);
+            }
+            filter = rebuilt;
+            maxKnownId = maxId;
+            // Deletes before head are absent from the snapshot; later ones are replayed from head
+            deleted.clear();
+            changeCursor = head;
+            log.info("Patient existence filter rebuilt - {} patients, change feed from seq {}", count, head);
+        } catch (Exception e) {
+            log.warn("Patient existence filter rebuild failed, keeping current filter: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies patient changes since the last snapshot or refresh. Doesn't long-poll: the
+     * Patient Service client's response timeout and circuit breaker are tuned for short calls,
+     * so the feed is polled on a short interval instead.
+     */
+    @Scheduled(fixedDelayString = "${appointment.patient-filter.refresh-interval-ms:2000}",
+               initialDelayString = "${appointment.patient-filter.refresh-interval-ms:2000}")
+    public synchronized void refresh() {
+        LongBloomFilter current = filter;
+        if (current == null) {
+            rebuild();
+            return;
+        }
+        try {
+            PatientChangePageDTO page;
+            do {
+                page = fetchChanges(changeCursor);
+                for (PatientChangeDTO change : page.getChanges()) {
+                    apply(current, change);
+                }
+                changeCursor = page.getNextSince();
+            } while (page.isHasMore());
+        } catch (Exception e) {
+            log.warn("Patient existence filter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public Mono<Boolean> exists(Long patientId) {
+        if (deleted.contains(patientId)) {
+            deletedHits.increment();
+            return Mono.just(false);
+        }
+        if (confirmed.get(patientId) != null) {
+            confirmedHits.increment();
+            return Mono.just(true);
+        }
+        Long expiry = negativeExpiry.get(patientId);
+        if (expiry != null) {
+            if (expiry > System.currentTimeMillis()) {
+                negativeHits.increment();
+                return Mono.just(false);
+            }
+            negativeExpiry.remove(patientId);
+        }
+        LongBloomFilter current = filter;
+        if (current != null && patientId <= maxKnownId && !current.mightContain(patientId)) {
+            filterHits.increment();
+            return Mono.just(false);
+        }
+        remoteLookups.increment();
+        return downstreamClients.get(DownstreamClients.PATIENT_SERVICE)
+            .get()
+            .uri("/v1/patients/{patientId}", patientId)
+            .retrieve()
+            .bodyToMono(Map.class)
+            .map(response -> {
+                if (Boolean.FALSE.equals(response.get("active"))) {
+                    markMissing(patientId);
+                    return false;
+                }
+                markExisting(patientId);
+                return true;
+            })
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                markMissing(patientId);
+                return Mono.just(false);
+            });
+    }
+
+    private void apply(LongBloomFilter current, PatientChangeDTO change) {
+        Long patientId = change.getPatientId();
+        if ("DELETED".equals(change.getChangeType())) {
+            deleted.add(patientId);
+            confirmed.remove(patientId);
+            return;
+        }
+        maxKnownId = Math.max(maxKnownId, patientId);
+        // Deactivated patients stay in the filter until the next snapshot, which only lists active
+        // ones; a positive is confirmed remotely anyway
+        if (Boolean.TRUE.equals(change.getActive())) {
+            current.put(patientId);
+        } else {
+            confirmed.remove(patientId);
+        }
+        negativeExpiry.remove(patientId);
+    }
+
+    private void markExisting(Long patientId) {
+        confirmed.put(patientId, Boolean.TRUE);
+        negativeExpiry.remove(patientId);
+        LongBloomFilter current = filter;
+        if (current != null) {
+            current.put(patientId);
+        }
+    }
+
+    private void markMissing(Long patientId) {
+        if (negativeExpiry.size() >= maxNegativeEntries) {
+            negativeExpiry.clear();
+        }
+        negativeExpiry.put(patientId, System.currentTimeMillis() + negativeTtlMs);
+    }
+
+    private PatientIdPageDTO fetchIds(long afterId) {
+        return downstreamClients.get(DownstreamClients.PATIENT_SERVICE)
+            .get()
+            .uri("/v1/patients/ids?afterId={afterId}&limit={limit}", afterId, SNAPSHOT_PAGE_SIZE)
+            .retrieve()
+            .bodyToMono(PatientIdPageDTO.class)
+            .block(FETCH_TIMEOUT);
+    }
+
+    private PatientChangePageDTO fetchChanges(long since) {
+        return downstreamClients.get(DownstreamClients.PATIENT_SERVICE)
+            .get()
+            .uri("/v1/patients/changes?since={since}&limit={limit}", since, CHANGES_PAGE_SIZE)
+            .retrieve()
+            .bodyToMono(PatientChangePageDTO.class)
+            .block(FETCH_TIMEOUT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String source) {
+        return Counter.builder("appointment_patient_existence_lookups_total")
+                .description("Patient existence checks by the source that answered them")
+                .tag("service", "appointment-service")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -0,0 +1,119 @@
+package com.hospital.appointment.repository;
+
+import com.hospital.appointment.model.Appointment.AppointmentStatus;
+import com.hospital.appointment.model.OutboxEvent.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for each repository query, with the values it
+ * bound, and fails if a query that should use an index scans a whole table. Catches a dropped
+ * or mismatched index, or a query change that no index covers. Plans are H2's, the database
+ * {@code @DataJpaTest} runs on.
+ */
+@DataJpaTest
+@Import(QueryPlanTest.RecordingConfig.class)
+class QueryPlanTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 14, 9, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 15, 0, 0);
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingLockStripeRepository bookingLockStripeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> unexpectedScans = new ArrayList<>();
+
+    @Test
+    void repositoryQueriesUseAnIndex() {
+        indexed("findOverlappingAppointmentsForDoctor",
+            () -> appointmentRepository.findOverlappingAppointmentsForDoctor(1L, FROM, TO));
+        indexed("findOverlappingAppointmentsForPatient",
+            () -> appointmentRepository.findOverlappingAppointmentsForPatient(1L, FROM, TO));
+        indexed("countAppointmentsByDoctorIdAndDate",
+            () -> appointmentRepository.countAppointmentsByDoctorIdAndDate(1L, FROM, TO));
+        indexed("findCountedSlotsFrom", () -> appointmentRepository.findCountedSlotsFrom(FROM));
+        indexed("findByPatientIdAndStatus",
+            () -> appointmentRepository.findByPatientIdAndStatus(1L, AppointmentStatus.SCHEDULED));
+        indexed("findByDoctorIdAndStatusNot",
+            () -> appointmentRepository.findByDoctorIdAndStatusNot(1L, AppointmentStatus.CANCELLED));
+        indexed("findPageByFiltersAfter",
+            () -> appointmentRepository.findPageByFiltersAfter(null, null, null, FROM, 0L, PageRequest.of(0, 21)));
+        indexed("findUpdatedSince", () -> appointmentRepository.findUpdatedSince(TO));
+        indexed("BookingLockStripeRepository.lockStripes", () -> bookingLockStripeRepository.lockStripes(List.of(1, 2)));
+        indexed("OutboxEventRepository.findClaimableIds",
+            () -> outboxEventRepository.findClaimableIds(TO, PageRequest.of(0, 100)));
+        indexed("OutboxEventRepository.claim",
+            () -> outboxEventRepository.claim(List.of(1L, 2L), "token", TO, FROM));
+        indexed("OutboxEventRepository.findByClaimTokenOrderByIdAsc",
+            () -> outboxEventRepository.findByClaimTokenOrderByIdAsc("token"));
+        indexed("OutboxEventRepository.findPendingIds", () -> outboxEventRepository.findPendingIds(List.of(1L, 2L)));
+        indexed("OutboxEventRepository.findFirstByStatusOrderByIdAsc",
+            () -> outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING));
+        indexed("OutboxEventRepository.deleteSentBefore", () -> outboxEventRepository.deleteSentBefore(TO));
+        // Offset listing and its COUNT: optional filters can't pick an index; cursor paging replaces them
+        scanExpected("findByFilters",
+            () -> appointmentRepository.findByFilters(1L, null, null, PageRequest.of(10, 20)));
+        scanExpected("countByFilters", () -> appointmentRepository.countByFilters(1L, null, null));
+        // Startup load of the interval index reads every live appointment
+        scanExpected("findByStatusNot", () -> appointmentRepository.findByStatusNot(AppointmentStatus.CANCELLED));
+
+        assertThat(unexpectedScans).as("queries that scan a whole table").isEmpty();
+    }
+
+    private void indexed(String name, Runnable query) {
+        explain(name, query, false);
+    }
+
+    private void scanExpected(String name, Runnable query) {
+        explain(name, query, true);
+    }
+
+    private void explain(String name, Runnable query, boolean scanExpected) {
+        SqlRecorder.clear();
+        query.run();
+        List<SqlRecorder.RecordedStatement> statements = SqlRecorder.executed();
+        assertThat(statements).as("SQL run by %s", name).isNotEmpty();
+        for (SqlRecorder.RecordedStatement statement : statements) {
+            String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), String.class,
+                statement.parameters().toArray())).replaceAll("\\s+", " ");
+            if (plan.contains(".tableScan") && !scanExpected) {
+                unexpectedScans.add(name + ": " + plan);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# Bill export benchmark: streams BILLS synthetic bills through GET /v1/bills/export with a
+# small heap, to check that export memory stays flat however many rows there are.
+#
+# Starts its own billing-service from target/ against a file-backed H2 database (an in-memory
+# one would have to hold the whole table in the same heap), seeds it with one INSERT ... SELECT,
+# then exports as CSV and NDJSON and checks the row counts. Fails if the JVM runs out of memory.
+#
+# Usage: ./export-small-heap.sh [BILLS] [HEAP]
+# Requires a JDK and Maven; builds the jar if it is missing.
+set -euo pipefail
+
+BILLS=${1:-1000000}
+HEAP=${2:-128m}
+PORT=${PORT:-18004}
+BASE_URL="http://localhost:$PORT"
+SERVICE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+WORK_DIR=$(mktemp -d)
+APP_PID=
+cleanup() {
+  if [ -n "$APP_PID" ]; then kill "$APP_PID" 2>/dev/null || true; wait "$APP_PID" 2>/dev/null || true; fi
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+JAR=$(ls "$SERVICE_DIR"/target/billing-service-*.jar 2>/dev/null | head -1 || true)
+if [ -z "$JAR" ]; then
+  echo "Building billing-service..."
+  (cd "$SERVICE_DIR" && mvn -q -B -DskipTests package)
+  JAR=$(ls "$SERVICE_DIR"/target/billing-service-*.jar | head -1)
+fi
+
+# Spread over a year, 5000 patients, a mix of statuses
+cat > "$WORK_DIR/bulk-bills.sql" <<SQL
+INSERT INTO bills (bill_id, patient_id, appointment_id, consultation_fee, medication_fee, tax_amount, total_amount, status, bill_type, created_at)
+SELECT X, MOD(X, 5000) + 1, X, 500.00, 200.00, 35.00, 735.00,
+       CASE MOD(X, 4) WHEN 0 THEN 'OPEN' WHEN 3 THEN 'VOID' ELSE 'PAID' END,
+       'CONSULTATION', DATEADD('MINUTE', -MOD(X, 525600), LOCALTIMESTAMP)
+FROM SYSTEM_RANGE(1, $BILLS);
+ALTER SEQUENCE bill_seq RESTART WITH $((BILLS + 1));
+SQL
+
+echo "Starting billing-service with -Xmx$HEAP and $BILLS bills..."
+java -Xmx"$HEAP" -XX:+ExitOnOutOfMemoryError -jar "$JAR" \
+  --server.port="$PORT" \
+  --spring.datasource.url="jdbc:h2:file:$WORK_DIR/billingdb;LAZY_QUERY_EXECUTION=1" \
+  --spring.sql.init.mode=always \
+  --spring.sql.init.data-locations="file:$WORK_DIR/bulk-bills.sql" \
+  --spring.jpa.defer-datasource-initialization=true \
+  --billing.summary.rebuild-cron=- \
+  > "$WORK_DIR/app.log" 2>&1 &
+APP_PID=$!
+
+for _ in $(seq 1 300); do
+  if curl -sf "$BASE_URL/v1/health" > /dev/null; then break; fi
+  if ! kill -0 "$APP_PID" 2>/dev/null; then
+    echo "FAIL: billing-service exited during startup" >&2
+    tail -20 "$WORK_DIR/app.log" >&2
+    exit 1
+  fi
+  sleep 1
+done
+
+export_rows() {
+  # Prints "<lines> <ms>" for one export: export_rows <format>
+  local start lines
+  start=$(date +%s%3N)
+  lines=$(curl -sf "$BASE_URL/v1/bills/export?format=$1" | wc -l)
+  echo "$lines $(( $(date +%s%3N) - start ))"
+}
+
+FAILED=0
+for format in csv ndjson; do
+  read -r lines elapsed < <(export_rows "$format")
+  expected=$BILLS
+  if [ "$format" = csv ]; then expected=$((BILLS + 1)); fi  # Header line
+  printf '%-7s lines=%-9s expected=%-9s wall=%sms rows/s=%s\n' "$format" "$lines" "$expected" "$elapsed" \
+    "$(( BILLS * 1000 / (elapsed > 0 ? elapsed : 1) ))"
+  if [ "$lines" -ne "$expected" ] || ! kill -0 "$APP_PID" 2>/dev/null; then
+    FAILED=1
+  fi
+done
+
+echo "Heap after export:"
+curl -s "$BASE_URL/actuator/prometheus" | grep -E '^jvm_memory_(used|max)_bytes\{area="heap"' || true
+if [ "$FAILED" -ne 0 ]; then
+  echo "FAIL: export incomplete or billing-service died (see OutOfMemoryError in log)" >&2
+  tail -20 "$WORK_DIR/app.log" >&2
+  exit 1
+fi
@@ -0,0 +1,198 @@
+package com.hospital.billing.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * One WebClient per downstream service, each with its own keep-alive connection pool,
+ * connect and response timeouts and base URL from {@link DownstreamProperties}.
+ * Every request is timed as downstream_request_latency_ms{target,method,outcome}, and
+ * pool usage is exported as downstream_pool_* gauges per target.
+ * Each target also sits behind a circuit breaker and a semaphore bulkhead of the same name
+ * (resilience4j.circuitbreaker / resilience4j.bulkhead), so a failing or slow service is
+ * rejected immediately instead of tying up request threads until its timeouts expire.
+ */
+@Slf4j
+public class DownstreamClients {
+    public static final String APPOINTMENT_SERVICE = "appointment-service";
+
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public DownstreamClients(DownstreamProperties properties, MeterRegistry meterRegistry,
+                             CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        properties.getServices().forEach((name, target) -> {
+            if (target.getBaseUrl() == null || target.getBaseUrl().isBlank()) {
+                throw new IllegalStateException("downstream.services." + name + ".base-url is required");
+            }
+            ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(target.getMaxConnections())
+                .pendingAcquireMaxCount(target.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(target.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(target.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(target.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true, () -> new PoolGauges(name))
+                .build();
+            HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) target.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(target.getResponseTimeoutMs()));
+            providers.put(name, provider);
+            clients.put(name, WebClient.builder()
+                .baseUrl(target.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(resilienceFilter(name))
+                .filter(latencyFilter(name))
+                .build());
+            log.info("Downstream client {} -> {} (max connections {}, response timeout {} ms)",
+                     name, target.getBaseUrl(), target.getMaxConnections(), target.getResponseTimeoutMs());
+        });
+    }
+
+    /**
+     * Client for a configured downstream service; request URIs are relative to its base URL.
+     */
+    public WebClient get(String name) {
+        WebClient client = clients.get(name);
+        if (client == null) {
+            throw new IllegalStateException("No downstream service configured under downstream.services." + name);
+        }
+        return client;
+    }
+
+    /**
+     * Maps a failed call to the error callers should surface: rejections, connection failures,
+     * timeouts and 5xx responses become a plain "unavailable" error; anything else (such as a
+     * 4xx the caller handles) is returned unchanged.
+     */
+    public static Throwable describeFailure(String target, Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            return new DownstreamUnavailableException(target + " is unavailable (circuit open), please retry later", error);
+        }
+        if (error instanceof BulkheadFullException) {
+            return new DownstreamUnavailableException(target + " is at its concurrent call limit, please retry", error);
+        }
+        if (error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()) {
+            return new DownstreamUnavailableException(target + " is unavailable: " + error.getMessage(), error);
+        }
+        return error;
+    }
+
+    public void dispose() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ExchangeFilterFunction resilienceFilter(String target) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(target);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(target);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+            log.warn("Circuit breaker {}: {}", target, event.getStateTransition()));
+        return (request, next) -> next.exchange(request)
+            // Server errors count against the breaker; retrieve() raises the same exception anyway
+            .flatMap(response -> response.statusCode().is5xxServerError()
+                ? response.createException().flatMap(e -> Mono.<ClientResponse>error(e))
+                : Mono.just(response))
+            .transformDeferred(BulkheadOperator.of(bulkhead))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private ExchangeFilterFunction latencyFilter(String target) {
+        return (request, next) -> {
+            long startNanos = System.nanoTime();
+            String method = request.method().name();
+            return next.exchange(request)
+                .doOnSuccess(response -> recordLatency(target, method,
+                    response == null ? "none" : String.valueOf(response.statusCode().value()), startNanos))
+                .doOnError(error -> recordLatency(target, method,
+                    error instanceof TimeoutException || error.getCause() instanceof TimeoutException ? "timeout" : "error",
+                    startNanos));
+        };
+    }
+
+    private void recordLatency(String target, String method, String outcome, long startNanos) {
+        Timer.builder("downstream_request_latency_ms")
+            .description("Latency of calls to downstream services, until response headers arrive")
+            .tag("service", "billing-service")
+            .tag("target", target)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers gauges for each pool Reactor Netty creates for a target (one per remote address).
+     */
+    private final class PoolGauges implements ConnectionProvider.MeterRegistrar {
+        private final String target;
+        private final Map<String, List<Meter>> meters = new ConcurrentHashMap<>();
+
+        private PoolGauges(String target) {
+            this.target = target;
+        }
+
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+                                    ConnectionPoolMetrics metrics) {
+            Tags tags = Tags.of("service", "billing-service", "target", target, "remote", String.valueOf(remoteAddress));
+            meters.put(id, List.of(
+                Gauge.builder("downstream_pool_acquired_connections", metrics, m -> m.acquiredSize())
+                    .description("Connections in use").tags(tags).register(meterRegistry),
+                Gauge.builder("downstream_pool_idle_connections", metrics, m -> m.idleSize())
+                    .description("Idle keep-alive connections").tags(tags).register(meterRegistry),
+                Gauge.builder("downstream_pool_pending_acquires", metrics, m -> m.pendingAcquireSize())
+                    .description("Requests waiting for a connection").tags(tags).register(meterRegistry),
+                Gauge.builder("downstream_pool_saturation", metrics,
+                        m -> m.maxAllocatedSize() == 0 ? 0.0 : (double) m.acquiredSize() / m.maxAllocatedSize())
+                    .description("Fraction of the pool's connections in use").tags(tags).register(meterRegistry)
+            ));
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            List<Meter> registered = meters.remove(id);
+            if (registered != null) {
+                registered.forEach(meterRegistry::remove);
+            }
+        }
+    }
+}
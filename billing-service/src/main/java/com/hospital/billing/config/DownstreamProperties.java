@@ -0,0 +1,29 @@
+package com.hospital.billing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base URLs, connection pools and timeouts for the services this service calls,
+ * bound from downstream.services.&lt;name&gt;.*
+ */
+@Data
+@ConfigurationProperties(prefix = "downstream")
+public class DownstreamProperties {
+    private Map<String, Target> services = new LinkedHashMap<>();
+
+    @Data
+    public static class Target {
+        private String baseUrl;
+        private int maxConnections = 50;          // keep-alive pool size per target
+        private int pendingAcquireMaxCount = 500; // requests queued for a connection before failing fast
+        private long pendingAcquireTimeoutMs = 2000;
+        private long connectTimeoutMs = 1000;
+        private long responseTimeoutMs = 5000;
+        private long maxIdleTimeMs = 30000;       // close idle connections before the peer or a proxy does
+        private long maxLifeTimeMs = 300000;      // recycle connections so DNS changes are picked up
+    }
+}
@@ -0,0 +1,11 @@
+package com.hospital.billing.config;
+
+/**
+ * A downstream service could not answer: its circuit is open, its bulkhead is full, or the call
+ * failed or timed out. Callers should retry later, so this maps to 503 rather than 400.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    public DownstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -48,6 +48,14 @@ public class MetricsConfig {
                 .tag("service", "billing-service")
                 .register(registry);
     }
+    
+    @Bean
+    public Counter slotStartUnavailableCounter(MeterRegistry registry) {
+        return Counter.builder("billing_slot_start_unavailable_total")
+                .description("Cancellation events deferred because Appointment Service could not provide the slot start")
+                .tag("service", "billing-service")
+                .register(registry);
+    }
 }
 
 
@@ -2,19 +2,35 @@ package com.hospital.billing.controller;
 
 import com.hospital.billing.dto.BillDTO;
 import com.hospital.billing.dto.BillingEventDTO;
+import com.hospital.billing.dto.BillingSummaryDTO;
+import com.hospital.billing.dto.CursorPageDTO;
 import com.hospital.billing.dto.ErrorResponse;
+import com.hospital.billing.model.Bill.BillStatus;
+import com.hospital.billing.service.BillExporter;
+import com.hospital.billing.service.BillingEventIngestor;
+import com.hospital.billing.service.BillingEventStreamImporter;
 import com.hospital.billing.service.BillingService;
+import com.hospital.billing.service.BillingSummaryAggregator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,6 +42,10 @@ import java.util.UUID;
 @Tag(name = "Billing Service", description = "Billing Management API - Generate bills for completed appointments, compute taxes, handle cancellations")
 public class BillingController {
     private final BillingService billingService;
+    private final BillingEventIngestor billingEventIngestor;
+    private final BillingEventStreamImporter billingEventStreamImporter;
+    private final BillingSummaryAggregator billingSummaryAggregator;
+    private final BillExporter billExporter;
     
     @GetMapping("/health")
     public ResponseEntity<?> healthCheck() {
@@ -51,15 +71,17 @@ public class BillingController {
                 "bill_creation_latency_ms", "Timer - Bill creation latency in milliseconds",
                 "cancellation_fees_charged_total", "Counter - Total cancellation fees charged",
                 "no_show_fees_charged_total", "Counter - Total no-show fees charged",
-                "payments_failed_total", "Counter - Total failed payments"
+                "payments_failed_total", "Counter - Total failed payments",
+                "billing_event_queue_depth", "Gauge - Billing events accepted but not yet applied",
+                "billing_events_ingested_total", "Counter - Billing events by ingestion outcome"
             ),
             "logging", Map.of(
                 "format", "JSON",
                 "correlationId", "enabled"
             ),
             "availableEndpoints", Map.of(
-                "GET", "/v1/bills, /v1/bills/{id}, /v1/bills/patient/{patientId}",
-                "POST", "/v1/billing-events, /v1/bills/{id}/refund",
+                "GET", "/v1/bills, /v1/bills/{id}, /v1/bills/patient/{patientId}, /v1/bills/summary, /v1/bills/export",
+                "POST", "/v1/billing-events, /v1/billing-events/stream, /v1/bills/{id}/refund, /v1/bills/summary/rebuild",
                 "PUT", "/v1/bills/{id}/void, /v1/bills/{id}/paid"
             )
         );
@@ -71,8 +93,17 @@ public class BillingController {
         String correlationId = UUID.randomUUID().toString();
         try {
             org.slf4j.MDC.put("correlationId", correlationId);
-            billingService.processBillingEvent(event, correlationId);
-            return ResponseEntity.ok().build();
+            if (!billingEventIngestor.submit(event)) {
+                // Retryable: the sender's outbox redelivers the event later
+                ErrorResponse error = new ErrorResponse("QUEUE_FULL", "Billing event queue is full, retry later", correlationId);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+            }
+            // Stored in the inbox, so the sender may stop retrying
+            return ResponseEntity.accepted().build();
+        } catch (DataAccessException e) {
+            // Not stored; retryable like a full queue
+            ErrorResponse error = new ErrorResponse("INBOX_UNAVAILABLE", "Billing event could not be stored, retry later", correlationId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
         } catch (RuntimeException e) {
             ErrorResponse error = new ErrorResponse("BILLING_ERROR", e.getMessage(), correlationId);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
@@ -81,6 +112,110 @@ public class BillingController {
         }
     }
     
+    @Operation(summary = "Stream billing events",
+               description = "Imports NDJSON (one event per line) or a JSON array of billing events, applied in chunks, and streams back one NDJSON result per event")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Per-event results (application/x-ndjson)")
+    })
+    @PostMapping(value = "/billing-events/stream",
+                 consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamBillingEvents(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            long startNanos = System.nanoTime();
+            long count = billingEventStreamImporter.importStream(request.getInputStream(), response.getOutputStream());
+            long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+            log.info("Billing event stream imported - {} events in {} ms ({} events/s)", count, elapsedMs, count * 1000 / elapsedMs);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Get billing summary",
+               description = "Revenue, outstanding balance and totals by status and bill type, optionally for one day and one patient. Served from incrementally maintained aggregates")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Summary retrieved successfully")
+    })
+    @GetMapping("/bills/summary")
+    public ResponseEntity<?> getBillingSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long patientId) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            BillingSummaryDTO summary = billingSummaryAggregator.summary(date, patientId);
+            return ResponseEntity.ok(summary);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Rebuild billing summary",
+               description = "Recomputes the summary aggregates from the bills table and reports whether they had drifted")
+    @PostMapping("/bills/summary/rebuild")
+    public ResponseEntity<?> rebuildBillingSummary() {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            boolean consistent = billingSummaryAggregator.rebuild();
+            return ResponseEntity.ok(Map.of("consistent", consistent));
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Export bills",
+               description = "Streams bills created between from and to (inclusive dates) as CSV or NDJSON, optionally filtered by status, without loading them into memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bills streamed (text/csv or application/x-ndjson)"),
+        @ApiResponse(responseCode = "400", description = "Invalid format, status or date range")
+    })
+    @GetMapping("/bills/export")
+    public ResponseEntity<?> exportBills(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false, defaultValue = "csv") String format) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            BillExporter.Format exportFormat = BillExporter.Format.parse(format);
+            BillStatus billStatus = status == null ? null : parseStatus(status);
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new RuntimeException("from must not be after to");
+            }
+            StreamingResponseBody body = out -> {
+                // Runs on an async thread once the handler has returned
+                org.slf4j.MDC.put("correlationId", correlationId);
+                try {
+                    long startNanos = System.nanoTime();
+                    long rows = billExporter.export(from == null ? null : from.atStartOfDay(),
+                        to == null ? null : to.plusDays(1).atStartOfDay(), billStatus, exportFormat, out);
+                    log.info("Bills exported - {} rows as {} in {} ms", rows, exportFormat,
+                        (System.nanoTime() - startNanos) / 1_000_000);
+                } finally {
+                    org.slf4j.MDC.remove("correlationId");
+                }
+            };
+            MediaType contentType = exportFormat == BillExporter.Format.CSV
+                ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON;
+            return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"bills." + exportFormat.name().toLowerCase() + "\"")
+                .body(body);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse("INVALID_EXPORT_REQUEST", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
     @GetMapping("/bills/{billId}")
     public ResponseEntity<?> getBill(@PathVariable Long billId) {
         String correlationId = UUID.randomUUID().toString();
@@ -96,19 +231,29 @@ public class BillingController {
         }
     }
     
-    @Operation(summary = "Get all bills", description = "Retrieves all bills with pagination")
+    @Operation(summary = "Get all bills", description = "Retrieves all bills with pagination. page/limit returns a page with an exact total; passing cursor (empty for the first page) switches to keyset paging in (createdAt, billId) order with nextCursor, and approximateTotal unless skipTotal=true")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Bills retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Bills retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
     @GetMapping("/bills")
     public ResponseEntity<?> getAllBills(
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "20") int limit) {
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean skipTotal) {
         String correlationId = UUID.randomUUID().toString();
         try {
             org.slf4j.MDC.put("correlationId", correlationId);
+            if (cursor != null) {
+                CursorPageDTO<BillDTO> bills = billingService.getBillsAfter(cursor, limit, skipTotal, correlationId);
+                return ResponseEntity.ok(bills);
+            }
             Page<BillDTO> bills = billingService.getAllBillsPaginated(page, limit, correlationId);
             return ResponseEntity.ok(bills);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse("LIST_FAILED", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         } finally {
             org.slf4j.MDC.remove("correlationId");
         }
@@ -178,6 +323,14 @@ public class BillingController {
         }
     }
     
+    private static BillStatus parseStatus(String status) {
+        try {
+            return BillStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown bill status: " + status);
+        }
+    }
+    
     // Inner class for refund request
     @lombok.Data
     @lombok.NoArgsConstructor
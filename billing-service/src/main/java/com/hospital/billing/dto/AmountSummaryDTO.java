@@ -0,0 +1,15 @@
+package com.hospital.billing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountSummaryDTO {
+    private long count;
+    private BigDecimal amount;
+}
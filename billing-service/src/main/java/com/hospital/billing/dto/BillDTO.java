@@ -2,6 +2,7 @@ package com.hospital.billing.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.hospital.billing.model.Bill.BillStatus;
+import com.hospital.billing.model.Bill.BillType;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -17,6 +18,7 @@ public class BillDTO {
     private BigDecimal taxAmount;
     private BigDecimal totalAmount;
     private BillStatus status;
+    private BillType billType;
     private BigDecimal refundAmount;
     private String refundReason;
     
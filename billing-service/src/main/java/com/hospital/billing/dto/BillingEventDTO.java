@@ -2,13 +2,26 @@ package com.hospital.billing.dto;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class BillingEventDTO {
+    private Integer schemaVersion; // Absent in v1 events
+    private String eventId; // Outbox event id, the same on every redelivery; absent in older events
     private Long appointmentId;
     private Long patientId;
     private String eventType; // COMPLETED, CANCELLED, NO_SHOW
     private String correlationId;
+    
+    // v2: snapshot of the appointment when the event was raised
+    private Long doctorId;
+    private String department;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+    private Long statusVersion; // Appointment version after this status change
+    private LocalDateTime cancelledAt; // CANCELLED only: when the patient cancelled; the fee window is measured from it
+    
+    public int effectiveSchemaVersion() {
+        return schemaVersion == null ? 1 : schemaVersion;
+    }
 }
-
-
-
@@ -0,0 +1,25 @@
+package com.hospital.billing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingEventResult {
+    private Long line; // Line (NDJSON) or element (JSON array) number in a streamed import
+    private Long appointmentId;
+    private String eventType;
+    private Status status;
+    private String error;
+    
+    public enum Status {
+        APPLIED,      // Bill created or updated
+        DUPLICATE,    // Already billed, or repeated within the batch
+        IGNORED,      // Unknown event type
+        UNAVAILABLE,  // Appointment Service could not provide the slot start; retry later
+        FAILED,       // Rejected by billing rules or the database
+        INVALID       // Could not be parsed or is missing required fields
+    }
+}
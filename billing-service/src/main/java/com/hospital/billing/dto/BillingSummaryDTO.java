@@ -0,0 +1,26 @@
+package com.hospital.billing.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+public class BillingSummaryDTO {
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime asOf;
+    private long totalBills;
+    private BigDecimal revenue;      // Collected: PAID and REFUNDED bills, net of refunds
+    private BigDecimal outstanding;  // OPEN bills
+    private Map<String, AmountSummaryDTO> byStatus;
+    private Map<String, AmountSummaryDTO> byType;  // Consultations and fees, excluding VOID bills
+    private AmountSummaryDTO refunds;
+    
+    // Only when requested
+    private LocalDate date;
+    private AmountSummaryDTO billedOnDate;  // Non-VOID bills created that day
+    private PatientBalanceDTO patient;
+}
@@ -0,0 +1,16 @@
+package com.hospital.billing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientBalanceDTO {
+    private Long patientId;
+    private BigDecimal outstanding; // OPEN bills
+    private BigDecimal paid;        // PAID and REFUNDED bills, net of refunds
+}
@@ -9,13 +9,19 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills", indexes = {
+    @Index(name = "idx_bill_appointment", columnList = "appointmentId"),
+    @Index(name = "idx_bill_patient", columnList = "patientId"),
+    // Keyset listing order and export date ranges
+    @Index(name = "idx_bill_created_at", columnList = "createdAt, billId")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Bill {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bill_seq")
+    @SequenceGenerator(name = "bill_seq", sequenceName = "bill_seq", allocationSize = 50)
     private Long billId;
     
     @Column(nullable = false)
@@ -46,6 +52,10 @@ public class Bill {
     @Column
     private String refundReason; // Reason for refund
     
+    @Enumerated(EnumType.STRING)
+    @Column
+    private BillType billType = BillType.CONSULTATION; // Null on rows created before bill types existed
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -55,6 +65,9 @@ public class Bill {
         if (status == null) {
             status = BillStatus.OPEN;
         }
+        if (billType == null) {
+            billType = BillType.CONSULTATION;
+        }
     }
     
     public enum BillStatus {
@@ -63,6 +76,12 @@ public class Bill {
         VOID,      // Bill cancelled/voided before payment
         REFUNDED   // Full or partial refund issued
     }
+    
+    public enum BillType {
+        CONSULTATION,      // Completed appointment: consultation, medication and tax
+        CANCELLATION_FEE,  // Cancelled within 2h of the slot
+        NO_SHOW_FEE        // Patient did not show up
+    }
 }
 
 
@@ -0,0 +1,44 @@
+package com.hospital.billing.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One running total behind GET /v1/bills/summary, e.g. all OPEN bills or one patient's paid
+ * amount. Updated in the same transaction as the bill change it reflects, so every replica
+ * reads the same totals.
+ */
+@Entity
+@Table(name = "billing_summary_totals")
+@Data
+@NoArgsConstructor
+public class BillingSummaryTotal implements Persistable<String> {
+    @Id
+    @Column(length = 64)
+    private String bucket; // "status:OPEN", "type:CONSULTATION", "day:2025-01-14", "refunds", "outstanding:<patientId>", "paid:<patientId>"
+    
+    @Column(nullable = false)
+    private long billCount;
+    
+    @Column(nullable = false)
+    private long cents;
+    
+    public BillingSummaryTotal(String bucket, long billCount, long cents) {
+        this.bucket = bucket;
+        this.billCount = billCount;
+        this.cents = cents;
+    }
+    
+    @Override
+    public String getId() {
+        return bucket;
+    }
+    
+    @Override
+    public boolean isNew() {
+        // Rows are inserted once and then only changed by addTo, so save() persists without a lookup
+        return true;
+    }
+}
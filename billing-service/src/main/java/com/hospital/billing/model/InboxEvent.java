@@ -0,0 +1,61 @@
+package com.hospital.billing.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A billing event accepted by POST /v1/billing-events and not yet applied. Written before the
+ * request is answered, deleted once the event has been applied, kept as FAILED if it is dropped.
+ */
+@Entity
+@Table(name = "billing_event_inbox", indexes = {
+    @Index(name = "idx_inbox_status_claimed", columnList = "status, claimedUntil"),
+    @Index(name = "idx_inbox_claim_token", columnList = "claimToken")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inbox_seq")
+    @SequenceGenerator(name = "inbox_seq", sequenceName = "inbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long appointmentId;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload; // The event as received, JSON
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InboxStatus status = InboxStatus.PENDING;
+    
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime claimedUntil; // The replica that queued the event owns it until then
+    
+    @Column(length = 36)
+    private String claimToken; // Set when a sweep takes the event over
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    @PrePersist
+    protected void onCreate() {
+        receivedAt = LocalDateTime.now();
+        if (status == null) {
+            status = InboxStatus.PENDING;
+        }
+    }
+    
+    public enum InboxStatus {
+        PENDING, FAILED
+    }
+}
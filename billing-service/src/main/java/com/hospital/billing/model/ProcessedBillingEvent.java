@@ -0,0 +1,48 @@
+package com.hospital.billing.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The eventId of a billing event that has been applied, written in the same transaction as its
+ * bill change. The primary key makes a redelivered event fail to insert, even when two
+ * replicas receive it at the same time.
+ */
+@Entity
+@Table(name = "processed_billing_events", indexes = {
+    @Index(name = "idx_processed_event_at", columnList = "processedAt")
+})
+@Data
+@NoArgsConstructor
+public class ProcessedBillingEvent implements Persistable<String> {
+    @Id
+    @Column(length = 36)
+    private String eventId;
+    
+    @Column(nullable = false)
+    private Long appointmentId;
+    
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+    
+    public ProcessedBillingEvent(String eventId, Long appointmentId) {
+        this.eventId = eventId;
+        this.appointmentId = appointmentId;
+        this.processedAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public String getId() {
+        return eventId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        // Only ever inserted, so save() persists without looking the id up first
+        return true;
+    }
+}
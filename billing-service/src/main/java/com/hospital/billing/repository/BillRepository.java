@@ -2,9 +2,14 @@ package com.hospital.billing.repository;
 
 import com.hospital.billing.model.Bill;
 import com.hospital.billing.model.Bill.BillStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +19,21 @@ public interface BillRepository extends JpaRepository<Bill, Long> {
     
     Optional<Bill> findByAppointmentId(Long appointmentId);
     
+    List<Bill> findByAppointmentIdIn(Collection<Long> appointmentIds);
+    
     List<Bill> findByStatus(BillStatus status);
+    
+    // Keyset page: bills after (afterCreatedAt, afterId) in (createdAt, billId) order, no COUNT.
+    // The plain createdAt >= bound is what lets the index range scan start at the cursor.
+    @Query("SELECT b FROM Bill b WHERE b.createdAt >= :afterCreatedAt AND " +
+           "(b.createdAt > :afterCreatedAt OR b.billId > :afterId) ORDER BY b.createdAt, b.billId")
+    List<Bill> findPageAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt, @Param("afterId") Long afterId,
+                             Pageable pageable);
+    
+    // Summary rebuild: only the columns the aggregates need, keyset-paged by id
+    @Query("SELECT b.billId, b.patientId, b.createdAt, b.status, b.billType, b.totalAmount, b.refundAmount " +
+           "FROM Bill b WHERE b.billId > :afterId ORDER BY b.billId")
+    List<Object[]> findSummaryRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
 
 
@@ -0,0 +1,20 @@
+package com.hospital.billing.repository;
+
+import com.hospital.billing.model.BillingSummaryTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BillingSummaryTotalRepository extends JpaRepository<BillingSummaryTotal, String> {
+    /**
+     * Adds to a total in place (the row stays locked until the caller commits). Returns 0 if
+     * the bucket has no row yet.
+     */
+    @Modifying
+    @Query("UPDATE BillingSummaryTotal t SET t.billCount = t.billCount + :count, t.cents = t.cents + :cents " +
+           "WHERE t.bucket = :bucket")
+    int addTo(@Param("bucket") String bucket, @Param("count") long count, @Param("cents") long cents);
+}
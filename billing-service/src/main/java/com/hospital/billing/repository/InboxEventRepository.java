@@ -0,0 +1,49 @@
+package com.hospital.billing.repository;
+
+import com.hospital.billing.model.InboxEvent;
+import com.hospital.billing.model.InboxEvent.InboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InboxEventRepository extends JpaRepository<InboxEvent, Long> {
+    @Query("SELECT i.id FROM InboxEvent i WHERE i.status = 'PENDING' AND i.claimedUntil < :now ORDER BY i.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * Takes over events whose owner let the claim lapse (stopped, crashed, or never queued them).
+     * The conditions are re-checked row by row, so two replicas sweeping at once don't both win.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE InboxEvent i SET i.claimToken = :token, i.claimedUntil = :until " +
+           "WHERE i.id IN :ids AND i.status = 'PENDING' AND i.claimedUntil < :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+    
+    List<InboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+    
+    /**
+     * Hands events back for the next sweep on any replica, e.g. on shutdown.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE InboxEvent i SET i.claimedUntil = :now WHERE i.id IN :ids AND i.status = 'PENDING'")
+    int release(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE InboxEvent i SET i.status = 'FAILED', i.lastError = :error WHERE i.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+    
+    long countByStatus(InboxStatus status);
+}
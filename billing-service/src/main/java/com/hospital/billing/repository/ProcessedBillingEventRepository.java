@@ -0,0 +1,24 @@
+package com.hospital.billing.repository;
+
+import com.hospital.billing.model.ProcessedBillingEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessedBillingEventRepository extends JpaRepository<ProcessedBillingEvent, String> {
+    @Query("SELECT p.eventId FROM ProcessedBillingEvent p WHERE p.eventId IN :eventIds")
+    List<String> findProcessedIds(@Param("eventIds") Collection<String> eventIds);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProcessedBillingEvent p WHERE p.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,209 @@
+package com.hospital.billing.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.billing.model.Bill;
+import com.hospital.billing.model.Bill.BillStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams bills to an output stream as CSV or NDJSON without loading the result set. Rows are
+ * read through a JDBC cursor with a fixed fetch size, each entity is detached once written, and
+ * output goes through one fixed-size write buffer, so memory use doesn't grow with the export.
+ */
+@Component
+@Slf4j
+public class BillExporter {
+    private static final String CSV_HEADER = "billId,patientId,appointmentId,billType,status,consultationFee,medicationFee,"
+        + "taxAmount,totalAmount,refundAmount,refundReason,createdAt";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Timer exportLatency;
+
+    @Value("${billing.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${billing.export.buffer-bytes:65536}")
+    private int bufferBytes;
+
+    public BillExporter(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.exportLatency = Timer.builder("billing_export_latency_ms")
+                .description("Time to stream one bill export")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+    }
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new RuntimeException("Unsupported export format: " + value + " (use csv or ndjson)");
+        }
+    }
+
+    /**
+     * Writes every bill created in [from, to) with the given status (any when null), in bill id
+     * order. Returns the number of bills written. Runs in its own read-only transaction.
+     */
+    public long export(LocalDateTime from, LocalDateTime to, BillStatus status, Format format,
+                       OutputStream out) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferBytes);
+        try {
+            Long rows = readOnlyTransaction.execute(tx -> {
+                try (Stream<Bill> bills = query(from, to, status).getResultStream()) {
+                    return format == Format.CSV ? writeCsv(bills.iterator(), writer) : writeNdjson(bills.iterator(), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            Counter.builder("billing_export_rows_total")
+                    .description("Bills written by the export endpoint")
+                    .tag("service", "billing-service")
+                    .tag("format", format.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment(rows);
+            return rows;
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        } finally {
+            sample.stop(exportLatency);
+        }
+    }
+
+    private TypedQuery<Bill> query(LocalDateTime from, LocalDateTime to, BillStatus status) {
+        StringBuilder jpql = new StringBuilder("SELECT b FROM Bill b WHERE 1 = 1");
+        if (from != null) {
+            jpql.append(" AND b.createdAt >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND b.createdAt < :to");
+        }
+        if (status != null) {
+            jpql.append(" AND b.status = :status");
+        }
+        jpql.append(" ORDER BY b.billId");
+        TypedQuery<Bill> query = entityManager.createQuery(jpql.toString(), Bill.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setHint(HibernateHints.HINT_CACHEABLE, false);
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        return query;
+    }
+
+    private long writeCsv(Iterator<Bill> bills, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        StringBuilder line = new StringBuilder(256);
+        long rows = 0;
+        while (bills.hasNext()) {
+            Bill bill = bills.next();
+            line.setLength(0);
+            line.append(bill.getBillId()).append(',')
+                .append(bill.getPatientId()).append(',')
+                .append(bill.getAppointmentId()).append(',')
+                .append(bill.getBillType() == null ? "" : bill.getBillType().name()).append(',')
+                .append(bill.getStatus().name()).append(',')
+                .append(plain(bill.getConsultationFee())).append(',')
+                .append(plain(bill.getMedicationFee())).append(',')
+                .append(plain(bill.getTaxAmount())).append(',')
+                .append(plain(bill.getTotalAmount())).append(',')
+                .append(plain(bill.getRefundAmount())).append(',');
+            appendCsvField(line, bill.getRefundReason());
+            line.append(',').append(bill.getCreatedAt()).append('\n');
+            writer.append(line);
+            entityManager.detach(bill);
+            rows++;
+        }
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Bill> bills, Writer writer) throws IOException {
+        // Not closed: that would close the response stream before the final flush
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        long rows = 0;
+        while (bills.hasNext()) {
+            Bill bill = bills.next();
+            json.writeStartObject();
+            json.writeNumberField("billId", bill.getBillId());
+            json.writeNumberField("patientId", bill.getPatientId());
+            json.writeNumberField("appointmentId", bill.getAppointmentId());
+            json.writeStringField("billType", bill.getBillType() == null ? null : bill.getBillType().name());
+            json.writeStringField("status", bill.getStatus().name());
+            json.writeNumberField("consultationFee", bill.getConsultationFee());
+            json.writeNumberField("medicationFee", bill.getMedicationFee());
+            json.writeNumberField("taxAmount", bill.getTaxAmount());
+            json.writeNumberField("totalAmount", bill.getTotalAmount());
+            json.writeNumberField("refundAmount", bill.getRefundAmount());
+            json.writeStringField("refundReason", bill.getRefundReason());
+            json.writeStringField("createdAt", bill.getCreatedAt().toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            entityManager.detach(bill);
+            rows++;
+        }
+        json.flush();
+        return rows;
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount == null ? "" : amount.toPlainString();
+    }
+
+    private static void appendCsvField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
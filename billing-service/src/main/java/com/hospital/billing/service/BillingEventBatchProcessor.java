@@ -0,0 +1,167 @@
+package com.hospital.billing.service;
+
+import com.hospital.billing.config.DownstreamUnavailableException;
+import com.hospital.billing.dto.BillingEventDTO;
+import com.hospital.billing.dto.BillingEventResult;
+import com.hospital.billing.dto.BillingEventResult.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies a batch of billing events in one transaction, shared by the queued ingestion path
+ * and the streaming import. Repeats of the same (appointmentId, eventType) within a batch, and
+ * events whose eventId was already processed, are reported as duplicates. If the transaction fails, the events are applied again one per
+ * transaction so a single bad event doesn't take the others down with it.
+ * CANCELLED events use the slot start they carry (schema v2); only v1 events fall back to a
+ * lookup in Appointment Service.
+ */
+@Component
+@Slf4j
+public class BillingEventBatchProcessor {
+    private final BillingService billingService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchLatency;
+    private final DistributionSummary batchSize;
+
+    public BillingEventBatchProcessor(BillingService billingService, PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.billingService = billingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchLatency = Timer.builder("billing_event_batch_latency_ms")
+                .description("Time to apply one batch of billing events")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("billing_event_batch_size")
+                .description("Billing events per applied batch, after de-duplication")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns why the event can't be processed, or null if it has the required fields.
+     */
+    public static String validate(BillingEventDTO event) {
+        if (event == null || event.getAppointmentId() == null || event.getEventType() == null) {
+            return "appointmentId and eventType are required";
+        }
+        return null;
+    }
+
+    /**
+     * Applies the events and returns one result per event, in input order. CANCELLED events
+     * whose slot start can't be fetched come back UNAVAILABLE, for the caller to retry.
+     */
+    public List<BillingEventResult> apply(List<BillingEventDTO> events) {
+        BillingEventResult[] results = new BillingEventResult[events.size()];
+        events.forEach(event -> schemaCounter(event).increment());
+        Set<String> seen = new HashSet<>();
+        // Remote lookups happen before the transaction opens, so no connection is held meanwhile
+        Map<Long, LocalDateTime> slotStarts = new HashMap<>();
+        List<Integer> ready = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            BillingEventDTO event = events.get(i);
+            if (!seen.add(event.getAppointmentId() + ":" + event.getEventType())) {
+                results[i] = result(event, Status.DUPLICATE, null);
+                continue;
+            }
+            if ("CANCELLED".equals(event.getEventType()) && !slotStarts.containsKey(event.getAppointmentId())) {
+                if (event.getSlotStart() != null) {
+                    slotStarts.put(event.getAppointmentId(), event.getSlotStart());
+                } else {
+                    // v1 events carry no slot start; ask Appointment Service for it
+                    slotStartCallback(event).increment();
+                    try {
+                        slotStarts.put(event.getAppointmentId(), billingService.resolveSlotStart(event.getAppointmentId()));
+                    } catch (DownstreamUnavailableException e) {
+                        results[i] = result(event, Status.UNAVAILABLE, e.getMessage());
+                        continue;
+                    } catch (RuntimeException e) {
+                        results[i] = result(event, Status.FAILED, e.getMessage());
+                        continue;
+                    }
+                }
+            }
+            ready.add(i);
+        }
+
+        if (!ready.isEmpty()) {
+            batchSize.record(ready.size());
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                List<Status> statuses = transactionTemplate.execute(tx ->
+                    billingService.applyBillingEvents(ready.stream().map(events::get).toList(), slotStarts));
+                for (int j = 0; j < ready.size(); j++) {
+                    results[ready.get(j)] = result(events.get(ready.get(j)), statuses.get(j), null);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Billing event batch of {} failed, applying events one at a time: {}", ready.size(), e.getMessage());
+                for (int index : ready) {
+                    BillingEventDTO event = events.get(index);
+                    try {
+                        List<Status> statuses = transactionTemplate.execute(tx ->
+                            billingService.applyBillingEvents(List.of(event), slotStarts));
+                        results[index] = result(event, statuses.get(0), null);
+                    } catch (DataIntegrityViolationException duplicate) {
+                        // Another replica recorded the same eventId first
+                        results[index] = result(event, event.getEventId() != null ? Status.DUPLICATE : Status.FAILED,
+                            duplicate.getMessage());
+                    } catch (RuntimeException single) {
+                        results[index] = result(event, Status.FAILED, single.getMessage());
+                    }
+                }
+            } finally {
+                sample.stop(batchLatency);
+            }
+        }
+
+        List<BillingEventResult> resultList = Arrays.asList(results);
+        resultList.forEach(result -> outcomeCounter(result.getStatus()).increment());
+        return resultList;
+    }
+
+    private static BillingEventResult result(BillingEventDTO event, Status status, String error) {
+        return new BillingEventResult(null, event.getAppointmentId(), event.getEventType(), status, error);
+    }
+
+    private Counter schemaCounter(BillingEventDTO event) {
+        return Counter.builder("billing_events_by_schema_total")
+                .description("Billing events received by schema version")
+                .tag("service", "billing-service")
+                .tag("schema_version", String.valueOf(event.effectiveSchemaVersion()))
+                .register(meterRegistry);
+    }
+
+    private Counter slotStartCallback(BillingEventDTO event) {
+        return Counter.builder("billing_event_slot_start_callbacks_total")
+                .description("CANCELLED events that needed a callback to Appointment Service for the slot start")
+                .tag("service", "billing-service")
+                .tag("schema_version", String.valueOf(event.effectiveSchemaVersion()))
+                .register(meterRegistry);
+    }
+
+    private Counter outcomeCounter(Status status) {
+        return Counter.builder("billing_events_processed_total")
+                .description("Billing events by processing outcome")
+                .tag("service", "billing-service")
+                .tag("outcome", status.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,304 @@
+package com.hospital.billing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.billing.dto.BillingEventDTO;
+import com.hospital.billing.dto.BillingEventResult;
+import com.hospital.billing.model.InboxEvent;
+import com.hospital.billing.model.InboxEvent.InboxStatus;
+import com.hospital.billing.repository.InboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accepts billing events and applies them asynchronously in micro-batches through
+ * {@link BillingEventBatchProcessor}, one transaction per batch. Events are partitioned by
+ * appointment id, one queue and worker thread per partition, so events of one appointment are
+ * applied in order and never by two workers at once.
+ * <p>
+ * An event is written to the billing_event_inbox table before it is acknowledged, so the 202
+ * means the event is durable: the sender's outbox stops retrying at that point. The in-memory
+ * queues only carry inbox rows to the workers. A row belongs to the replica that received it
+ * until billing.ingest.inbox-lease-ms runs out; rows left behind by a replica that stopped or
+ * crashed, or that didn't fit in the queue, are picked up by the inbox sweep on any replica.
+ * A row can therefore be applied twice, which the eventId check in {@link BillingService} absorbs.
+ */
+@Component
+@Slf4j
+public class BillingEventIngestor {
+    private final BillingEventBatchProcessor batchProcessor;
+    private final InboxEventRepository inboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong inboxPending = new AtomicLong();
+    private final List<BlockingQueue<QueuedEvent>> partitions = new ArrayList<>();
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    @Value("${billing.ingest.batch-size:200}")
+    private int maxBatchSize;
+
+    @Value("${billing.ingest.slot-lookup-retry-delay-ms:5000}")
+    private long slotLookupRetryDelayMs;
+
+    @Value("${billing.ingest.slot-lookup-max-attempts:5}")
+    private int slotLookupMaxAttempts;
+
+    @Value("${billing.ingest.inbox-lease-ms:300000}")
+    private long inboxLeaseMs;
+
+    public BillingEventIngestor(BillingEventBatchProcessor batchProcessor, InboxEventRepository inboxEventRepository,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${billing.ingest.workers:2}") int workerCount,
+                                @Value("${billing.ingest.queue-capacity:10000}") int queueCapacity) {
+        this.batchProcessor = batchProcessor;
+        this.inboxEventRepository = inboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        int count = Math.max(1, workerCount);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayBlockingQueue<>(Math.max(1, queueCapacity / count)));
+        }
+        Gauge.builder("billing_event_queue_depth", this, BillingEventIngestor::depth)
+                .description("Billing events accepted but not yet applied")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+        Gauge.builder("billing_event_queue_oldest_age_seconds", this, BillingEventIngestor::oldestAgeSeconds)
+                .description("How long the oldest queued billing event has been waiting")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+        Gauge.builder("billing_event_inbox_pending", inboxPending, AtomicLong::get)
+                .description("Billing events in the inbox table not yet applied, across replicas")
+                .tag("service", "billing-service")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newFixedThreadPool(partitions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "billing-ingest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (BlockingQueue<QueuedEvent> partition : partitions) {
+            workers.submit(() -> drain(partition));
+        }
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "billing-ingest-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stores the event in the inbox and queues it for asynchronous processing. Returns false,
+     * without storing it, if its partition is full or the service is stopping; the sender
+     * should then retry. Fails with a DataAccessException if the inbox can't be written.
+     */
+    public boolean submit(BillingEventDTO event) {
+        String invalid = BillingEventBatchProcessor.validate(event);
+        if (invalid != null) {
+            throw new RuntimeException(invalid);
+        }
+        BlockingQueue<QueuedEvent> partition = partition(event.getAppointmentId());
+        if (!running || partition.remainingCapacity() == 0) {
+            outcomeCounter("queue_full").increment();
+            return false;
+        }
+        InboxEvent row = new InboxEvent();
+        row.setAppointmentId(event.getAppointmentId());
+        try {
+            row.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable billing event: " + e.getMessage(), e);
+        }
+        row.setClaimedUntil(LocalDateTime.now().plusNanos(inboxLeaseMs * 1_000_000));
+        row = inboxEventRepository.save(row);
+        if (!partition.offer(new QueuedEvent(event, row.getId(), System.currentTimeMillis(), 0))) {
+            // Filled up meanwhile; the event is stored, so leave it to the next sweep
+            inboxEventRepository.release(List.of(row.getId()), LocalDateTime.now());
+        }
+        outcomeCounter("accepted").increment();
+        return true;
+    }
+
+    /**
+     * Queues inbox rows nobody owns any more: events of a replica that stopped or crashed, and
+     * events that were stored but didn't fit in the queue.
+     */
+    @Scheduled(fixedDelayString = "${billing.ingest.inbox-sweep-interval-ms:10000}",
+               initialDelayString = "${billing.ingest.inbox-sweep-interval-ms:10000}")
+    public void sweepInbox() {
+        try {
+            inboxPending.set(inboxEventRepository.countByStatus(InboxStatus.PENDING));
+            int room = partitions.stream().mapToInt(BlockingQueue::remainingCapacity).min().orElse(0);
+            if (!running || room == 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = inboxEventRepository.findClaimableIds(now, PageRequest.of(0, Math.min(room, maxBatchSize)));
+            if (ids.isEmpty()) {
+                return;
+            }
+            String token = UUID.randomUUID().toString();
+            if (inboxEventRepository.claim(ids, token, now.plusNanos(inboxLeaseMs * 1_000_000), now) == 0) {
+                return;
+            }
+            List<Long> unqueued = new ArrayList<>();
+            for (InboxEvent row : inboxEventRepository.findByClaimTokenOrderByIdAsc(token)) {
+                BillingEventDTO event;
+                try {
+                    event = objectMapper.readValue(row.getPayload(), BillingEventDTO.class);
+                } catch (JsonProcessingException e) {
+                    inboxEventRepository.markFailed(row.getId(), truncate(e.getMessage()));
+                    continue;
+                }
+                if (!partition(event.getAppointmentId()).offer(new QueuedEvent(event, row.getId(), System.currentTimeMillis(), 0))) {
+                    unqueued.add(row.getId());
+                }
+            }
+            if (!unqueued.isEmpty()) {
+                inboxEventRepository.release(unqueued, now);
+            }
+            outcomeCounter("recovered").increment(ids.size() - unqueued.size());
+        } catch (Exception e) {
+            log.warn("Billing event inbox sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Workers finish what is already queued before exiting
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Still in the inbox: hand them to the other replicas instead of waiting out the lease
+            List<Long> left = partitions.stream().flatMap(BlockingQueue::stream).map(QueuedEvent::inboxId).toList();
+            log.warn("Billing event workers did not drain in time, releasing {} events", left.size());
+            workers.shutdownNow();
+            if (!left.isEmpty()) {
+                inboxEventRepository.release(left, LocalDateTime.now());
+            }
+        }
+    }
+
+    private void drain(BlockingQueue<QueuedEvent> partition) {
+        while (running || !partition.isEmpty()) {
+            try {
+                QueuedEvent first = partition.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<QueuedEvent> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                partition.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Billing event worker failed on a batch: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void process(List<QueuedEvent> batch) {
+        List<BillingEventResult> results = batchProcessor.apply(batch.stream().map(QueuedEvent::event).toList());
+        List<Long> done = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            BillingEventResult result = results.get(i);
+            switch (result.getStatus()) {
+                case UNAVAILABLE -> retryLater(batch.get(i), result.getError());
+                case FAILED -> dropped(batch.get(i), result.getError());
+                default -> done.add(batch.get(i).inboxId());
+            }
+        }
+        if (!done.isEmpty()) {
+            inboxEventRepository.deleteAllByIdInBatch(done);
+        }
+    }
+
+    private void retryLater(QueuedEvent queued, String error) {
+        int attempts = queued.attempts() + 1;
+        if (attempts >= slotLookupMaxAttempts || !running) {
+            dropped(queued, error);
+            return;
+        }
+        outcomeCounter("retried").increment();
+        log.warn("Billing event {} for appointment {} deferred (attempt {}): {}", queued.event().getEventType(),
+                 queued.event().getAppointmentId(), attempts, error);
+        retryScheduler.schedule(() -> {
+            QueuedEvent retry = new QueuedEvent(queued.event(), queued.inboxId(), queued.enqueuedAt(), attempts);
+            if (!partition(retry.event().getAppointmentId()).offer(retry)) {
+                // Still in the inbox; the next sweep queues it again
+                inboxEventRepository.release(List.of(retry.inboxId()), LocalDateTime.now());
+            }
+        }, slotLookupRetryDelayMs * attempts, TimeUnit.MILLISECONDS);
+    }
+
+    private void dropped(QueuedEvent queued, String error) {
+        outcomeCounter("dropped").increment();
+        log.error("Billing event {} for appointment {} dropped: {}", queued.event().getEventType(),
+                  queued.event().getAppointmentId(), error);
+        // Kept as FAILED for inspection and manual replay
+        inboxEventRepository.markFailed(queued.inboxId(), truncate(error));
+    }
+
+    private BlockingQueue<QueuedEvent> partition(Long appointmentId) {
+        return partitions.get(Math.floorMod(appointmentId.hashCode(), partitions.size()));
+    }
+
+    private double depth() {
+        return partitions.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private double oldestAgeSeconds() {
+        long now = System.currentTimeMillis();
+        return partitions.stream()
+            .map(BlockingQueue::peek)
+            .filter(queued -> queued != null)
+            .mapToLong(queued -> now - queued.enqueuedAt())
+            .max()
+            .orElse(0L) / 1000.0;
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("billing_events_ingested_total")
+                .description("Billing events by ingestion outcome (accepted, queue_full, retried, recovered, dropped)")
+                .tag("service", "billing-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private record QueuedEvent(BillingEventDTO event, Long inboxId, long enqueuedAt, int attempts) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.hospital.billing.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hospital.billing.dto.BillingEventDTO;
+import com.hospital.billing.dto.BillingEventResult;
+import com.hospital.billing.dto.BillingEventResult.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports a stream of billing events for replays and backfills. The body is either NDJSON
+ * (one event per line) or a JSON array of events, read incrementally so it is never held in
+ * memory as a whole. Events are applied in chunks, one transaction per chunk, and one NDJSON
+ * result per event is written and flushed as each chunk commits.
+ */
+@Component
+@Slf4j
+public class BillingEventStreamImporter {
+    private final BillingEventBatchProcessor batchProcessor;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+    private final ObjectWriter resultWriter;
+
+    @Value("${billing.stream.chunk-size:500}")
+    private int chunkSize;
+
+    public BillingEventStreamImporter(BillingEventBatchProcessor batchProcessor, ObjectMapper objectMapper) {
+        this.batchProcessor = batchProcessor;
+        this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(BillingEventDTO.class);
+        this.resultWriter = objectMapper.writerFor(BillingEventResult.class);
+    }
+
+    /**
+     * Reads, applies and reports every event in the body. Returns the number of events read.
+     */
+    public long importStream(InputStream body, OutputStream out) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(body);
+        Chunk chunk = new Chunk(out);
+        long count = firstNonWhitespace(input) == '[' ? readArray(input, chunk) : readLines(input, chunk);
+        chunk.flush();
+        return count;
+    }
+
+    private long readLines(InputStream input, Chunk chunk) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        long count = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            count++;
+            try {
+                chunk.add(lineNumber, eventReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                chunk.addInvalid(lineNumber, null, e.getOriginalMessage());
+            }
+        }
+        return count;
+    }
+
+    private long readArray(InputStream input, Chunk chunk) throws IOException {
+        long element = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            parser.nextToken(); // START_ARRAY
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                element++;
+                if (token == null) {
+                    chunk.addInvalid(element, null, "Unexpected end of input, array not closed");
+                    return element - 1;
+                }
+                // Parse each element to a tree first, so a wrong field type only rejects that element
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    chunk.add(element, objectMapper.treeToValue(node, BillingEventDTO.class));
+                } catch (JsonProcessingException e) {
+                    chunk.addInvalid(element, null, e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Malformed JSON: the parser can't resynchronize, so report it and stop
+            chunk.addInvalid(element, null, e.getOriginalMessage());
+        }
+        return element;
+    }
+
+    private static int firstNonWhitespace(BufferedInputStream input) throws IOException {
+        while (true) {
+            input.mark(1);
+            int next = input.read();
+            if (next == -1 || !Character.isWhitespace(next)) {
+                input.reset();
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Events read since the last flush, applied together once chunk-size events have arrived.
+     */
+    private final class Chunk {
+        private final OutputStream out;
+        private final List<Long> lines = new ArrayList<>();
+        private final List<BillingEventDTO> events = new ArrayList<>();
+        private final List<BillingEventResult> invalid = new ArrayList<>();
+
+        private Chunk(OutputStream out) {
+            this.out = out;
+        }
+
+        void add(long line, BillingEventDTO event) throws IOException {
+            String error = BillingEventBatchProcessor.validate(event);
+            if (error != null) {
+                addInvalid(line, event, error);
+                return;
+            }
+            lines.add(line);
+            events.add(event);
+            if (events.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void addInvalid(long line, BillingEventDTO event, String error) {
+            invalid.add(new BillingEventResult(line,
+                event == null ? null : event.getAppointmentId(),
+                event == null ? null : event.getEventType(),
+                Status.INVALID, error));
+        }
+
+        void flush() throws IOException {
+            for (BillingEventResult result : invalid) {
+                write(result);
+            }
+            invalid.clear();
+            if (!events.isEmpty()) {
+                List<BillingEventResult> results = batchProcessor.apply(events);
+                for (int i = 0; i < results.size(); i++) {
+                    BillingEventResult result = results.get(i);
+                    result.setLine(lines.get(i));
+                    write(result);
+                }
+                lines.clear();
+                events.clear();
+            }
+            out.flush();
+        }
+
+        private void write(BillingEventResult result) throws IOException {
+            out.write(resultWriter.writeValueAsBytes(result));
+            out.write('\n');
+        }
+    }
+}
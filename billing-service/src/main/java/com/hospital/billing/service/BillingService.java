@@ -1,17 +1,27 @@
 package com.hospital.billing.service;
 
+import com.hospital.billing.config.DownstreamClients;
+import com.hospital.billing.config.DownstreamUnavailableException;
 import com.hospital.billing.dto.BillDTO;
 import com.hospital.billing.dto.BillingEventDTO;
+import com.hospital.billing.dto.BillingEventResult;
+import com.hospital.billing.dto.CursorPageDTO;
 import com.hospital.billing.model.Bill;
 import com.hospital.billing.model.Bill.BillStatus;
+import com.hospital.billing.model.Bill.BillType;
+import com.hospital.billing.model.ProcessedBillingEvent;
 import com.hospital.billing.repository.BillRepository;
+import com.hospital.billing.repository.ProcessedBillingEventRepository;
+import com.hospital.billing.service.BillingSummaryAggregator.BillSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,8 +29,13 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,12 +43,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BillingService {
     private final BillRepository billRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final ProcessedBillingEventRepository processedEventRepository;
+    private final DownstreamClients downstreamClients;
+    private final BillingSummaryAggregator summaryAggregator;
     private final Counter billsCreatedCounter;
     private final Timer billCreationLatency;
     private final Counter cancellationFeesChargedCounter;
     private final Counter noShowFeesChargedCounter;
+    private final Counter slotStartUnavailableCounter;
     
+    @Value("${billing.dedup.retention-hours:168}")
+    private long dedupRetentionHours;
+    
+    private static final int MAX_PAGE_SIZE = 100;
     private static final BigDecimal TAX_RATE = new BigDecimal("0.05"); // 5% tax
     private static final BigDecimal CONSULTATION_FEE = new BigDecimal("500.00");
     private static final BigDecimal CANCELLATION_FEE_RATE = new BigDecimal("0.50"); // 50% if cancelled within 2h
@@ -43,18 +65,17 @@ public class BillingService {
     public BillDTO createBillForCompletedAppointment(Long appointmentId, Long patientId, String correlationId) {
         log.info("Creating bill for completed appointment - ID: {}", appointmentId);
         
+        Bill existingBill = billRepository.findByAppointmentId(appointmentId).orElse(null);
         return billCreationLatency.record(() -> {
-            return doCreateBill(appointmentId, patientId, correlationId);
+            return doCreateBill(appointmentId, patientId, existingBill, correlationId);
         });
     }
     
-    @Transactional
-    private BillDTO doCreateBill(Long appointmentId, Long patientId, String correlationId) {
+    private BillDTO doCreateBill(Long appointmentId, Long patientId, Bill existingBill, String correlationId) {
         // Check if bill already exists
-        billRepository.findByAppointmentId(appointmentId)
-            .ifPresent(bill -> {
-                throw new RuntimeException("Bill already exists for this appointment");
-            });
+        if (existingBill != null) {
+            throw new RuntimeException("Bill already exists for this appointment");
+        }
         
         // Get prescription medications (would call prescription service)
         BigDecimal medicationFee = getMedicationFee(appointmentId);
@@ -73,8 +94,10 @@ public class BillingService {
         bill.setTaxAmount(taxAmount);
         bill.setTotalAmount(totalAmount);
         bill.setStatus(BillStatus.OPEN);
+        bill.setBillType(BillType.CONSULTATION);
         
         bill = billRepository.save(bill);
+        summaryAggregator.record(null, BillSnapshot.of(bill));
         log.info("Bill created - ID: {}, Total: {}", bill.getBillId(), bill.getTotalAmount());
         
         // Record metrics
@@ -84,23 +107,35 @@ public class BillingService {
     }
     
     @Transactional
-    public BillDTO handleCancellation(Long appointmentId, Long patientId, LocalDateTime slotStart, String correlationId) {
-        log.info("Handling cancellation for appointment - ID: {}, Patient: {}", appointmentId, patientId);
-        
-        // Calculate hours until appointment
-        LocalDateTime now = LocalDateTime.now();
-        long hoursUntilStart = java.time.Duration.between(now, slotStart).toHours();
-        
+    public BillDTO handleCancellation(Long appointmentId, Long patientId, LocalDateTime slotStart,
+                                      LocalDateTime cancelledAt, String correlationId) {
         // Find existing bill for this appointment
         Bill existingBill = billRepository.findByAppointmentId(appointmentId).orElse(null);
+        return applyCancellation(appointmentId, patientId, slotStart, cancelledAt, existingBill, correlationId);
+    }
+    
+    /**
+     * The fee depends on how long before the slot the patient cancelled. cancelledAt comes with the
+     * event, so a queued or redelivered event is charged the same as one applied at once; only
+     * events from before cancelledAt existed fall back to the processing time.
+     */
+    private BillDTO applyCancellation(Long appointmentId, Long patientId, LocalDateTime slotStart,
+                                      LocalDateTime cancelledAt, Bill existingBill, String correlationId) {
+        log.info("Handling cancellation for appointment - ID: {}, Patient: {}", appointmentId, patientId);
+        
+        // Calculate hours until appointment, as of the cancellation
+        LocalDateTime cancelled = cancelledAt != null ? cancelledAt : LocalDateTime.now();
+        long hoursUntilStart = java.time.Duration.between(cancelled, slotStart).toHours();
         
         if (hoursUntilStart > 2) {
             // Cancel > 2h before start → full refund/void
             if (existingBill != null) {
                 if (existingBill.getStatus() == BillStatus.OPEN) {
                     // Void the bill
+                    BillSnapshot before = BillSnapshot.of(existingBill);
                     existingBill.setStatus(BillStatus.VOID);
                     billRepository.save(existingBill);
+                    summaryAggregator.record(before, BillSnapshot.of(existingBill));
                     log.info("Bill voided due to cancellation > 2h before start - Bill ID: {}", existingBill.getBillId());
                     return toDTO(existingBill);
                 } else if (existingBill.getStatus() == BillStatus.PAID) {
@@ -116,13 +151,16 @@ public class BillingService {
             BigDecimal cancellationFee = CONSULTATION_FEE.multiply(CANCELLATION_FEE_RATE);
             
             Bill bill;
+            BillSnapshot before = null;
             if (existingBill != null && existingBill.getStatus() == BillStatus.OPEN) {
                 // Update existing bill with cancellation fee
+                before = BillSnapshot.of(existingBill);
                 bill = existingBill;
                 bill.setConsultationFee(cancellationFee);
                 bill.setMedicationFee(BigDecimal.ZERO);
                 bill.setTaxAmount(BigDecimal.ZERO);
                 bill.setTotalAmount(cancellationFee);
+                bill.setBillType(BillType.CANCELLATION_FEE);
             } else if (existingBill != null && existingBill.getStatus() == BillStatus.PAID) {
                 // Bill already paid, create adjustment or process partial refund
                 // For simplicity, we'll process a partial refund
@@ -140,6 +178,7 @@ public class BillingService {
                 bill.setTaxAmount(BigDecimal.ZERO);
                 bill.setTotalAmount(cancellationFee);
                 bill.setStatus(BillStatus.OPEN);
+                bill.setBillType(BillType.CANCELLATION_FEE);
             } else {
                 // Create new cancellation fee bill
                 bill = new Bill();
@@ -150,9 +189,11 @@ public class BillingService {
                 bill.setTaxAmount(BigDecimal.ZERO);
                 bill.setTotalAmount(cancellationFee);
                 bill.setStatus(BillStatus.OPEN);
+                bill.setBillType(BillType.CANCELLATION_FEE);
             }
             
             bill = billRepository.save(bill);
+            summaryAggregator.record(before, BillSnapshot.of(bill));
             log.info("Cancellation bill created/updated - ID: {}, Fee: {}", bill.getBillId(), cancellationFee);
             
             // Record metrics
@@ -176,8 +217,10 @@ public class BillingService {
         bill.setTaxAmount(BigDecimal.ZERO);
         bill.setTotalAmount(noShowFee);
         bill.setStatus(BillStatus.OPEN);
+        bill.setBillType(BillType.NO_SHOW_FEE);
         
         bill = billRepository.save(bill);
+        summaryAggregator.record(null, BillSnapshot.of(bill));
         log.info("No-show bill created - ID: {}, Fee: {}", bill.getBillId(), noShowFee);
         
         // Record metrics
@@ -186,25 +229,94 @@ public class BillingService {
         return toDTO(bill);
     }
     
-    @Transactional
-    public void processBillingEvent(BillingEventDTO event, String correlationId) {
-        switch (event.getEventType()) {
-            case "COMPLETED":
-                createBillForCompletedAppointment(event.getAppointmentId(), event.getPatientId(), correlationId);
-                break;
-            case "CANCELLED":
-                // Get slotStart from appointment service
-                LocalDateTime slotStart = getAppointmentSlotStart(event.getAppointmentId());
-                handleCancellation(event.getAppointmentId(), event.getPatientId(), slotStart, correlationId);
-                break;
-            case "NO_SHOW":
-                handleNoShow(event.getAppointmentId(), event.getPatientId(), correlationId);
-                break;
-            default:
-                log.warn("Unknown event type: {}", event.getEventType());
+    /**
+     * Applies a batch of billing events in the caller's transaction. Existing bills for the whole
+     * batch are loaded with one query up front, so no per-event lookup flushes the pending inserts
+     * and they go out as JDBC batches. Slot starts of CANCELLED events must be resolved beforehand
+     * with {@link #resolveSlotStart}. Events whose eventId was already processed are skipped,
+     * as are COMPLETED and NO_SHOW events for appointments that already have a bill (events
+     * sent before eventIds existed).
+     */
+    public List<BillingEventResult.Status> applyBillingEvents(List<BillingEventDTO> events, Map<Long, LocalDateTime> slotStarts) {
+        List<String> eventIds = events.stream().map(BillingEventDTO::getEventId).filter(Objects::nonNull).distinct().toList();
+        Set<String> processedIds = eventIds.isEmpty()
+            ? new HashSet<>()
+            : new HashSet<>(processedEventRepository.findProcessedIds(eventIds));
+        Map<Long, Bill> billsByAppointment = new HashMap<>();
+        List<Long> appointmentIds = events.stream().map(BillingEventDTO::getAppointmentId).distinct().toList();
+        for (Bill bill : billRepository.findByAppointmentIdIn(appointmentIds)) {
+            // Keep the latest bill, as findByAppointmentId would expect only one
+            billsByAppointment.merge(bill.getAppointmentId(), bill,
+                (current, other) -> current.getBillId() > other.getBillId() ? current : other);
+        }
+        
+        List<BillingEventResult.Status> outcomes = new ArrayList<>(events.size());
+        for (BillingEventDTO event : events) {
+            Long appointmentId = event.getAppointmentId();
+            if (event.getEventId() != null) {
+                if (!processedIds.add(event.getEventId())) {
+                    outcomes.add(BillingEventResult.Status.DUPLICATE);
+                    continue;
+                }
+                // Same transaction as the bill change: a concurrent redelivery on another replica fails on the key
+                processedEventRepository.save(new ProcessedBillingEvent(event.getEventId(), appointmentId));
+            }
+            Bill existingBill = billsByAppointment.get(appointmentId);
+            BillDTO result;
+            switch (event.getEventType()) {
+                case "COMPLETED":
+                    if (existingBill != null) {
+                        outcomes.add(BillingEventResult.Status.DUPLICATE);
+                        continue;
+                    }
+                    result = billCreationLatency.record(() ->
+                        doCreateBill(appointmentId, event.getPatientId(), null, event.getCorrelationId()));
+                    break;
+                case "CANCELLED":
+                    LocalDateTime slotStart = slotStarts.get(appointmentId);
+                    if (slotStart == null) {
+                        throw new RuntimeException("Slot start not resolved for appointment " + appointmentId);
+                    }
+                    result = applyCancellation(appointmentId, event.getPatientId(), slotStart, event.getCancelledAt(),
+                        existingBill, event.getCorrelationId());
+                    break;
+                case "NO_SHOW":
+                    if (existingBill != null) {
+                        outcomes.add(BillingEventResult.Status.DUPLICATE);
+                        continue;
+                    }
+                    result = handleNoShow(appointmentId, event.getPatientId(), event.getCorrelationId());
+                    break;
+                default:
+                    log.warn("Unknown event type: {}", event.getEventType());
+                    outcomes.add(BillingEventResult.Status.IGNORED);
+                    continue;
+            }
+            if (result != null) {
+                // Already in the persistence context, so this doesn't query
+                billsByAppointment.put(appointmentId, billRepository.getReferenceById(result.getBillId()));
+            }
+            outcomes.add(BillingEventResult.Status.APPLIED);
+        }
+        return outcomes;
+    }
+    
+    @Scheduled(fixedDelayString = "${billing.dedup.cleanup-interval-ms:3600000}")
+    public void purgeProcessedEvents() {
+        int deleted = processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(dedupRetentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} processed billing event ids", deleted);
         }
     }
     
+    /**
+     * Fetches the slot start of an appointment from Appointment Service. Throws
+     * {@link DownstreamUnavailableException} when it can't answer, so the event can be retried.
+     */
+    public LocalDateTime resolveSlotStart(Long appointmentId) {
+        return getAppointmentSlotStart(appointmentId);
+    }
+    
     public BillDTO getBill(Long billId, String correlationId) {
         Bill bill = billRepository.findById(billId)
             .orElseThrow(() -> new RuntimeException("Bill not found"));
@@ -227,6 +339,30 @@ public class BillingService {
         return bills.map(this::toDTO);
     }
     
+    /**
+     * Keyset-paged listing in (createdAt, billId) order. An empty cursor starts at the first
+     * page; each page returns the cursor for the next, so deep pages cost the same as the first
+     * and no COUNT runs. The total comes from the summary aggregates, or is left out with skipTotal.
+     */
+    public CursorPageDTO<BillDTO> getBillsAfter(String cursor, int limit, boolean skipTotal, String correlationId) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new RuntimeException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        PageCursor after = cursor.isEmpty() ? PageCursor.FIRST : PageCursor.decode(cursor);
+        
+        // One extra row tells whether there is a next page
+        List<Bill> rows = billRepository.findPageAfter(after.at(), after.id(), PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<Bill> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Bill last = page.get(page.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getBillId()).encode();
+        }
+        Long total = skipTotal ? null : summaryAggregator.totalBills();
+        return new CursorPageDTO<>(page.stream().map(this::toDTO).toList(), nextCursor, hasMore, total);
+    }
+    
     @Transactional
     public BillDTO voidBill(Long billId, String correlationId) {
         Bill bill = billRepository.findById(billId)
@@ -237,8 +373,10 @@ public class BillingService {
             throw new RuntimeException("Cannot void bill with status: " + bill.getStatus());
         }
         
+        BillSnapshot before = BillSnapshot.of(bill);
         bill.setStatus(BillStatus.VOID);
         bill = billRepository.save(bill);
+        summaryAggregator.record(before, BillSnapshot.of(bill));
         log.info("Bill voided - ID: {}", billId);
         
         return toDTO(bill);
@@ -254,8 +392,10 @@ public class BillingService {
             throw new RuntimeException("Cannot mark bill as PAID. Current status: " + bill.getStatus());
         }
         
+        BillSnapshot before = BillSnapshot.of(bill);
         bill.setStatus(BillStatus.PAID);
         bill = billRepository.save(bill);
+        summaryAggregator.record(before, BillSnapshot.of(bill));
         log.info("Bill marked as PAID - ID: {}", billId);
         
         return toDTO(bill);
@@ -280,6 +420,7 @@ public class BillingService {
             throw new RuntimeException("Refund amount cannot exceed bill total amount");
         }
         
+        BillSnapshot before = BillSnapshot.of(bill);
         bill.setRefundAmount(refundAmount);
         bill.setRefundReason(reason);
         
@@ -292,6 +433,7 @@ public class BillingService {
         }
         
         bill = billRepository.save(bill);
+        summaryAggregator.record(before, BillSnapshot.of(bill));
         return toDTO(bill);
     }
     
@@ -319,30 +461,35 @@ public class BillingService {
     }
     
     private LocalDateTime getAppointmentSlotStart(Long appointmentId) {
-        // Call appointment service to get slot start time
+        // The fee depends on how close to the slot the cancellation was, so there is no safe
+        // default: if Appointment Service can't answer, the event is retried later
+        Map<String, Object> appointment;
         try {
-            String appointmentServiceUrl = System.getenv("APPOINTMENT_SERVICE_URL");
-            if (appointmentServiceUrl == null) {
-                appointmentServiceUrl = "http://appointment-service:8003";
-            }
-            
             @SuppressWarnings("unchecked")
-            Map<String, Object> appointment = webClientBuilder.build()
+            Map<String, Object> response = downstreamClients.get(DownstreamClients.APPOINTMENT_SERVICE)
                 .get()
-                .uri(appointmentServiceUrl + "/v1/appointments/{id}", appointmentId)
+                .uri("/v1/appointments/{id}", appointmentId)
                 .retrieve()
                 .bodyToMono(Map.class)
                 .block();
-            
-            if (appointment != null && appointment.containsKey("slotStart")) {
-                String slotStartStr = appointment.get("slotStart").toString();
-                return LocalDateTime.parse(slotStartStr.replace("Z", "").replace("+00:00", ""));
+            appointment = response;
+        } catch (WebClientResponseException.NotFound e) {
+            throw new RuntimeException("Appointment not found: " + appointmentId);
+        } catch (RuntimeException e) {
+            Throwable failure = DownstreamClients.describeFailure(DownstreamClients.APPOINTMENT_SERVICE, e);
+            if (failure instanceof DownstreamUnavailableException unavailable) {
+                slotStartUnavailableCounter.increment();
+                log.warn("Could not fetch slot start for appointment {}: {}", appointmentId, unavailable.getMessage());
+                throw unavailable;
             }
-        } catch (Exception e) {
-            log.warn("Could not fetch appointment slot start, using current time", e);
+            throw e;
+        }
+        
+        if (appointment == null || appointment.get("slotStart") == null) {
+            throw new RuntimeException("Appointment " + appointmentId + " has no slot start");
         }
-        // Fallback to current time if unable to fetch
-        return LocalDateTime.now().plusHours(1);
+        String slotStartStr = appointment.get("slotStart").toString();
+        return LocalDateTime.parse(slotStartStr.replace("Z", "").replace("+00:00", ""));
     }
     
     private BillDTO toDTO(Bill bill) {
@@ -357,6 +504,7 @@ public class BillingService {
         dto.setStatus(bill.getStatus());
         dto.setRefundAmount(bill.getRefundAmount());
         dto.setRefundReason(bill.getRefundReason());
+        dto.setBillType(bill.getBillType());
         dto.setCreatedAt(bill.getCreatedAt());
         return dto;
     }
@@ -0,0 +1,358 @@
+package com.hospital.billing.service;
+
+import com.hospital.billing.dto.AmountSummaryDTO;
+import com.hospital.billing.dto.BillingSummaryDTO;
+import com.hospital.billing.dto.PatientBalanceDTO;
+import com.hospital.billing.model.Bill;
+import com.hospital.billing.model.Bill.BillStatus;
+import com.hospital.billing.model.Bill.BillType;
+import com.hospital.billing.model.BillingSummaryTotal;
+import com.hospital.billing.repository.BillRepository;
+import com.hospital.billing.repository.BillingSummaryTotalRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Revenue and balance aggregates kept up to date from bill state transitions, so summaries
+ * never scan the bills table. Each transition is recorded as "remove the old state, add the
+ * new one". Totals by status, type, day and patient are kept in cents in the
+ * billing_summary_totals table. A transaction's changes are summed per total and written
+ * just before it commits, so they commit or roll back with the bills, every replica reads the
+ * same numbers, and the hot rows (e.g. the OPEN total) stay locked only for the commit.
+ * The bills table is only scanned on an explicit rebuild, or at startup while the totals
+ * table is still empty.
+ */
+@Component
+@Slf4j
+public class BillingSummaryAggregator {
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final BillRepository billRepository;
+    private final BillingSummaryTotalRepository totalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate totalInit;
+    private final Timer rebuildLatency;
+
+    public BillingSummaryAggregator(BillRepository billRepository, BillingSummaryTotalRepository totalRepository,
+                                    PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.billRepository = billRepository;
+        this.totalRepository = totalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.totalInit = new TransactionTemplate(transactionManager);
+        this.totalInit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildLatency = Timer.builder("billing_summary_rebuild_latency_ms")
+                .description("Time to rebuild the billing summary from the bills table")
+                .tag("service", "billing-service")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialLoad() {
+        try {
+            if (totalRepository.count() == 0 && billRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            // E.g. another replica filled the table at the same time
+            log.warn("Initial billing summary build failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${billing.summary.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Records a bill's transition from {@code before} (null for a new bill) to {@code after}.
+     * Inside a transaction the change is written with it, just before it commits.
+     */
+    public void record(BillSnapshot before, BillSnapshot after) {
+        Deltas deltas = new Deltas();
+        deltas.apply(before, after);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(tx -> write(deltas));
+            return;
+        }
+        Deltas pending = (Deltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Deltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            Deltas bound = pending;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BillingSummaryAggregator.this);
+                }
+            });
+        }
+        pending.merge(deltas);
+    }
+
+    public BillingSummaryDTO summary(LocalDate date, Long patientId) {
+        List<String> buckets = new ArrayList<>();
+        for (BillStatus status : BillStatus.values()) {
+            buckets.add(statusBucket(status));
+        }
+        for (BillType type : BillType.values()) {
+            buckets.add(typeBucket(type));
+        }
+        buckets.add(REFUNDS);
+        if (date != null) {
+            buckets.add(dayBucket(date));
+        }
+        if (patientId != null) {
+            buckets.add(outstandingBucket(patientId));
+            buckets.add(paidBucket(patientId));
+        }
+        // One statement, so the totals are from one point in time
+        Map<String, BillingSummaryTotal> totals = new HashMap<>();
+        totalRepository.findAllById(buckets).forEach(total -> totals.put(total.getBucket(), total));
+
+        BillingSummaryDTO summary = new BillingSummaryDTO();
+        summary.setAsOf(LocalDateTime.now());
+        long totalBills = 0;
+        Map<String, AmountSummaryDTO> statuses = new LinkedHashMap<>();
+        for (BillStatus status : BillStatus.values()) {
+            AmountSummaryDTO amount = toDTO(totals.get(statusBucket(status)));
+            statuses.put(status.name(), amount);
+            totalBills += amount.getCount();
+        }
+        Map<String, AmountSummaryDTO> types = new LinkedHashMap<>();
+        for (BillType type : BillType.values()) {
+            types.put(type.name(), toDTO(totals.get(typeBucket(type))));
+        }
+        long refundCents = cents(totals.get(REFUNDS));
+        summary.setTotalBills(totalBills);
+        summary.setByStatus(statuses);
+        summary.setByType(types);
+        summary.setRefunds(toDTO(totals.get(REFUNDS)));
+        summary.setOutstanding(BigDecimal.valueOf(cents(totals.get(statusBucket(BillStatus.OPEN))), 2));
+        summary.setRevenue(BigDecimal.valueOf(cents(totals.get(statusBucket(BillStatus.PAID)))
+            + cents(totals.get(statusBucket(BillStatus.REFUNDED))) - refundCents, 2));
+        if (date != null) {
+            summary.setDate(date);
+            summary.setBilledOnDate(toDTO(totals.get(dayBucket(date))));
+        }
+        if (patientId != null) {
+            summary.setPatient(new PatientBalanceDTO(patientId,
+                BigDecimal.valueOf(cents(totals.get(outstandingBucket(patientId))), 2),
+                BigDecimal.valueOf(cents(totals.get(paidBucket(patientId))), 2)));
+        }
+        return summary;
+    }
+
+    public long totalBills() {
+        List<String> buckets = new ArrayList<>();
+        for (BillStatus status : BillStatus.values()) {
+            buckets.add(statusBucket(status));
+        }
+        return totalRepository.findAllById(buckets).stream().mapToLong(BillingSummaryTotal::getBillCount).sum();
+    }
+
+    /**
+     * Recomputes the totals from the bills table and replaces the stored ones. Returns whether
+     * the stored totals matched. Bill changes that commit while the scan runs may be counted
+     * twice or not at all, so run it when billing is quiet if the answer matters.
+     */
+    public synchronized boolean rebuild() {
+        Timer.Sample sample = Timer.start();
+        Deltas rebuilt = new Deltas();
+        long afterId = 0;
+        long rows = 0;
+        while (true) {
+            List<Object[]> page = billRepository.findSummaryRowsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Object[] row : page) {
+                rebuilt.apply(null, new BillSnapshot((Long) row[1], ((LocalDateTime) row[2]).toLocalDate(),
+                    (BillStatus) row[3], (BillType) row[4], (BigDecimal) row[5], (BigDecimal) row[6]));
+                afterId = (Long) row[0];
+            }
+            rows += page.size();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+        }
+        boolean consistent = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+            Deltas stored = new Deltas();
+            for (BillingSummaryTotal total : totalRepository.findAll()) {
+                stored.add(total.getBucket(), total.getBillCount(), total.getCents());
+            }
+            totalRepository.deleteAllInBatch();
+            List<BillingSummaryTotal> replacement = new ArrayList<>();
+            rebuilt.forEach((bucket, count, cents) -> replacement.add(new BillingSummaryTotal(bucket, count, cents)));
+            totalRepository.saveAll(replacement);
+            return stored.withoutZeros().equals(rebuilt.withoutZeros());
+        }));
+        sample.stop(rebuildLatency);
+        if (consistent) {
+            log.info("Billing summary rebuilt from {} bills", rows);
+        } else {
+            log.warn("Billing summary rebuilt from {} bills - stored totals had drifted", rows);
+        }
+        return consistent;
+    }
+
+    private void write(Deltas deltas) {
+        // Sorted bucket order, so concurrent transactions lock shared rows in the same order
+        deltas.forEach((bucket, count, cents) -> {
+            if (count == 0 && cents == 0) {
+                return;
+            }
+            if (totalRepository.addTo(bucket, count, cents) == 0) {
+                createTotal(bucket);
+                totalRepository.addTo(bucket, count, cents);
+            }
+        });
+    }
+
+    private void createTotal(String bucket) {
+        try {
+            // Committed on its own, so a replica creating the same row waits only for the insert
+            totalInit.executeWithoutResult(tx -> {
+                if (!totalRepository.existsById(bucket)) {
+                    totalRepository.saveAndFlush(new BillingSummaryTotal(bucket, 0, 0));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Billing summary total {} created concurrently", bucket);
+        }
+    }
+
+    private static AmountSummaryDTO toDTO(BillingSummaryTotal total) {
+        return total == null
+            ? new AmountSummaryDTO(0, BigDecimal.valueOf(0, 2))
+            : new AmountSummaryDTO(total.getBillCount(), BigDecimal.valueOf(total.getCents(), 2));
+    }
+
+    private static long cents(BillingSummaryTotal total) {
+        return total == null ? 0 : total.getCents();
+    }
+
+    private static final String REFUNDS = "refunds";
+
+    private static String statusBucket(BillStatus status) {
+        return "status:" + status;
+    }
+
+    private static String typeBucket(BillType type) {
+        return "type:" + type;
+    }
+
+    private static String dayBucket(LocalDate day) {
+        return "day:" + day;
+    }
+
+    private static String outstandingBucket(Long patientId) {
+        return "outstanding:" + patientId;
+    }
+
+    private static String paidBucket(Long patientId) {
+        return "paid:" + patientId;
+    }
+
+    /**
+     * The part of a bill the aggregates depend on, taken at one point in time.
+     */
+    public record BillSnapshot(Long patientId, LocalDate day, BillStatus status, BillType type,
+                               BigDecimal totalAmount, BigDecimal refundAmount) {
+        public static BillSnapshot of(Bill bill) {
+            return new BillSnapshot(bill.getPatientId(), bill.getCreatedAt().toLocalDate(), bill.getStatus(),
+                bill.getBillType(), bill.getTotalAmount(), bill.getRefundAmount());
+        }
+    }
+
+    /**
+     * Count and cent changes per total, in bucket order. Only touched by one thread: the
+     * transaction's or the rebuild's.
+     */
+    private static final class Deltas {
+        private final Map<String, long[]> byBucket = new TreeMap<>();
+
+        private void apply(BillSnapshot before, BillSnapshot after) {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        }
+
+        private void add(BillSnapshot bill, int sign) {
+            long total = toCents(bill.totalAmount());
+            long refund = toCents(bill.refundAmount());
+            add(statusBucket(bill.status()), sign, sign * total);
+            if (bill.status() != BillStatus.VOID) {
+                add(typeBucket(bill.type() == null ? BillType.CONSULTATION : bill.type()), sign, sign * total);
+                add(dayBucket(bill.day()), sign, sign * total);
+            }
+            if (refund != 0) {
+                add(REFUNDS, sign, sign * refund);
+            }
+            if (bill.status() == BillStatus.OPEN) {
+                add(outstandingBucket(bill.patientId()), 0, sign * total);
+            } else if (bill.status() == BillStatus.PAID || bill.status() == BillStatus.REFUNDED) {
+                add(paidBucket(bill.patientId()), 0, sign * (total - refund));
+            }
+        }
+
+        private void add(String bucket, long count, long cents) {
+            long[] totals = byBucket.computeIfAbsent(bucket, b -> new long[2]);
+            totals[0] += count;
+            totals[1] += cents;
+        }
+
+        private void merge(Deltas other) {
+            other.forEach(this::add);
+        }
+
+        private void forEach(BucketConsumer consumer) {
+            byBucket.forEach((bucket, totals) -> consumer.accept(bucket, totals[0], totals[1]));
+        }
+
+        private Map<String, List<Long>> withoutZeros() {
+            Map<String, List<Long>> copy = new HashMap<>();
+            forEach((bucket, count, cents) -> {
+                if (count != 0 || cents != 0) {
+                    copy.put(bucket, List.of(count, cents));
+                }
+            });
+            return copy;
+        }
+
+        private static long toCents(BigDecimal amount) {
+            return amount == null ? 0 : amount.movePointRight(2).longValue();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BucketConsumer {
+        void accept(String bucket, long count, long cents);
+    }
+}
@@ -0,0 +1,32 @@
+package com.hospital.billing.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Continuation token for keyset pagination: the sort key (timestamp, id) of the last row a
+ * page returned. The next page starts strictly after it, so it costs the same however deep it
+ * is and doesn't skip or repeat rows when rows are added in between. Encoded as base64url so
+ * clients pass it back as-is instead of building one.
+ */
+public record PageCursor(LocalDateTime at, Long id) {
+    /** Sorts before every row; where a listing without a cursor starts. */
+    public static final PageCursor FIRST = new PageCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    public String encode() {
+        String key = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = key.indexOf('|');
+            return new PageCursor(LocalDateTime.parse(key.substring(0, separator)),
+                Long.parseLong(key.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.hospital.billing.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.billing.service.BillExporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for each repository query, with the values it
+ * bound, and fails if a query that should use an index scans a whole table. Catches a dropped
+ * or mismatched index, or a query change that no index covers. Plans are H2's, the database
+ * {@code @DataJpaTest} runs on.
+ */
+@DataJpaTest
+@Import({QueryPlanTest.RecordingConfig.class, BillExporter.class})
+class QueryPlanTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private ProcessedBillingEventRepository processedBillingEventRepository;
+
+    @Autowired
+    private InboxEventRepository inboxEventRepository;
+
+    @Autowired
+    private BillingSummaryTotalRepository billingSummaryTotalRepository;
+
+    @Autowired
+    private BillExporter billExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> unexpectedScans = new ArrayList<>();
+
+    @Test
+    void repositoryQueriesUseAnIndex() {
+        indexed("findByAppointmentId", () -> billRepository.findByAppointmentId(1L));
+        indexed("findByAppointmentIdIn", () -> billRepository.findByAppointmentIdIn(List.of(1L, 2L, 3L)));
+        indexed("findByPatientId", () -> billRepository.findByPatientId(1L));
+        indexed("findPageAfter", () -> billRepository.findPageAfter(FROM, 0L, PageRequest.of(0, 21)));
+        indexed("findSummaryRowsAfter", () -> billRepository.findSummaryRowsAfter(0L, PageRequest.of(0, 1000)));
+        indexed("ProcessedBillingEventRepository.findProcessedIds",
+            () -> processedBillingEventRepository.findProcessedIds(List.of("a", "b")));
+        indexed("ProcessedBillingEventRepository.deleteProcessedBefore",
+            () -> processedBillingEventRepository.deleteProcessedBefore(FROM));
+        indexed("InboxEventRepository.findClaimableIds",
+            () -> inboxEventRepository.findClaimableIds(FROM, PageRequest.of(0, 200)));
+        indexed("InboxEventRepository.claim", () -> inboxEventRepository.claim(List.of(1L, 2L), "token", TO, FROM));
+        indexed("InboxEventRepository.findByClaimTokenOrderByIdAsc",
+            () -> inboxEventRepository.findByClaimTokenOrderByIdAsc("token"));
+        indexed("InboxEventRepository.release", () -> inboxEventRepository.release(List.of(1L, 2L), FROM));
+        indexed("InboxEventRepository.markFailed", () -> inboxEventRepository.markFailed(1L, "error"));
+        indexed("BillingSummaryTotalRepository.addTo", () -> billingSummaryTotalRepository.addTo("status:PAID", 1, 100));
+        indexed("BillingSummaryTotalRepository.findAllById",
+            () -> billingSummaryTotalRepository.findAllById(List.of("status:PAID", "refunds")));
+        indexed("BillExporter (date range)", () -> {
+            try {
+                billExporter.export(FROM, TO, null, BillExporter.Format.CSV, new ByteArrayOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        // Legacy offset listing reads and counts the whole table; cursor paging replaces it
+        scanExpected("findAll (page/limit)", () -> billRepository.findAll(PageRequest.of(10, 20)));
+
+        assertThat(unexpectedScans).as("queries that scan a whole table").isEmpty();
+    }
+
+    private void indexed(String name, Runnable query) {
+        explain(name, query, false);
+    }
+
+    private void scanExpected(String name, Runnable query) {
+        explain(name, query, true);
+    }
+
+    private void explain(String name, Runnable query, boolean scanExpected) {
+        SqlRecorder.clear();
+        query.run();
+        List<SqlRecorder.RecordedStatement> statements = SqlRecorder.executed();
+        assertThat(statements).as("SQL run by %s", name).isNotEmpty();
+        for (SqlRecorder.RecordedStatement statement : statements) {
+            String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), String.class,
+                statement.parameters().toArray())).replaceAll("\\s+", " ");
+            if (plan.contains(".tableScan") && !scanExpected) {
+                unexpectedScans.add(name + ": " + plan);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
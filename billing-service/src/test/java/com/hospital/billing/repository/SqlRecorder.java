@@ -0,0 +1,91 @@
+package com.hospital.billing.repository;
+
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps a DataSource and records every prepared statement that is executed, with the values
+ * bound to it, so a test can re-run exactly what Hibernate sent (e.g. under EXPLAIN).
+ */
+final class SqlRecorder {
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final List<RecordedStatement> executed = new CopyOnWriteArrayList<>();
+
+    private SqlRecorder() {
+    }
+
+    record RecordedStatement(String sql, List<Object> parameters) {
+    }
+
+    static void clear() {
+        executed.clear();
+    }
+
+    static List<RecordedStatement> executed() {
+        return new ArrayList<>(executed);
+    }
+
+    static DataSource wrap(DataSource target) {
+        return proxy(target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection target) {
+        return proxy(target, (method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                return wrap(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement target, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(target, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE.contains(name) && (args == null || args.length == 0)) {
+                executed.add(new RecordedStatement(sql, new ArrayList<>(parameters.values())));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(SqlRecorder.class.getClassLoader(),
+            ClassUtils.getAllInterfacesForClass(target.getClass()),
+            (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
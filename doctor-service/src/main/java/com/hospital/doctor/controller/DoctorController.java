@@ -1,7 +1,9 @@
 package com.hospital.doctor.controller;
 
+import com.hospital.doctor.dto.DoctorChangeDTO;
 import com.hospital.doctor.dto.DoctorDTO;
 import com.hospital.doctor.dto.ErrorResponse;
+import com.hospital.doctor.dto.SlotBatchCheckRequest;
 import com.hospital.doctor.dto.SlotCheckRequest;
 import com.hospital.doctor.dto.SlotCheckResponse;
 import com.hospital.doctor.service.DoctorService;
@@ -17,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -52,8 +55,8 @@ public class DoctorController {
                 "correlationId", "enabled"
             ),
             "availableEndpoints", Map.of(
-                "GET", "/v1/doctors, /v1/doctors/{id}, /v1/departments, /v1/specializations",
-                "POST", "/v1/doctors, /v1/doctors/{id}/check-availability"
+                "GET", "/v1/doctors, /v1/doctors/{id}, /v1/doctors/changes, /v1/departments, /v1/specializations",
+                "POST", "/v1/doctors, /v1/doctors/{id}/check-availability, /v1/doctors/{id}/check-availability/batch"
             )
         );
         return ResponseEntity.ok(health);
@@ -74,6 +77,23 @@ public class DoctorController {
         }
     }
     
+    @Operation(summary = "List doctor changes", description = "Returns id, department and active flag for doctors changed at or after 'since' (ISO 8601). Without 'since' all doctors are returned. Used by replicas in other services.")
+    @GetMapping("/doctors/changes")
+    public ResponseEntity<?> listChanges(@RequestParam(required = false) String since) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            LocalDateTime sinceTime = since == null ? null : LocalDateTime.parse(since.replace("Z", ""));
+            List<DoctorChangeDTO> changes = doctorService.listChanges(sinceTime, correlationId);
+            return ResponseEntity.ok(changes);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse("INVALID_REQUEST", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
     @GetMapping("/doctors/{doctorId}")
     public ResponseEntity<?> getDoctor(@PathVariable Long doctorId) {
         String correlationId = UUID.randomUUID().toString();
@@ -109,7 +129,7 @@ public class DoctorController {
         }
     }
     
-    @Operation(summary = "Check doctor slot availability", description = "Checks if a doctor is available for a given time slot. Validates clinic hours, lead time, and daily cap.")
+    @Operation(summary = "Check doctor slot availability", description = "Checks if a doctor is available for a given time slot. Validates clinic hours, lead time and department. The daily cap is enforced by Appointment Service.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Availability check completed"),
         @ApiResponse(responseCode = "404", description = "Doctor not found")
@@ -130,6 +150,27 @@ public class DoctorController {
         }
     }
     
+    @Operation(summary = "Check doctor availability for a series of slots", description = "Batch form of check-availability for recurring or block bookings. Looks the doctor up once and returns one result per slot, in request order.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability checks completed"),
+        @ApiResponse(responseCode = "404", description = "Doctor not found")
+    })
+    @PostMapping("/doctors/{doctorId}/check-availability/batch")
+    public ResponseEntity<?> checkAvailabilityBatch(@PathVariable Long doctorId,
+                                                    @Valid @RequestBody SlotBatchCheckRequest request) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            List<SlotCheckResponse> responses = doctorService.checkAvailabilityBatch(doctorId, request, correlationId);
+            return ResponseEntity.ok(responses);
+        } catch (RuntimeException e) {
+            ErrorResponse error = new ErrorResponse("NOT_FOUND", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
     @GetMapping("/departments")
     public ResponseEntity<?> listDepartments() {
         String correlationId = UUID.randomUUID().toString();
@@ -0,0 +1,16 @@
+package com.hospital.doctor.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SlotBatchCheckRequest {
+    private String department;
+    
+    @NotEmpty(message = "At least one slot is required")
+    @Valid
+    private List<SlotCheckRequest> slots; // department on individual slots is ignored
+}
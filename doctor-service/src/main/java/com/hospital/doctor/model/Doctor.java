@@ -8,7 +8,13 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "doctors")
+@Table(name = "doctors", indexes = {
+    // Department lookups, with or without specialization
+    @Index(name = "idx_doctor_department", columnList = "department, specialization, active"),
+    @Index(name = "idx_doctor_specialization", columnList = "specialization, active"),
+    // Change feed for the appointment-service replica
+    @Index(name = "idx_doctor_updated_at", columnList = "updatedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,13 +44,22 @@ public class Doctor {
     @Column(nullable = false)
     private Boolean active = true;
     
+    @Column
+    private LocalDateTime updatedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (active == null) {
             active = true;
         }
     }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
 
 
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,8 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     
     List<Doctor> findByDepartmentAndSpecializationAndActiveTrue(String department, String specialization);
     
+    List<Doctor> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(LocalDateTime since);
+    
     @Query("SELECT DISTINCT d.department FROM Doctor d WHERE d.active = true")
     List<String> findAllDepartments();
     
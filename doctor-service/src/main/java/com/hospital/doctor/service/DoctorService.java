@@ -1,6 +1,8 @@
 package com.hospital.doctor.service;
 
+import com.hospital.doctor.dto.DoctorChangeDTO;
 import com.hospital.doctor.dto.DoctorDTO;
+import com.hospital.doctor.dto.SlotBatchCheckRequest;
 import com.hospital.doctor.dto.SlotCheckRequest;
 import com.hospital.doctor.dto.SlotCheckResponse;
 import com.hospital.doctor.model.Doctor;
@@ -12,23 +14,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import org.springframework.beans.factory.annotation.Value;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DoctorService {
     private final DoctorRepository doctorRepository;
-    private final WebClient.Builder webClientBuilder;
-    
-    @Value("${doctor.scheduling.daily-cap:20}")
-    private Integer dailyCap;
     
     @Transactional
     public DoctorDTO createDoctor(DoctorDTO doctorDTO, String correlationId) {
@@ -88,15 +85,40 @@ public class DoctorService {
         Doctor doctor = doctorRepository.findById(doctorId)
             .orElseThrow(() -> new RuntimeException("Doctor not found"));
         
+        return checkSlot(doctor, request.getDepartment(), request.getSlotStart(), request.getSlotEnd(), LocalDateTime.now());
+    }
+    
+    public List<SlotCheckResponse> checkAvailabilityBatch(Long doctorId, SlotBatchCheckRequest request, String correlationId) {
+        // One doctor lookup for the whole series; results are in request order
+        Doctor doctor = doctorRepository.findById(doctorId)
+            .orElseThrow(() -> new RuntimeException("Doctor not found"));
+        
+        LocalDateTime now = LocalDateTime.now();
+        return request.getSlots().stream()
+            .map(slot -> checkSlot(doctor, request.getDepartment(), slot.getSlotStart(), slot.getSlotEnd(), now))
+            .collect(Collectors.toList());
+    }
+    
+    private SlotCheckResponse checkSlot(Doctor doctor, String department, String slotStartValue, String slotEndValue,
+                                        LocalDateTime now) {
         // Check department match
-        if (request.getDepartment() != null && !doctor.getDepartment().equals(request.getDepartment())) {
+        if (department != null && !doctor.getDepartment().equals(department)) {
             return new SlotCheckResponse(false, 
-                String.format("Doctor belongs to %s, not %s", doctor.getDepartment(), request.getDepartment()));
+                String.format("Doctor belongs to %s, not %s", doctor.getDepartment(), department));
         }
         
-        // Parse ISO 8601 timestamps
-        LocalDateTime slotStart = LocalDateTime.parse(request.getSlotStart().replace("Z", ""));
-        LocalDateTime slotEnd = LocalDateTime.parse(request.getSlotEnd().replace("Z", ""));
+        // Parse ISO 8601 timestamps; a bad slot is rejected on its own, so one can't fail a whole batch
+        LocalDateTime slotStart;
+        LocalDateTime slotEnd;
+        try {
+            slotStart = LocalDateTime.parse(slotStartValue.replace("Z", ""));
+            slotEnd = LocalDateTime.parse(slotEndValue.replace("Z", ""));
+        } catch (DateTimeParseException e) {
+            return new SlotCheckResponse(false, "Invalid slot time: " + e.getParsedString());
+        }
+        if (!slotEnd.isAfter(slotStart)) {
+            return new SlotCheckResponse(false, "Slot end must be after slot start");
+        }
         
         // Check clinic hours (9 AM - 6 PM)
         LocalTime slotTime = slotStart.toLocalTime();
@@ -105,41 +127,26 @@ public class DoctorService {
         }
         
         // Check lead time (≥ 2 hours from now)
-        LocalDateTime now = LocalDateTime.now();
         if (slotStart.isBefore(now.plusHours(2))) {
             return new SlotCheckResponse(false, "Slot must be at least 2 hours from now");
         }
         
-        // Check daily cap: max N appointments/day/doctor
-        try {
-            String dateStr = slotStart.toString();
-            @SuppressWarnings("unchecked")
-            Map<String, Object> countResponse = webClientBuilder.build()
-                .get()
-                .uri("http://appointment-service:8003/v1/appointments/doctor/{doctorId}/count?date={date}", 
-                     doctorId, dateStr)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-            
-            if (countResponse != null) {
-                Long currentCount = ((Number) countResponse.get("count")).longValue();
-                if (currentCount >= dailyCap) {
-                    return new SlotCheckResponse(false, 
-                        String.format("Doctor has reached daily appointment limit (%d appointments/day). Current count: %d", 
-                                     dailyCap, currentCount));
-                }
-                log.info("Doctor {} has {} appointments on {}, daily cap: {}", 
-                        doctorId, currentCount, slotStart.toLocalDate(), dailyCap);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to check daily cap for doctor {}: {}", doctorId, e.getMessage());
-            // Continue with availability check if appointment service is unavailable
-        }
+        // Daily cap is enforced by Appointment Service, which owns the booking counts
         
         return new SlotCheckResponse(true, "Slot is available");
     }
     
+    public List<DoctorChangeDTO> listChanges(LocalDateTime since, String correlationId) {
+        // No cursor means a full snapshot for the initial load of a replica
+        List<Doctor> doctors = since == null
+            ? doctorRepository.findAll()
+            : doctorRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(since);
+        return doctors.stream()
+            .map(doctor -> new DoctorChangeDTO(doctor.getDoctorId(), doctor.getDepartment(),
+                                               doctor.getActive(), doctor.getUpdatedAt()))
+            .collect(Collectors.toList());
+    }
+    
     public List<String> listDepartments(String correlationId) {
         return doctorRepository.findAllDepartments();
     }
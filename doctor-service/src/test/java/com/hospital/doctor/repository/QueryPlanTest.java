@@ -0,0 +1,90 @@
+package com.hospital.doctor.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for each repository query, with the values it
+ * bound, and fails if a query that should use an index scans a whole table. Catches a dropped
+ * or mismatched index, or a query change that no index covers. Plans are H2's, the database
+ * {@code @DataJpaTest} runs on.
+ */
+@DataJpaTest
+@Import(QueryPlanTest.RecordingConfig.class)
+class QueryPlanTest {
+    private static final LocalDateTime SINCE = LocalDateTime.of(2025, 1, 14, 9, 0);
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> unexpectedScans = new ArrayList<>();
+
+    @Test
+    void repositoryQueriesUseAnIndex() {
+        indexed("findByEmail", () -> doctorRepository.findByEmail("dr.smith@example.com"));
+        indexed("findByDepartmentAndActiveTrue", () -> doctorRepository.findByDepartmentAndActiveTrue("Cardiology"));
+        indexed("findBySpecializationAndActiveTrue",
+            () -> doctorRepository.findBySpecializationAndActiveTrue("Interventional Cardiology"));
+        indexed("findByDepartmentAndSpecializationAndActiveTrue",
+            () -> doctorRepository.findByDepartmentAndSpecializationAndActiveTrue("Cardiology", "Interventional Cardiology"));
+        indexed("findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc",
+            () -> doctorRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(SINCE));
+        // DISTINCT over the active doctors: reads the (small) table by design
+        scanExpected("findAllDepartments", () -> doctorRepository.findAllDepartments());
+        scanExpected("findAllSpecializations", () -> doctorRepository.findAllSpecializations());
+
+        assertThat(unexpectedScans).as("queries that scan a whole table").isEmpty();
+    }
+
+    private void indexed(String name, Runnable query) {
+        explain(name, query, false);
+    }
+
+    private void scanExpected(String name, Runnable query) {
+        explain(name, query, true);
+    }
+
+    private void explain(String name, Runnable query, boolean scanExpected) {
+        SqlRecorder.clear();
+        query.run();
+        List<SqlRecorder.RecordedStatement> statements = SqlRecorder.executed();
+        assertThat(statements).as("SQL run by %s", name).isNotEmpty();
+        for (SqlRecorder.RecordedStatement statement : statements) {
+            String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), String.class,
+                statement.parameters().toArray())).replaceAll("\\s+", " ");
+            if (plan.contains(".tableScan") && !scanExpected) {
+                unexpectedScans.add(name + ": " + plan);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -27,23 +27,26 @@ function BillingManagement() {
     const uniquePatientIds = [...new Set(billList.map(bill => bill.patientId))];
     const patientIdToName = {};
     
-    // Fetch patient details for each unique patient ID
-    const patientPromises = uniquePatientIds.map(async (patientId) => {
-      try {
-        const url = PATIENT_API.startsWith('/') 
-          ? `${PATIENT_API}/v1/patients/${patientId}`
-          : `${PATIENT_API}/v1/patients/${patientId}`;
-        const response = await axios.get(url);
-        if (response.data && response.data.patientId) {
-          patientIdToName[patientId] = response.data.name || `Patient ${patientId}`;
-        }
-      } catch (err) {
-        console.warn(`Could not fetch patient ${patientId}:`, err);
+    if (uniquePatientIds.length === 0) {
+      setPatientNames(patientIdToName);
+      return;
+    }
+    
+    // Resolve all patient IDs in one batch call
+    try {
+      const url = `${PATIENT_API}/v1/patients/batch-get`;
+      const response = await axios.post(url, { ids: uniquePatientIds });
+      const patients = response.data?.patients || {};
+      uniquePatientIds.forEach((patientId) => {
+        patientIdToName[patientId] = patients[patientId]?.name || `Patient ${patientId}`;
+      });
+    } catch (err) {
+      console.warn('Could not fetch patient names:', err);
+      uniquePatientIds.forEach((patientId) => {
         patientIdToName[patientId] = `Patient ${patientId}`;
-      }
-    });
+      });
+    }
     
-    await Promise.all(patientPromises);
     setPatientNames(patientIdToName);
   };
 
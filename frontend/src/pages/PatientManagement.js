@@ -52,8 +52,15 @@ function PatientManagement() {
       if (response.data && response.data.data && Array.isArray(response.data.data)) {
         setPatients(response.data.data);
         if (response.data.pagination) {
-          setTotalPatients(response.data.pagination.total || 0);
-          setTotalPages(response.data.pagination.pages || response.data.pagination.totalPages || 1);
+          const { total, pages, hasMore } = response.data.pagination;
+          if (total == null) {
+            // Index-backed searches aren't counted; only offer the next page when there is one
+            setTotalPatients(null);
+            setTotalPages(hasMore ? page + 1 : page);
+          } else {
+            setTotalPatients(total || 0);
+            setTotalPages(pages || response.data.pagination.totalPages || 1);
+          }
         } else {
           // Fallback: calculate from data
           setTotalPatients(response.data.data.length);
@@ -240,8 +247,8 @@ function PatientManagement() {
           />
         )}
         <Typography variant="body2" color="text.secondary">
-          Showing {patients.length} of {totalPatients} patients
-          {totalPages > 1 && ` (Page ${page} of ${totalPages})`}
+          Showing {patients.length}{totalPatients != null && ` of ${totalPatients}`} patients
+          {totalPatients != null && totalPages > 1 && ` (Page ${page} of ${totalPages})`}
         </Typography>
       </Box>
 
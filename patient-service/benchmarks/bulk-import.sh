@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Patient bulk import benchmark: generates ROWS synthetic patients in the seed-data CSV format
+# and loads them with the command-line import, to check that a large onboarding file finishes
+# in minutes. Every 1000th row repeats an earlier email, so ROWS/1000 rows must be rejected.
+#
+# Runs patient-service from target/ as a one-off command (no web server) against a
+# file-backed H2 database, and reads the counts from its final log line.
+#
+# Usage: ./bulk-import.sh [ROWS] [HEAP]
+# Requires a JDK and Maven; builds the jar if it is missing.
+set -euo pipefail
+
+ROWS=${1:-1000000}
+HEAP=${2:-1g}
+SERVICE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+JAR=$(ls "$SERVICE_DIR"/target/patient-service-*.jar 2>/dev/null | head -1 || true)
+if [ -z "$JAR" ]; then
+  echo "Building patient-service..."
+  (cd "$SERVICE_DIR" && mvn -q -B -DskipTests package)
+  JAR=$(ls "$SERVICE_DIR"/target/patient-service-*.jar | head -1)
+fi
+
+echo "Generating $ROWS patients..."
+awk -v rows="$ROWS" 'BEGIN {
+  print "patient_id,name,email,phone,dob,created_at"
+  for (i = 1; i <= rows; i++) {
+    email = (i % 1000 == 0) ? "bulk" (i - 1) "@mail.com" : "bulk" i "@mail.com"
+    printf "%d,Patient %d,%s,9%09d,19%02d-%02d-%02d,2025-01-01 10:00:00\n", i, i, email, i, 40 + i % 60, 1 + i % 12, 1 + i % 28
+  }
+}' > "$WORK_DIR/patients.csv"
+EXPECTED_REJECTED=$((ROWS / 1000))
+EXPECTED_IMPORTED=$((ROWS - EXPECTED_REJECTED))
+
+echo "Importing with -Xmx$HEAP..."
+START=$(date +%s%3N)
+STATUS=0
+java -Xmx"$HEAP" -XX:+ExitOnOutOfMemoryError -jar "$JAR" \
+  --spring.main.web-application-type=none \
+  --spring.datasource.url="jdbc:h2:file:$WORK_DIR/patientdb" \
+  --patient.import.file="$WORK_DIR/patients.csv" \
+  --logging.level.com.hospital.patient=INFO \
+  > "$WORK_DIR/app.log" 2>&1 || STATUS=$?
+ELAPSED=$(( $(date +%s%3N) - START ))
+
+SUMMARY=$(grep -o '[0-9]* rows read, [0-9]* imported, [0-9]* rejected' "$WORK_DIR/app.log" | tail -1 || true)
+echo "rows=$ROWS wall=${ELAPSED}ms (JVM startup included) $SUMMARY"
+IMPORTED=$(echo "$SUMMARY" | sed -n 's/.* \([0-9]*\) imported.*/\1/p')
+REJECTED=$(echo "$SUMMARY" | sed -n 's/.* \([0-9]*\) rejected.*/\1/p')
+if [ "$STATUS" -ne 0 ] || [ "$IMPORTED" != "$EXPECTED_IMPORTED" ] || [ "$REJECTED" != "$EXPECTED_REJECTED" ]; then
+  echo "FAIL: expected $EXPECTED_IMPORTED imported and $EXPECTED_REJECTED rejected (exit status $STATUS)" >&2
+  tail -20 "$WORK_DIR/app.log" >&2
+  exit 1
+fi
@@ -0,0 +1,53 @@
+package com.hospital.patient.config;
+
+import com.hospital.patient.dto.PatientImportProgressDTO;
+import com.hospital.patient.service.PatientImporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line patient import: started with patient.import.file set, the service imports that
+ * CSV, logs every rejected row and exits (status 0 on completion, 1 if the import failed).
+ * Run with --spring.main.web-application-type=none to skip the web server. Progress is logged
+ * every 10 seconds.
+ */
+@Component
+@ConditionalOnProperty(name = "patient.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class PatientImportCommand implements ApplicationRunner {
+    private final PatientImporter patientImporter;
+    private final ApplicationContext context;
+
+    @Value("${patient.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode;
+        try (InputStream csv = Files.newInputStream(Path.of(file))) {
+            log.info("Importing patients from {}", file);
+            PatientImportProgressDTO summary = patientImporter.importCsv(csv, error ->
+                log.warn("Rejected line {}: {}", error.getLine(), error.getError()));
+            log.info("Import of {} done - {} rows read, {} imported, {} rejected ({} rows/s)",
+                     file, summary.getRowsRead(), summary.getImported(), summary.getRejected(), summary.getRowsPerSecond());
+            exitCode = 0;
+        } catch (Exception e) {
+            log.error("Import of {} failed: {}", file, e.getMessage());
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -2,19 +2,36 @@ package com.hospital.patient.controller;
 
 import com.hospital.patient.dto.ErrorResponse;
 import com.hospital.patient.dto.PaginationResponse;
+import com.hospital.patient.dto.PatientBatchDTO;
+import com.hospital.patient.dto.PatientBatchRequest;
+import com.hospital.patient.dto.PatientChangePageDTO;
 import com.hospital.patient.dto.PatientDTO;
+import com.hospital.patient.dto.PatientIdPageDTO;
+import com.hospital.patient.dto.PatientImportErrorDTO;
+import com.hospital.patient.dto.PatientImportProgressDTO;
+import com.hospital.patient.dto.PatientImportResultDTO;
+import com.hospital.patient.logging.MaskedPii;
+import com.hospital.patient.service.PatientChangeLog;
+import com.hospital.patient.service.PatientImporter;
 import com.hospital.patient.service.PatientService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -24,7 +41,14 @@ import java.util.UUID;
 @Slf4j
 @Tag(name = "Patient Service", description = "Patient Management API - CRUD operations, search by name/phone, PII masking in logs")
 public class PatientController {
+    private static final long MAX_CHANGES_WAIT_MS = 30000;
+    
     private final PatientService patientService;
+    private final PatientImporter patientImporter;
+    private final PatientChangeLog patientChangeLog;
+    
+    @Value("${patient.import.max-reported-errors:1000}")
+    private int maxReportedImportErrors;
     
     @GetMapping("/health")
     public ResponseEntity<?> healthCheck() {
@@ -50,8 +74,8 @@ public class PatientController {
                 "piiMasking", "enabled"
             ),
             "availableEndpoints", Map.of(
-                "GET", "/v1/patients, /v1/patients/{id}",
-                "POST", "/v1/patients",
+                "GET", "/v1/patients, /v1/patients/{id}, /v1/patients/ids, /v1/patients/changes, /v1/patients?ids=, /v1/patients/import/progress",
+                "POST", "/v1/patients, /v1/patients/batch-get, /v1/patients/import",
                 "PUT", "/v1/patients/{id}",
                 "DELETE", "/v1/patients/{id}"
             )
@@ -70,8 +94,7 @@ public class PatientController {
         try {
             org.slf4j.MDC.put("correlationId", correlationId);
             log.info("POST /v1/patients - Request received - Name: {}, Email: {}", 
-                patientDTO.getName(), 
-                patientDTO.getEmail() != null ? patientDTO.getEmail().substring(0, Math.min(3, patientDTO.getEmail().length())) + "***" : "null");
+                MaskedPii.name(patientDTO.getName()), MaskedPii.email(patientDTO.getEmail()));
             PatientDTO created = patientService.createPatient(patientDTO, correlationId);
             log.info("POST /v1/patients - Success - Patient ID: {}, Correlation ID: {}", created.getPatientId(), correlationId);
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
@@ -121,9 +144,7 @@ public class PatientController {
         try {
             org.slf4j.MDC.put("correlationId", correlationId);
             log.info("GET /v1/patients - Request received - Name: {}, Phone: {}, Page: {}, Limit: {}, Correlation ID: {}", 
-                name != null ? name : "null", 
-                phone != null ? phone.substring(0, Math.min(3, phone.length())) + "***" : "null", 
-                page, limit, correlationId);
+                MaskedPii.name(name), MaskedPii.phone(phone), page, limit, correlationId);
             PaginationResponse<PatientDTO> response = patientService.searchPatients(name, phone, page, limit, correlationId);
             log.info("GET /v1/patients - Success - Found {} patients (Total: {}, Page: {}) - Correlation ID: {}", 
                 response.getData().size(), response.getPagination().getTotal(), page, correlationId);
@@ -133,6 +154,147 @@ public class PatientController {
         }
     }
     
+    @Operation(summary = "List active patient IDs", description = "Returns active patient IDs in ascending order after 'afterId'. Used by other services to build local existence filters.")
+    @GetMapping("/patients/ids")
+    public ResponseEntity<?> listActivePatientIds(
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(defaultValue = "10000") int limit) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            if (limit < 1 || limit > 50000) {
+                ErrorResponse error = new ErrorResponse("INVALID_REQUEST", "limit must be between 1 and 50000", correlationId);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+            PatientIdPageDTO ids = patientService.listActivePatientIds(afterId, limit, correlationId);
+            return ResponseEntity.ok(ids);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "List patient changes", description = "Returns creates, updates and delete tombstones with a sequence number greater than 'since', oldest first. With waitMs, waits up to that long for the next change when there is none yet (long poll). Used by replicas in other services.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved; empty if none arrived within waitMs"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or waitMs")
+    })
+    @GetMapping("/patients/changes")
+    public DeferredResult<ResponseEntity<?>> listPatientChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "1000") int limit,
+            @RequestParam(defaultValue = "0") long waitMs) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(Math.max(waitMs, 1));
+            if (limit < 1 || limit > 10000 || waitMs < 0 || waitMs > MAX_CHANGES_WAIT_MS) {
+                ErrorResponse error = new ErrorResponse("INVALID_REQUEST",
+                    "limit must be between 1 and 10000 and waitMs between 0 and " + MAX_CHANGES_WAIT_MS, correlationId);
+                result.setResult(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+                return result;
+            }
+            PatientChangePageDTO page = patientChangeLog.listChanges(since, limit);
+            if (!page.getChanges().isEmpty() || waitMs == 0) {
+                result.setResult(ResponseEntity.ok(page));
+                return result;
+            }
+            Runnable cancel = patientChangeLog.onChangeAfter(since, () ->
+                result.setResult(ResponseEntity.ok(patientChangeLog.listChanges(since, limit))));
+            result.onCompletion(cancel);
+            // Changes committed by another instance don't wake this one; look again before answering
+            result.onTimeout(() -> result.setResult(ResponseEntity.ok(patientChangeLog.listChanges(since, limit))));
+            return result;
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Get many patients by ID", description = "Resolves up to " + PatientService.MAX_BATCH_SIZE + " patient IDs in one call. Returns found patients keyed by ID and the IDs that don't exist.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed"),
+        @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    @PostMapping("/patients/batch-get")
+    public ResponseEntity<?> batchGetPatients(@RequestBody PatientBatchRequest request) {
+        return getPatients(request.getIds(), "POST /v1/patients/batch-get");
+    }
+    
+    @Operation(summary = "Get many patients by ID", description = "Same as POST /v1/patients/batch-get, with comma-separated IDs in the query string")
+    @GetMapping(value = "/patients", params = "ids")
+    public ResponseEntity<?> getPatientsByIds(@RequestParam List<Long> ids) {
+        return getPatients(ids, "GET /v1/patients?ids");
+    }
+    
+    private ResponseEntity<?> getPatients(List<Long> ids, String endpoint) {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            if (ids == null || ids.isEmpty() || ids.size() > PatientService.MAX_BATCH_SIZE) {
+                ErrorResponse error = new ErrorResponse("INVALID_REQUEST",
+                    "ids must contain between 1 and " + PatientService.MAX_BATCH_SIZE + " patient IDs", correlationId);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+            log.info("{} - Request received - {} IDs - Correlation ID: {}", endpoint, ids.size(), correlationId);
+            PatientBatchDTO result = patientService.getPatients(ids, correlationId);
+            log.info("{} - Success - Found {}, missing {} - Correlation ID: {}",
+                endpoint, result.getPatients().size(), result.getMissing().size(), correlationId);
+            return ResponseEntity.ok(result);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Import patients from CSV", description = "Bulk-loads patients from a CSV body with the header patient_id,name,email,phone,dob,created_at (patient_id is ignored). Returns the counts and the rejected rows. One import runs at a time.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in errors"),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid CSV header"),
+        @ApiResponse(responseCode = "409", description = "Another import is running")
+    })
+    @PostMapping(value = "/patients/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> importPatients(HttpServletRequest request) throws IOException {
+        String correlationId = UUID.randomUUID().toString();
+        try {
+            org.slf4j.MDC.put("correlationId", correlationId);
+            log.info("POST /v1/patients/import - Request received - Correlation ID: {}", correlationId);
+            List<PatientImportErrorDTO> errors = new ArrayList<>();
+            long[] unreported = {0};
+            PatientImportProgressDTO summary = patientImporter.importCsv(request.getInputStream(), error -> {
+                if (errors.size() < maxReportedImportErrors) {
+                    errors.add(error);
+                } else {
+                    unreported[0]++;
+                }
+            });
+            log.info("POST /v1/patients/import - Success - {} imported, {} rejected - Correlation ID: {}",
+                summary.getImported(), summary.getRejected(), correlationId);
+            return ResponseEntity.ok(new PatientImportResultDTO(summary, errors, unreported[0]));
+        } catch (IllegalStateException e) {
+            ErrorResponse error = new ErrorResponse("IMPORT_IN_PROGRESS", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (RuntimeException e) {
+            log.error("POST /v1/patients/import - Error: {} - Correlation ID: {}", e.getMessage(), correlationId);
+            ErrorResponse error = new ErrorResponse("INVALID_IMPORT", e.getMessage(), correlationId);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } finally {
+            org.slf4j.MDC.remove("correlationId");
+        }
+    }
+    
+    @Operation(summary = "Get import progress", description = "Counts for the running import, or the final counts of the last one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Progress retrieved"),
+        @ApiResponse(responseCode = "404", description = "No import has run since startup")
+    })
+    @GetMapping("/patients/import/progress")
+    public ResponseEntity<?> getImportProgress() {
+        PatientImportProgressDTO progress = patientImporter.progress();
+        if (progress == null) {
+            ErrorResponse error = new ErrorResponse("NOT_FOUND", "No import has run since startup", UUID.randomUUID().toString());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok(progress);
+    }
+    
     @PutMapping("/patients/{patientId}")
     public ResponseEntity<?> updatePatient(@PathVariable Long patientId, 
                                           @Valid @RequestBody PatientDTO patientDTO) {
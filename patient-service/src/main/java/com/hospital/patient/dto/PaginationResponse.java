@@ -13,14 +13,19 @@ public class PaginationResponse<T> {
     private List<T> data;
     private PaginationInfo pagination;
     
+    /**
+     * total and pages are null for searches served by the search index, which stops at the
+     * requested page instead of counting; hasMore is always set.
+     */
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PaginationInfo {
         private int page;
         private int limit;
-        private long total;
-        private int pages;
+        private Long total;
+        private Integer pages;
+        private boolean hasMore;
     }
 }
 
@@ -0,0 +1,20 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a batch lookup: found patients keyed by id, in request order, and the requested
+ * ids that don't exist.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientBatchDTO {
+    private Map<Long, PatientDTO> patients;
+    private List<Long> missing;
+}
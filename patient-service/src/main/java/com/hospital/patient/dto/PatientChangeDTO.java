@@ -0,0 +1,18 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChangeDTO {
+    private Long seq;
+    private Long patientId;
+    private String changeType;
+    private Boolean active;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,20 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes after the requested sequence number, oldest first. Pass nextSince as since on the
+ * next call; it equals the requested since when there were no changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChangePageDTO {
+    private List<PatientChangeDTO> changes;
+    private Long nextSince;
+    private boolean hasMore;
+}
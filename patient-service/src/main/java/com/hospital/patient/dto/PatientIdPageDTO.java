@@ -0,0 +1,18 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientIdPageDTO {
+    private List<Long> ids;
+    private Long nextAfterId;
+    private boolean hasMore;
+    // Change feed position the snapshot is at least as new as; follow /v1/patients/changes from here
+    private Long changeSeq;
+}
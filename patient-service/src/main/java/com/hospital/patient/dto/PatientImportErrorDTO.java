@@ -0,0 +1,16 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A CSV row the import rejected. line is the 1-based line number in the file, header included.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportErrorDTO {
+    private long line;
+    private String error;
+}
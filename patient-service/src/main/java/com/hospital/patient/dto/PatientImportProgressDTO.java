@@ -0,0 +1,25 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportProgressDTO {
+    private ImportStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long rowsPerSecond;
+    private String error;
+    
+    public enum ImportStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,20 @@
+package com.hospital.patient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of an import: the final counts, and the rejected rows up to
+ * patient.import.max-reported-errors. unreportedErrors counts the ones left out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientImportResultDTO {
+    private PatientImportProgressDTO summary;
+    private List<PatientImportErrorDTO> errors;
+    private long unreportedErrors;
+}
@@ -0,0 +1,113 @@
+package com.hospital.patient.logging;
+
+/**
+ * Log argument that masks a name, email or phone number only when the log line is actually
+ * written: SLF4J calls {@link #toString()} while formatting an enabled event, never for a
+ * dropped one. Masking works on the original characters into a per-thread buffer, with no
+ * split or substring, so a written line allocates the masked string on top of this wrapper.
+ * The wrapper itself is created at every call, written or not, so guard debug lines with
+ * {@code isDebugEnabled()}.
+ * <pre>
+ * log.info("Creating patient - {}", MaskedPii.email(dto.getEmail()));
+ * </pre>
+ */
+public final class MaskedPii {
+    private static final String MASK = "***";
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private enum Field { NAME, EMAIL, PHONE }
+
+    private final Field field;
+    private final CharSequence value;
+
+    private MaskedPii(Field field, CharSequence value) {
+        this.field = field;
+        this.value = value;
+    }
+
+    /**
+     * First letter of each word: "John Doe" is logged as "J*** D***".
+     */
+    public static MaskedPii name(CharSequence value) {
+        return new MaskedPii(Field.NAME, value);
+    }
+
+    /**
+     * First 2 characters of the local part and the domain: "john.doe@example.com" is logged as
+     * "jo***@example.com". Local parts of 2 characters or less are masked completely.
+     */
+    public static MaskedPii email(CharSequence value) {
+        return new MaskedPii(Field.EMAIL, value);
+    }
+
+    /**
+     * First and last 2 characters: "5551234567" is logged as "55***67". Values of 4 characters
+     * or less are masked completely.
+     */
+    public static MaskedPii phone(CharSequence value) {
+        return new MaskedPii(Field.PHONE, value);
+    }
+
+    @Override
+    public String toString() {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        switch (field) {
+            case NAME -> maskName(value, out);
+            case EMAIL -> maskEmail(value, out);
+            case PHONE -> maskPhone(value, out);
+        }
+        return out.toString();
+    }
+
+    private static void maskName(CharSequence name, StringBuilder out) {
+        boolean wordStart = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!wordStart) {
+                    out.append(' ');
+                }
+                wordStart = true;
+            } else if (wordStart) {
+                out.append(c).append(MASK);
+                wordStart = false;
+            }
+        }
+        if (out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+    }
+
+    private static void maskEmail(CharSequence email, StringBuilder out) {
+        int at = indexOf(email, '@');
+        if (at < 0) {
+            out.append(MASK);
+            return;
+        }
+        if (at > 2) {
+            out.append(email, 0, 2);
+        }
+        out.append(MASK).append(email, at, email.length());
+    }
+
+    private static void maskPhone(CharSequence phone, StringBuilder out) {
+        if (phone.length() <= 4) {
+            out.append(MASK);
+            return;
+        }
+        out.append(phone, 0, 2).append(MASK).append(phone, phone.length() - 2, phone.length());
+    }
+
+    private static int indexOf(CharSequence value, char c) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
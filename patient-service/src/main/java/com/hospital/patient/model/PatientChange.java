@@ -0,0 +1,39 @@
+package com.hospital.patient.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the patient change log. seq is assigned by PatientChangeLog in commit order;
+ * deletes are kept as tombstones so replicas in other services learn about them.
+ */
+@Entity
+@Table(name = "patient_changes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChange {
+    @Id
+    private Long seq;
+    
+    @Column(nullable = false)
+    private Long patientId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType changeType;
+    
+    // Null for DELETED
+    private Boolean active;
+    
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+    
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,23 @@
+package com.hospital.patient.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row holding the last change log sequence number. Writers lock it until they commit,
+ * which makes sequence order match commit order.
+ */
+@Entity
+@Table(name = "patient_change_counter")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChangeCounter {
+    @Id
+    private Integer id;
+    
+    @Column(nullable = false)
+    private Long lastSeq;
+}
@@ -0,0 +1,18 @@
+package com.hospital.patient.repository;
+
+import com.hospital.patient.model.PatientChangeCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PatientChangeCounterRepository extends JpaRepository<PatientChangeCounter, Integer> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PatientChangeCounter c WHERE c.id = :id")
+    Optional<PatientChangeCounter> lockById(@Param("id") Integer id);
+}
@@ -0,0 +1,19 @@
+package com.hospital.patient.repository;
+
+import com.hospital.patient.model.PatientChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PatientChangeRepository extends JpaRepository<PatientChange, Long> {
+    @Query("SELECT c FROM PatientChange c WHERE c.seq > :since ORDER BY c.seq")
+    List<PatientChange> findAfter(@Param("since") Long since, Pageable pageable);
+    
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM PatientChange c")
+    Long findLatestSeq();
+}
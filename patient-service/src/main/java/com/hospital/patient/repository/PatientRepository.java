@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,6 +28,21 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')) OR :name IS NULL) AND " +
            "(p.phone LIKE CONCAT('%', :phone, '%') OR :phone IS NULL)")
     Page<Patient> searchPatients(@Param("name") String name, @Param("phone") String phone, Pageable pageable);
+    
+    @Query("SELECT p.patientId FROM Patient p WHERE p.patientId > :afterId AND p.active = true ORDER BY p.patientId")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT p.patientId, p.name, p.phone FROM Patient p WHERE p.patientId > :afterId ORDER BY p.patientId")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT p.patientId, p.name, p.phone FROM Patient p WHERE p.patientId IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT p.patientId, p.email FROM Patient p WHERE p.patientId > :afterId ORDER BY p.patientId")
+    List<Object[]> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT p FROM Patient p WHERE p.active = true ORDER BY p.patientId DESC")
+    List<Patient> findRecentActive(Pageable pageable);
 }
 
 
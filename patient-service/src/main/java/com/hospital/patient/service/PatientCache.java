@@ -0,0 +1,139 @@
+package com.hospital.patient.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hospital.patient.dto.PatientChangeDTO;
+import com.hospital.patient.dto.PatientChangePageDTO;
+import com.hospital.patient.dto.PatientDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of patients by id, bounded by entry count and by time since load.
+ * An update or delete made on this replica drops the entry as soon as it commits. Changes made
+ * on other replicas are picked up from the patient change log, which is polled every second, so
+ * they can be served stale for about that long. The TTL bounds what neither path sees: changes
+ * made outside this service (e.g. SQL against the table), and a batch load that read a row just
+ * before its change was applied. Cached DTOs are shared between callers and must not be
+ * modified.
+ * Hits, misses and evictions are published as cache_gets / cache_evictions with cache=patients.
+ */
+@Component
+@Slf4j
+public class PatientCache {
+    private static final int CHANGES_PAGE_SIZE = 1000;
+
+    private final Cache<Long, PatientDTO> cache;
+    private final PatientChangeLog patientChangeLog;
+    private volatile long changeCursor;
+
+    @Value("${patient.cache.warm-up.enabled:false}")
+    private boolean warmUpEnabled;
+
+    @Value("${patient.cache.warm-up.size:1000}")
+    private int warmUpSize;
+
+    public PatientCache(@Value("${patient.cache.max-size:10000}") long maxSize,
+                        @Value("${patient.cache.ttl-seconds:300}") long ttlSeconds,
+                        PatientChangeLog patientChangeLog, MeterRegistry registry) {
+        this.patientChangeLog = patientChangeLog;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "patients", Tags.of("service", "patient-service"));
+    }
+
+    @PostConstruct
+    public void startFollowingChanges() {
+        // Nothing is cached yet, so only changes from here on can leave an entry stale
+        changeCursor = patientChangeLog.latestSeq();
+    }
+
+    /**
+     * Drops the entries of patients changed on any replica since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${patient.cache.invalidation-interval-ms:1000}",
+               initialDelayString = "${patient.cache.invalidation-interval-ms:1000}")
+    public synchronized void invalidateChanged() {
+        try {
+            PatientChangePageDTO page;
+            do {
+                page = patientChangeLog.listChanges(changeCursor, CHANGES_PAGE_SIZE);
+                for (PatientChangeDTO change : page.getChanges()) {
+                    cache.invalidate(change.getPatientId());
+                }
+                changeCursor = page.getNextSince();
+            } while (page.isHasMore());
+        } catch (Exception e) {
+            log.warn("Patient cache invalidation from the change log failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the cached patient, or loads it with {@code loader} (which returns null when the
+     * patient doesn't exist; nothing is cached then). Concurrent misses for one id load it once.
+     */
+    public PatientDTO get(Long patientId, Function<Long, PatientDTO> loader) {
+        return cache.get(patientId, loader);
+    }
+
+    /**
+     * Returns the cached patients among {@code patientIds} and loads all the others with one call
+     * to {@code loader}. Ids the loader leaves out are missing from the result and not cached.
+     */
+    public Map<Long, PatientDTO> getAll(Collection<Long> patientIds,
+                                        Function<Set<? extends Long>, Map<Long, PatientDTO>> loader) {
+        return cache.getAll(patientIds, loader);
+    }
+
+    /**
+     * Drops the patient once the surrounding transaction commits, without waiting for the change
+     * log poll. A single-id read that loaded the old row before the commit finishes before the
+     * entry is dropped, so it can't be left behind.
+     */
+    public void invalidateAfterCommit(Long patientId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(patientId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(patientId);
+            }
+        });
+    }
+
+    /**
+     * How many patients to preload at startup, or 0 when warm-up is off.
+     */
+    public int warmUpSize() {
+        return warmUpEnabled ? warmUpSize : 0;
+    }
+
+    /**
+     * Adds preloaded patients, keeping any entry already loaded since. A patient updated between
+     * the preload query and this call may be cached stale until the TTL expires, if the change
+     * log poll drops its entry before this adds it.
+     */
+    public void preload(List<PatientDTO> patients) {
+        patients.forEach(patient -> cache.asMap().putIfAbsent(patient.getPatientId(), patient));
+    }
+}
@@ -0,0 +1,186 @@
+package com.hospital.patient.service;
+
+import com.hospital.patient.dto.PatientChangeDTO;
+import com.hospital.patient.dto.PatientChangePageDTO;
+import com.hospital.patient.model.Patient;
+import com.hospital.patient.model.PatientChange;
+import com.hospital.patient.model.PatientChange.ChangeType;
+import com.hospital.patient.model.PatientChangeCounter;
+import com.hospital.patient.repository.PatientChangeCounterRepository;
+import com.hospital.patient.repository.PatientChangeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Sequenced log of patient creates, updates and deletes, written in the same transaction as the
+ * change itself, for replicas in other services to follow with GET /v1/patients/changes.
+ * Sequence numbers come from a counter row that each writer locks until it commits, so a change
+ * with a lower number can never become visible after one with a higher number: a consumer that
+ * has seen seq N has seen everything up to N. Long-poll waiters are woken when a change commits
+ * on this instance; changes committed by other instances are picked up when the wait times out.
+ */
+@Component
+@Slf4j
+public class PatientChangeLog {
+    private static final int COUNTER_ID = 1;
+
+    private final PatientChangeRepository changeRepository;
+    private final PatientChangeCounterRepository counterRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate counterInit;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicLong latestCommittedSeq = new AtomicLong();
+    private final ExecutorService notifier = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "patient-changes-notify");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PatientChangeLog(PatientChangeRepository changeRepository, PatientChangeCounterRepository counterRepository,
+                            EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            MeterRegistry registry) {
+        this.changeRepository = changeRepository;
+        this.counterRepository = counterRepository;
+        this.entityManager = entityManager;
+        this.counterInit = new TransactionTemplate(transactionManager);
+        this.counterInit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("patient_change_log_latest_seq", latestCommittedSeq, AtomicLong::get)
+                .description("Sequence number of the last patient change committed on this instance")
+                .tag("service", "patient-service")
+                .register(registry);
+        Gauge.builder("patient_change_log_waiters", waiters, Queue::size)
+                .description("Long-poll requests waiting for the next patient change")
+                .tag("service", "patient-service")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLatestSeq() {
+        latestCommittedSeq.accumulateAndGet(changeRepository.findLatestSeq(), Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+    }
+
+    public void record(ChangeType changeType, Patient patient) {
+        recordAll(changeType, List.of(patient));
+    }
+
+    /**
+     * Appends one change per patient, in order, to the caller's transaction. Holds the counter
+     * lock until that transaction ends, so call it as late in the transaction as possible.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ChangeType changeType, List<Patient> patients) {
+        if (patients.isEmpty()) {
+            return;
+        }
+        PatientChangeCounter counter = lockCounter();
+        long seq = counter.getLastSeq();
+        LocalDateTime now = LocalDateTime.now();
+        for (Patient patient : patients) {
+            entityManager.persist(new PatientChange(++seq, patient.getPatientId(), changeType,
+                changeType == ChangeType.DELETED ? null : patient.getActive(), now));
+        }
+        counter.setLastSeq(seq);
+        long lastSeq = seq;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                latestCommittedSeq.accumulateAndGet(lastSeq, Math::max);
+                wakeWaiters();
+            }
+        });
+    }
+
+    public PatientChangePageDTO listChanges(long since, int limit) {
+        List<PatientChange> changes = changeRepository.findAfter(since, PageRequest.of(0, limit + 1));
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new PatientChangePageDTO(changes.stream().map(PatientChangeLog::toDTO).collect(Collectors.toList()),
+            nextSince, hasMore);
+    }
+
+    /**
+     * Sequence number of the last committed change, read from the database; 0 if there is none.
+     */
+    public long latestSeq() {
+        return changeRepository.findLatestSeq();
+    }
+
+    /**
+     * Runs {@code callback} once, on a notifier thread, when a change after {@code since} commits
+     * on this instance. Returns a handle that cancels the wait.
+     */
+    public Runnable onChangeAfter(long since, Runnable callback) {
+        Waiter waiter = new Waiter(since, callback, new AtomicBoolean());
+        waiters.add(waiter);
+        // A commit between the caller's query and add() has already run wakeWaiters()
+        wakeWaiters();
+        return () -> {
+            waiter.done().set(true);
+            waiters.remove(waiter);
+        };
+    }
+
+    private void wakeWaiters() {
+        long latest = latestCommittedSeq.get();
+        for (Waiter waiter : waiters) {
+            if (waiter.since() < latest && waiter.done().compareAndSet(false, true)) {
+                waiters.remove(waiter);
+                notifier.execute(waiter.callback());
+            }
+        }
+    }
+
+    private PatientChangeCounter lockCounter() {
+        return counterRepository.lockById(COUNTER_ID).orElseGet(() -> {
+            try {
+                // First change ever: create the row in its own transaction, then lock it
+                counterInit.executeWithoutResult(tx -> counterRepository.saveAndFlush(new PatientChangeCounter(COUNTER_ID, 0L)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Patient change counter created concurrently");
+            }
+            return counterRepository.lockById(COUNTER_ID)
+                .orElseThrow(() -> new RuntimeException("Patient change counter is missing"));
+        });
+    }
+
+    private static PatientChangeDTO toDTO(PatientChange change) {
+        return new PatientChangeDTO(change.getSeq(), change.getPatientId(), change.getChangeType().name(),
+            change.getActive(), change.getChangedAt());
+    }
+
+    private record Waiter(long since, Runnable callback, AtomicBoolean done) {
+    }
+}
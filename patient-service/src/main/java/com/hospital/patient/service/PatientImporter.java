@@ -0,0 +1,381 @@
+package com.hospital.patient.service;
+
+import com.hospital.patient.dto.PatientDTO;
+import com.hospital.patient.dto.PatientImportErrorDTO;
+import com.hospital.patient.dto.PatientImportProgressDTO;
+import com.hospital.patient.dto.PatientImportProgressDTO.ImportStatus;
+import com.hospital.patient.model.Patient;
+import com.hospital.patient.model.PatientChange.ChangeType;
+import com.hospital.patient.repository.PatientRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk-loads patients from CSV in the seed-data format (patient_id,name,email,phone,dob,created_at;
+ * patient_id is ignored and new ids are assigned). The file is read line by line and inserted in
+ * chunks, one transaction per chunk, as batched JDBC inserts. Email uniqueness is checked against
+ * a set of existing emails loaded once at the start instead of one query per row. If a chunk
+ * fails (e.g. an email registered through the API meanwhile), its rows are retried one at a time
+ * so only the offending rows are rejected. One import runs at a time; {@link #progress} reports
+ * the running or last one.
+ */
+@Component
+@Slf4j
+public class PatientImporter {
+    private static final DateTimeFormatter CREATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int EMAIL_PAGE_SIZE = 10000;
+    private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+    private final PatientRepository patientRepository;
+    private final PatientSearchIndex patientSearchIndex;
+    private final PatientChangeLog patientChangeLog;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Progress current;
+
+    @Value("${patient.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public PatientImporter(PatientRepository patientRepository, PatientSearchIndex patientSearchIndex,
+                           PatientChangeLog patientChangeLog, EntityManager entityManager,
+                           PlatformTransactionManager transactionManager, Validator validator, MeterRegistry registry) {
+        this.patientRepository = patientRepository;
+        this.patientSearchIndex = patientSearchIndex;
+        this.patientChangeLog = patientChangeLog;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.importedCounter = Counter.builder("patient_import_rows_total")
+                .description("CSV rows imported as patients")
+                .tag("service", "patient-service")
+                .tag("outcome", "imported")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("patient_import_rows_total")
+                .description("CSV rows rejected by the import")
+                .tag("service", "patient-service")
+                .tag("outcome", "rejected")
+                .register(registry);
+    }
+
+    /**
+     * Imports every row of the CSV, passing each rejected row to {@code onError} as its chunk
+     * completes. Returns the final counts. Throws IllegalStateException if an import is already
+     * running, and RuntimeException if the header lacks a required column.
+     */
+    public PatientImportProgressDTO importCsv(InputStream csv, Consumer<PatientImportErrorDTO> onError) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A patient import is already running");
+        }
+        Progress progress = new Progress();
+        current = progress;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+            Columns columns = Columns.of(reader.readLine());
+            Set<String> emails = loadExistingEmails();
+            log.info("Patient import started - {} existing emails loaded", emails.size());
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.rowsRead++;
+                Row row = parseRow(lineNumber, line, columns);
+                if (row.error == null && !emails.add(row.patient.getEmail())) {
+                    row.error = "Email already exists";
+                }
+                if (row.error != null) {
+                    reject(row, progress, onError);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, progress, onError);
+                    chunk.clear();
+                }
+            }
+            insertChunk(chunk, progress, onError);
+            progress.finish(ImportStatus.COMPLETED, null);
+            log.info("Patient import completed - {} rows read, {} imported, {} rejected ({} rows/s)",
+                     progress.rowsRead, progress.imported, progress.rejected, progress.rowsPerSecond());
+            return progress.toDTO();
+        } catch (IOException | RuntimeException e) {
+            progress.finish(ImportStatus.FAILED, e.getMessage());
+            log.error("Patient import failed after {} rows: {}", progress.rowsRead, e.getMessage());
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * The running import's counts so far, or the last import's final counts; null if none ran.
+     */
+    public PatientImportProgressDTO progress() {
+        Progress progress = current;
+        return progress == null ? null : progress.toDTO();
+    }
+
+    private Set<String> loadExistingEmails() {
+        Set<String> emails = new HashSet<>();
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = patientRepository.findEmailsAfter(afterId, PageRequest.of(0, EMAIL_PAGE_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                emails.add((String) row[1]);
+            }
+            if (rows.size() < EMAIL_PAGE_SIZE) {
+                return emails;
+            }
+        }
+    }
+
+    private void insertChunk(List<Row> chunk, Progress progress, Consumer<PatientImportErrorDTO> onError) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(tx -> insert(chunk));
+            progress.imported += chunk.size();
+            importedCounter.increment(chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("Patient import chunk of {} rows failed, inserting rows one at a time: {}", chunk.size(), e.getMessage());
+            for (Row row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> insert(List.of(row)));
+                    progress.imported++;
+                    importedCounter.increment();
+                } catch (RuntimeException single) {
+                    row.error = single instanceof DataIntegrityViolationException ? "Email already exists" : single.getMessage();
+                    reject(row, progress, onError);
+                }
+            }
+        }
+        progress.logPeriodically();
+    }
+
+    private void insert(List<Row> rows) {
+        try {
+            List<Patient> patients = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                // Persist a copy: after a failed attempt the row's entity would keep the id it was given
+                Patient patient = copyOf(row.patient);
+                entityManager.persist(patient);
+                patients.add(patient);
+            }
+            patientChangeLog.recordAll(ChangeType.CREATED, patients);
+            patientSearchIndex.refreshAfterCommit();
+            entityManager.flush();
+        } finally {
+            // Keep the persistence context from growing across chunks
+            entityManager.clear();
+        }
+    }
+
+    private void reject(Row row, Progress progress, Consumer<PatientImportErrorDTO> onError) {
+        progress.rejected++;
+        rejectedCounter.increment();
+        onError.accept(new PatientImportErrorDTO(row.line, row.error));
+    }
+
+    private Row parseRow(long lineNumber, String line, Columns columns) {
+        Row row = new Row(lineNumber);
+        List<String> fields = splitCsvLine(line);
+        PatientDTO dto = new PatientDTO();
+        dto.setName(columns.get(fields, "name"));
+        dto.setEmail(columns.get(fields, "email"));
+        dto.setPhone(columns.get(fields, "phone"));
+        try {
+            String dob = columns.get(fields, "dob");
+            dto.setDob(dob == null ? null : LocalDate.parse(dob));
+            String createdAt = columns.get(fields, "created_at");
+            dto.setCreatedAt(createdAt == null ? null : LocalDateTime.parse(createdAt, CREATED_AT));
+        } catch (DateTimeParseException e) {
+            // The value itself isn't echoed: rejected rows are logged by the command-line import
+            row.error = "Invalid date (dob is yyyy-MM-dd, created_at is yyyy-MM-dd HH:mm:ss)";
+            return row;
+        }
+        // Same rules as POST /v1/patients
+        Set<ConstraintViolation<PatientDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            row.error = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+            return row;
+        }
+        Patient patient = new Patient();
+        patient.setName(dto.getName());
+        patient.setEmail(dto.getEmail());
+        patient.setPhone(dto.getPhone());
+        patient.setDob(dto.getDob());
+        patient.setCreatedAt(dto.getCreatedAt());
+        patient.setActive(true);
+        row.patient = patient;
+        return row;
+    }
+
+    private static Patient copyOf(Patient source) {
+        Patient patient = new Patient();
+        patient.setName(source.getName());
+        patient.setEmail(source.getEmail());
+        patient.setPhone(source.getPhone());
+        patient.setDob(source.getDob());
+        patient.setCreatedAt(source.getCreatedAt());
+        patient.setActive(source.getActive());
+        return patient;
+    }
+
+    /**
+     * Splits one CSV line. Fields may be quoted, with "" for a literal quote; quoted fields
+     * can't span lines.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class Row {
+        private final long line;
+        private Patient patient;
+        private String error;
+
+        private Row(long line) {
+            this.line = line;
+        }
+    }
+
+    /**
+     * Column positions taken from the header line.
+     */
+    private record Columns(Map<String, Integer> positions) {
+        private static final List<String> REQUIRED = List.of("name", "email", "phone", "dob");
+
+        static Columns of(String header) {
+            if (header == null) {
+                throw new RuntimeException("CSV is empty, expected a header line");
+            }
+            Map<String, Integer> positions = new HashMap<>();
+            List<String> names = splitCsvLine(header.replace("\uFEFF", ""));
+            for (int i = 0; i < names.size(); i++) {
+                positions.put(names.get(i).trim().toLowerCase(), i);
+            }
+            if (!positions.keySet().containsAll(REQUIRED)) {
+                throw new RuntimeException("CSV header must include the columns " + String.join(", ", REQUIRED));
+            }
+            return new Columns(positions);
+        }
+
+        /**
+         * The trimmed field, or null when it is blank or the row is too short.
+         */
+        String get(List<String> fields, String column) {
+            Integer position = positions.get(column);
+            if (position == null || position >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * Counts for one import. Written by the importing thread only; read by progress requests.
+     */
+    private static final class Progress {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private volatile ImportStatus status = ImportStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile long rowsRead;
+        private volatile long imported;
+        private volatile long rejected;
+        private volatile String error;
+        private long lastLogMillis = System.currentTimeMillis();
+
+        private void finish(ImportStatus finalStatus, String failure) {
+            error = failure;
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private long rowsPerSecond() {
+            long endNanos = finishedAt == null ? System.nanoTime() : finishedNanos;
+            long elapsedMs = Math.max(1, (endNanos - startedNanos) / 1_000_000);
+            return rowsRead * 1000 / elapsedMs;
+        }
+
+        private void logPeriodically() {
+            long now = System.currentTimeMillis();
+            if (now - lastLogMillis >= PROGRESS_LOG_INTERVAL_MS) {
+                lastLogMillis = now;
+                log.info("Patient import progress - {} rows read, {} imported, {} rejected ({} rows/s)",
+                         rowsRead, imported, rejected, rowsPerSecond());
+            }
+        }
+
+        private PatientImportProgressDTO toDTO() {
+            return new PatientImportProgressDTO(status, startedAt, finishedAt, rowsRead, imported, rejected,
+                rowsPerSecond(), error);
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.hospital.patient.service;
+
+import com.hospital.patient.dto.PatientChangeDTO;
+import com.hospital.patient.dto.PatientChangePageDTO;
+import com.hospital.patient.repository.PatientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over patient names (lower-cased) and phone numbers (digits only), so
+ * substring search doesn't scan the patients table. Each trigram maps to a sorted posting list
+ * of patient ids. A query intersects the lists of its own trigrams, starting from the shortest,
+ * and then checks each candidate against the stored text, because trigrams appearing somewhere
+ * in a name don't mean the whole query does. Queries shorter than three characters scan the
+ * stored text instead. Matches come back in id order and paging stops at the requested page, so
+ * no total is counted.
+ * Loaded from the database at startup; until then {@link #search} returns null and callers
+ * use the SQL search. After that the index follows the patient change log from the sequence
+ * number read before the load, so it sees creates, updates and deletes committed by any replica.
+ * Each change re-reads the patient's current row, so a load page read before a newer commit is
+ * corrected when that commit's change is replayed. This replica's own writes trigger a refresh
+ * as soon as they commit, so a patient is searchable here right after it is saved.
+ */
+@Component
+@Slf4j
+public class PatientSearchIndex {
+    private static final int GRAM = 3;
+    private static final int LOAD_PAGE_SIZE = 5000;
+    private static final int CHANGES_PAGE_SIZE = 1000;
+
+    private final PatientRepository patientRepository;
+    private final PatientChangeLog patientChangeLog;
+    private final Timer searchLatency;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> nameGrams = new HashMap<>();
+    private final Map<Long, Postings> phoneGrams = new HashMap<>();
+    private final Map<Integer, Indexed> patients = new HashMap<>();
+    private final Postings allIds = new Postings();
+    private volatile boolean ready;
+    private volatile long changeCursor;
+
+    public PatientSearchIndex(PatientRepository patientRepository, PatientChangeLog patientChangeLog,
+                              MeterRegistry registry) {
+        this.patientRepository = patientRepository;
+        this.patientChangeLog = patientChangeLog;
+        this.searchLatency = Timer.builder("patient_search_index_latency_ms")
+                .description("Patient substring search served from the trigram index")
+                .tag("service", "patient-service")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long started = System.currentTimeMillis();
+        // Changes committed after this point are replayed by refresh(), which re-reads their rows
+        long head = patientChangeLog.latestSeq();
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            List<Object[]> rows = patientRepository.findSearchRowsAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                put(afterId, (String) row[1], (String) row[2]);
+            }
+            loaded += rows.size();
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+        changeCursor = head;
+        ready = true;
+        log.info("Patient search index loaded - {} patients, {} name and {} phone trigrams in {} ms, change log from seq {}",
+                 loaded, nameGrams.size(), phoneGrams.size(), System.currentTimeMillis() - started, head);
+        refresh();
+    }
+
+    /**
+     * Applies patient changes logged since the load or the last refresh, by any replica.
+     */
+    @Scheduled(fixedDelayString = "${patient.search-index.refresh-interval-ms:1000}",
+               initialDelayString = "${patient.search-index.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+        try {
+            PatientChangePageDTO page;
+            do {
+                page = patientChangeLog.listChanges(changeCursor, CHANGES_PAGE_SIZE);
+                apply(page.getChanges());
+                changeCursor = page.getNextSince();
+            } while (page.isHasMore());
+        } catch (Exception e) {
+            log.warn("Patient search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refreshes the index once the surrounding transaction commits, so this replica's own write
+     * is searchable as soon as the request returns.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshIfLoaded();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshIfLoaded();
+            }
+        });
+    }
+
+    private void refreshIfLoaded() {
+        // While the load runs, don't wait for its lock: the load replays this change when it ends
+        if (ready) {
+            refresh();
+        }
+    }
+
+    /**
+     * Returns the ids of patients whose name contains {@code name} (ignoring case) and whose
+     * phone digits contain the digits of {@code phone}, in id order: at most {@code limit + 1}
+     * after skipping {@code offset} matches, the extra one telling whether there is another page.
+     * Either filter may be null. Returns null if the index can't answer (not loaded yet, or a
+     * phone filter without digits), in which case the caller searches the database.
+     */
+    public List<Long> search(String name, String phone, int offset, int limit) {
+        String nameQuery = name == null ? null : normalizeName(name);
+        String phoneQuery = phone == null ? null : digits(phone);
+        if (!ready || (phoneQuery != null && phoneQuery.isEmpty())) {
+            return null;
+        }
+        long started = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            collectPostings(nameQuery, nameGrams, lists);
+            collectPostings(phoneQuery, phoneGrams, lists);
+            if (lists.contains(null)) {
+                return List.of(); // A trigram no patient has
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.size));
+            Postings driver = lists.isEmpty() ? allIds : lists.get(0);
+
+            List<Long> page = new ArrayList<>(limit + 1);
+            int skipped = 0;
+            for (int i = 0; i < driver.size && page.size() <= limit; i++) {
+                int id = driver.ids[i];
+                if (!inAll(id, lists) || !patients.get(id).matches(nameQuery, phoneQuery)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    page.add((long) id);
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+            searchLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void apply(List<PatientChangeDTO> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>();
+        for (PatientChangeDTO change : changes) {
+            changed.add(change.getPatientId());
+        }
+        // The current row, not the change, decides: a patient changed several times in the page
+        // ends up with its latest values, and one deleted since then is removed
+        for (Object[] row : patientRepository.findSearchRowsByIds(changed)) {
+            Long patientId = (Long) row[0];
+            put(patientId, (String) row[1], (String) row[2]);
+            changed.remove(patientId);
+        }
+        for (Long patientId : changed) {
+            remove(patientId);
+        }
+    }
+
+    private void put(Long patientId, String name, String phone) {
+        int id = toIndexId(patientId);
+        Indexed indexed = new Indexed(name == null ? "" : normalizeName(name), phone == null ? "" : digits(phone));
+        lock.writeLock().lock();
+        try {
+            Indexed previous = patients.put(id, indexed);
+            if (previous != null) {
+                unindex(id, previous);
+            } else {
+                allIds.add(id);
+            }
+            for (long gram : grams(indexed.name())) {
+                nameGrams.computeIfAbsent(gram, g -> new Postings()).add(id);
+            }
+            for (long gram : grams(indexed.phone())) {
+                phoneGrams.computeIfAbsent(gram, g -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long patientId) {
+        int id = toIndexId(patientId);
+        lock.writeLock().lock();
+        try {
+            Indexed previous = patients.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+                allIds.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(int id, Indexed indexed) {
+        removeFrom(nameGrams, grams(indexed.name()), id);
+        removeFrom(phoneGrams, grams(indexed.phone()), id);
+    }
+
+    private static void removeFrom(Map<Long, Postings> index, Set<Long> grams, int id) {
+        for (long gram : grams) {
+            Postings postings = index.get(gram);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    private static void collectPostings(String query, Map<Long, Postings> index, List<Postings> lists) {
+        if (query == null) {
+            return;
+        }
+        for (long gram : grams(query)) {
+            lists.add(index.get(gram));
+        }
+    }
+
+    private static boolean inAll(int id, List<Postings> lists) {
+        // lists.get(0) is the driver, so every id already belongs to it
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalizeName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String digits(String phone) {
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static int toIndexId(Long patientId) {
+        // Posting lists hold ints to halve their size
+        return Math.toIntExact(patientId);
+    }
+
+    private record Indexed(String name, String phone) {
+        boolean matches(String nameQuery, String phoneQuery) {
+            return (nameQuery == null || name.contains(nameQuery)) && (phoneQuery == null || phone.contains(phoneQuery));
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free list of patient ids. New patients have the highest ids, so adds are
+     * usually appends.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            int at = size > 0 && ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0 && at < size) {
+                return; // Already present
+            }
+            int insertAt = at == size ? size : -at - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
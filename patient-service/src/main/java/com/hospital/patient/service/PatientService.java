@@ -1,47 +1,48 @@
 package com.hospital.patient.service;
 
+import com.hospital.patient.dto.PatientBatchDTO;
 import com.hospital.patient.dto.PatientDTO;
+import com.hospital.patient.dto.PatientIdPageDTO;
 import com.hospital.patient.dto.PaginationResponse;
+import com.hospital.patient.logging.MaskedPii;
 import com.hospital.patient.model.Patient;
+import com.hospital.patient.model.PatientChange.ChangeType;
 import com.hospital.patient.repository.PatientRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PatientService {
-    private final PatientRepository patientRepository;
+    public static final int MAX_BATCH_SIZE = 5000;
     
-    public String maskPII(String value) {
-        if (value == null || value.isEmpty()) {
-            return value;
-        }
-        if (value.contains("@")) { // Email
-            String[] parts = value.split("@");
-            if (parts[0].length() > 2) {
-                return parts[0].substring(0, 2) + "***@" + parts[1];
-            }
-            return "***@" + parts[1];
-        } else if (value.length() > 4) { // Phone
-            return value.substring(0, 2) + "***" + value.substring(value.length() - 2);
-        }
-        return "***";
-    }
+    private final PatientRepository patientRepository;
+    private final PatientSearchIndex patientSearchIndex;
+    private final PatientCache patientCache;
+    private final PatientChangeLog patientChangeLog;
     
     @Transactional
     public PatientDTO createPatient(PatientDTO patientDTO, String correlationId) {
-        log.info("Creating patient - {}", maskPII(patientDTO.getEmail()), 
-                 org.slf4j.MDC.get("correlationId"));
+        log.info("Creating patient - {}", MaskedPii.email(patientDTO.getEmail()));
         
         if (patientRepository.findByEmail(patientDTO.getEmail()).isPresent()) {
             throw new RuntimeException("Email already exists");
@@ -55,25 +56,81 @@ public class PatientService {
         patient.setActive(true);
         
         patient = patientRepository.save(patient);
+        patientSearchIndex.refreshAfterCommit();
+        patientChangeLog.record(ChangeType.CREATED, patient);
         log.info("Patient created - ID: {}", patient.getPatientId());
         return toDTO(patient);
     }
     
     public PatientDTO getPatient(Long patientId, String correlationId) {
         log.debug("Fetching patient by ID: {}", patientId);
-        Patient patient = patientRepository.findById(patientId)
-            .orElseThrow(() -> {
-                log.warn("Patient not found - ID: {}", patientId);
-                return new RuntimeException("Patient not found");
-            });
-        log.debug("Patient found - ID: {}, Name: {}", patient.getPatientId(), patient.getName());
-        return toDTO(patient);
+        PatientDTO patient = patientCache.get(patientId, id -> patientRepository.findById(id).map(this::toDTO).orElse(null));
+        if (patient == null) {
+            log.warn("Patient not found - ID: {}", patientId);
+            throw new RuntimeException("Patient not found");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Patient found - ID: {}, Name: {}", patient.getPatientId(), MaskedPii.name(patient.getName()));
+        }
+        return patient;
+    }
+    
+    /**
+     * Looks up many patients at once: cached ones are served from the cache and the rest are
+     * loaded with a single findAllById. Duplicate ids are resolved once.
+     */
+    public PatientBatchDTO getPatients(List<Long> patientIds, String correlationId) {
+        Set<Long> ids = new LinkedHashSet<>(patientIds);
+        ids.remove(null);
+        Map<Long, PatientDTO> found = patientCache.getAll(ids, missing ->
+            patientRepository.findAllById(new ArrayList<Long>(missing)).stream()
+                .collect(Collectors.toMap(Patient::getPatientId, this::toDTO)));
+        Map<Long, PatientDTO> patients = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            PatientDTO patient = found.get(id);
+            if (patient != null) {
+                patients.put(id, patient);
+            } else {
+                missing.add(id);
+            }
+        }
+        log.debug("Batch lookup - {} ids, {} found, {} missing", ids.size(), patients.size(), missing.size());
+        return new PatientBatchDTO(patients, missing);
+    }
+    
+    /**
+     * Preloads the cache with the most recently registered active patients when
+     * patient.cache.warm-up.enabled is set.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        int size = patientCache.warmUpSize();
+        if (size <= 0) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        List<PatientDTO> recent = patientRepository.findRecentActive(PageRequest.of(0, size)).stream()
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+        patientCache.preload(recent);
+        log.info("Patient cache warmed up with {} patients in {} ms", recent.size(), System.currentTimeMillis() - started);
     }
     
     public PaginationResponse<PatientDTO> searchPatients(String name, String phone, 
                                                          int page, int limit, 
                                                          String correlationId) {
-        log.debug("Searching patients - Name: {}, Phone: {}, Page: {}, Limit: {}", name, phone, page, limit);
+        if (log.isDebugEnabled()) {
+            log.debug("Searching patients - Name: {}, Phone: {}, Page: {}, Limit: {}",
+                      MaskedPii.name(name), MaskedPii.phone(phone), page, limit);
+        }
+        if (name != null || phone != null) {
+            List<Long> ids = patientSearchIndex.search(name, phone, (page - 1) * limit, limit);
+            if (ids != null) {
+                return hydrateSearchPage(ids, page, limit);
+            }
+            log.debug("Search index not available for this query, searching the database");
+        }
         Pageable pageable = PageRequest.of(page - 1, limit);
         
         List<Patient> patients;
@@ -108,11 +165,44 @@ public class PatientService {
             .collect(Collectors.toList());
         
         PaginationResponse.PaginationInfo paginationInfo = 
-            new PaginationResponse.PaginationInfo(page, limit, total, (int) Math.ceil((double) total / limit));
+            new PaginationResponse.PaginationInfo(page, limit, total, (int) Math.ceil((double) total / limit),
+                                                  (long) page * limit < total);
         
         return new PaginationResponse<>(patientDTOs, paginationInfo);
     }
     
+    /**
+     * Loads the patients for one page of index matches, keeping the index's id order. The index
+     * returns one id beyond the page to say whether another page exists; no total is counted.
+     */
+    private PaginationResponse<PatientDTO> hydrateSearchPage(List<Long> ids, int page, int limit) {
+        boolean hasMore = ids.size() > limit;
+        List<Long> pageIds = hasMore ? ids.subList(0, limit) : ids;
+        Map<Long, Patient> byId = patientRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(Patient::getPatientId, Function.identity()));
+        // A patient deleted since the index answered is simply left out
+        List<PatientDTO> patientDTOs = pageIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+        log.debug("Index search completed - Found {} patients, more: {}", patientDTOs.size(), hasMore);
+        return new PaginationResponse<>(patientDTOs,
+            new PaginationResponse.PaginationInfo(page, limit, null, null, hasMore));
+    }
+    
+    public PatientIdPageDTO listActivePatientIds(Long afterId, int limit, String correlationId) {
+        // Read before the ids: changes after this point are replayed by consumers from the change feed
+        long changeSeq = patientChangeLog.latestSeq();
+        List<Long> ids = patientRepository.findActiveIdsAfter(afterId, PageRequest.of(0, limit + 1));
+        boolean hasMore = ids.size() > limit;
+        if (hasMore) {
+            ids = ids.subList(0, limit);
+        }
+        Long nextAfterId = ids.isEmpty() ? afterId : ids.get(ids.size() - 1);
+        return new PatientIdPageDTO(ids, nextAfterId, hasMore, changeSeq);
+    }
+    
     @Transactional
     public PatientDTO updatePatient(Long patientId, PatientDTO patientDTO, String correlationId) {
         Patient patient = patientRepository.findById(patientId)
@@ -131,6 +221,9 @@ public class PatientService {
         if (patientDTO.getDob() != null) patient.setDob(patientDTO.getDob());
         
         patient = patientRepository.save(patient);
+        patientSearchIndex.refreshAfterCommit();
+        patientCache.invalidateAfterCommit(patientId);
+        patientChangeLog.record(ChangeType.UPDATED, patient);
         log.info("Patient updated - ID: {}", patientId);
         return toDTO(patient);
     }
@@ -142,6 +235,10 @@ public class PatientService {
         
         // Hard delete - physically remove from database
         patientRepository.delete(patient);
+        patientSearchIndex.refreshAfterCommit();
+        patientCache.invalidateAfterCommit(patientId);
+        // Tombstone, so replicas in other services learn about the delete
+        patientChangeLog.record(ChangeType.DELETED, patient);
         log.info("Patient hard deleted - ID: {}", patientId);
     }
     
@@ -0,0 +1,98 @@
+package com.hospital.patient.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for each repository query, with the values it
+ * bound, and fails if a query that should use an index scans a whole table. Catches a dropped
+ * or mismatched index, or a query change that no index covers. Plans are H2's, the database
+ * {@code @DataJpaTest} runs on.
+ */
+@DataJpaTest
+@Import(QueryPlanTest.RecordingConfig.class)
+class QueryPlanTest {
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PatientChangeRepository patientChangeRepository;
+
+    @Autowired
+    private PatientChangeCounterRepository patientChangeCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> unexpectedScans = new ArrayList<>();
+
+    @Test
+    void repositoryQueriesUseAnIndex() {
+        indexed("findByEmail", () -> patientRepository.findByEmail("john.doe@example.com"));
+        indexed("findActiveIdsAfter", () -> patientRepository.findActiveIdsAfter(0L, PageRequest.of(0, 1001)));
+        indexed("findSearchRowsAfter", () -> patientRepository.findSearchRowsAfter(0L, PageRequest.of(0, 5000)));
+        indexed("findSearchRowsByIds", () -> patientRepository.findSearchRowsByIds(List.of(1L, 2L, 3L)));
+        indexed("findEmailsAfter", () -> patientRepository.findEmailsAfter(0L, PageRequest.of(0, 10000)));
+        indexed("PatientChangeRepository.findAfter", () -> patientChangeRepository.findAfter(0L, PageRequest.of(0, 1001)));
+        indexed("PatientChangeRepository.findLatestSeq", () -> patientChangeRepository.findLatestSeq());
+        indexed("PatientChangeCounterRepository.lockById", () -> patientChangeCounterRepository.lockById(1));
+        // Cache warm-up at startup: walks the primary key backwards, skipping inactive patients
+        scanExpected("findRecentActive", () -> patientRepository.findRecentActive(PageRequest.of(0, 1000)));
+        // Substring searches: a leading wildcard can't use a b-tree index. Only used until the
+        // in-memory search index has loaded
+        scanExpected("findByNameContainingIgnoreCase",
+            () -> patientRepository.findByNameContainingIgnoreCase("john", PageRequest.of(0, 20)));
+        scanExpected("findByPhoneContaining", () -> patientRepository.findByPhoneContaining("555", PageRequest.of(0, 20)));
+        scanExpected("searchPatients", () -> patientRepository.searchPatients("john", "555", PageRequest.of(0, 20)));
+
+        assertThat(unexpectedScans).as("queries that scan a whole table").isEmpty();
+    }
+
+    private void indexed(String name, Runnable query) {
+        explain(name, query, false);
+    }
+
+    private void scanExpected(String name, Runnable query) {
+        explain(name, query, true);
+    }
+
+    private void explain(String name, Runnable query, boolean scanExpected) {
+        SqlRecorder.clear();
+        query.run();
+        List<SqlRecorder.RecordedStatement> statements = SqlRecorder.executed();
+        assertThat(statements).as("SQL run by %s", name).isNotEmpty();
+        for (SqlRecorder.RecordedStatement statement : statements) {
+            String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), String.class,
+                statement.parameters().toArray())).replaceAll("\\s+", " ");
+            if (plan.contains(".tableScan") && !scanExpected) {
+                unexpectedScans.add(name + ": " + plan);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
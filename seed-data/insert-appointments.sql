@@ -8,304 +8,307 @@
 -- DELETE FROM appointments;
 
 -- Insert Appointments with fixed timing
-INSERT INTO appointments (patient_id, doctor_id, department, slot_start, slot_end, status, created_at, reschedule_count, version) VALUES
-(42, 1, 'Cardiology', '2025-01-14T09:00:00', '2025-01-14T09:30:00', 'COMPLETED', '2023-06-17T17:06:31', 0, 0),
-(32, 23, 'Pediatrics', '2023-04-25T09:00:00', '2023-04-25T09:30:00', 'COMPLETED', '2023-08-19T10:17:09', 0, 0),
-(5, 5, 'Neurology', '2025-06-28T09:00:00', '2025-06-28T09:30:00', 'CANCELLED', '2024-05-20T03:47:31', 0, 0),
-(25, 20, 'Dermatology', '2024-04-03T09:00:00', '2024-04-03T09:30:00', 'CANCELLED', '2025-07-29T11:56:48', 0, 0),
-(28, 4, 'Cardiology', '2025-05-06T11:16:01', '2025-05-06T11:46:01', 'COMPLETED', '2024-12-02T11:11:14', 0, 0),
-(57, 8, 'Pediatrics', '2024-06-10T12:17:11', '2024-06-10T12:47:11', 'COMPLETED', '2024-10-08T05:13:05', 0, 0),
-(47, 4, 'Neurology', '2024-10-24T17:29:00', '2024-10-24T17:59:00', 'CANCELLED', '2024-01-31T22:58:49', 0, 0),
-(24, 5, 'Pediatrics', '2023-04-15T09:00:00', '2023-04-15T09:30:00', 'SCHEDULED', '2023-05-25T19:52:12', 0, 0),
-(28, 4, 'Neurology', '2023-07-22T09:00:00', '2023-07-22T09:30:00', 'SCHEDULED', '2025-06-30T01:00:10', 0, 0),
-(36, 18, 'Neurology', '2023-07-09T17:29:00', '2023-07-09T17:59:00', 'COMPLETED', '2024-10-19T00:13:43', 0, 0),
-(56, 24, 'Cardiology', '2024-03-22T17:29:00', '2024-03-22T17:59:00', 'COMPLETED', '2024-06-30T06:19:12', 0, 0),
-(7, 19, 'Dermatology', '2023-11-27T11:28:39', '2023-11-27T11:58:39', 'CANCELLED', '2025-01-19T01:19:25', 0, 0),
-(15, 4, 'Neurology', '2025-05-14T09:00:00', '2025-05-14T09:30:00', 'SCHEDULED', '2024-03-08T17:46:32', 0, 0),
-(37, 8, 'Pediatrics', '2025-05-21T10:19:01', '2025-05-21T10:49:01', 'SCHEDULED', '2024-02-20T11:10:26', 0, 0),
-(2, 6, 'Neurology', '2024-04-24T17:29:00', '2024-04-24T17:59:00', 'COMPLETED', '2023-01-10T11:38:25', 0, 0),
-(12, 5, 'Dermatology', '2024-09-14T14:19:24', '2024-09-14T14:49:24', 'SCHEDULED', '2023-02-17T14:58:46', 0, 0),
-(6, 24, 'Dermatology', '2023-12-01T09:00:00', '2023-12-01T09:30:00', 'COMPLETED', '2024-12-05T17:08:27', 0, 0),
-(22, 6, 'Neurology', '2024-04-29T09:00:00', '2024-04-29T09:30:00', 'CANCELLED', '2025-07-15T04:50:00', 0, 0),
-(6, 2, 'Orthopedics', '2023-09-02T12:39:58', '2023-09-02T13:09:58', 'CANCELLED', '2023-05-07T17:34:47', 0, 0),
-(18, 15, 'Pediatrics', '2025-01-24T10:46:50', '2025-01-24T11:16:50', 'COMPLETED', '2024-10-05T09:53:20', 0, 0),
-(18, 7, 'Dermatology', '2023-06-26T17:29:00', '2023-06-26T17:59:00', 'COMPLETED', '2023-06-22T06:16:13', 0, 0),
-(19, 22, 'Dermatology', '2025-01-25T17:29:00', '2025-01-25T17:59:00', 'CANCELLED', '2024-04-24T02:42:30', 0, 0),
-(3, 8, 'Pediatrics', '2025-07-20T09:00:00', '2025-07-20T09:30:00', 'SCHEDULED', '2023-11-14T13:26:47', 0, 0),
-(20, 7, 'Orthopedics', '2024-02-01T17:29:00', '2024-02-01T17:59:00', 'COMPLETED', '2023-07-06T09:20:26', 0, 0),
-(1, 16, 'Pediatrics', '2023-09-30T17:29:00', '2023-09-30T17:59:00', 'COMPLETED', '2025-04-07T08:06:32', 0, 0),
-(46, 8, 'Dermatology', '2025-05-17T17:29:00', '2025-05-17T17:59:00', 'SCHEDULED', '2024-09-08T19:53:10', 0, 0),
-(56, 24, 'Cardiology', '2024-11-08T15:26:43', '2024-11-08T15:56:43', 'COMPLETED', '2023-05-01T22:55:42', 0, 0),
-(56, 11, 'Dermatology', '2024-10-28T17:29:00', '2024-10-28T17:59:00', 'COMPLETED', '2024-10-10T20:45:34', 0, 0),
-(19, 4, 'Pediatrics', '2023-02-02T09:35:19', '2023-02-02T10:05:19', 'SCHEDULED', '2024-12-15T17:39:20', 0, 0),
-(54, 23, 'Neurology', '2023-05-17T17:29:00', '2023-05-17T17:59:00', 'SCHEDULED', '2024-01-13T23:29:44', 0, 0),
-(28, 19, 'Pediatrics', '2025-03-24T17:29:00', '2025-03-24T17:59:00', 'COMPLETED', '2024-04-26T23:52:26', 0, 0),
-(48, 11, 'Orthopedics', '2024-06-01T09:41:53', '2024-06-01T10:11:53', 'SCHEDULED', '2025-03-04T00:11:46', 0, 0),
-(41, 4, 'Dermatology', '2025-03-03T09:00:00', '2025-03-03T09:30:00', 'COMPLETED', '2024-06-29T09:56:48', 0, 0),
-(47, 21, 'Orthopedics', '2024-01-03T09:00:00', '2024-01-03T09:30:00', 'SCHEDULED', '2024-02-02T15:11:13', 0, 0),
-(13, 6, 'Dermatology', '2023-08-26T11:23:55', '2023-08-26T11:53:55', 'SCHEDULED', '2025-02-06T14:01:04', 0, 0),
-(30, 25, 'Dermatology', '2025-06-19T09:00:00', '2025-06-19T09:30:00', 'CANCELLED', '2025-05-26T21:46:44', 0, 0),
-(42, 21, 'Dermatology', '2024-05-17T09:00:00', '2024-05-17T09:30:00', 'SCHEDULED', '2024-11-14T03:32:46', 0, 0),
-(5, 16, 'Pediatrics', '2024-04-15T09:57:50', '2024-04-15T10:27:50', 'CANCELLED', '2023-03-29T06:14:54', 0, 0),
-(23, 17, 'Cardiology', '2024-04-27T09:00:00', '2024-04-27T09:30:00', 'COMPLETED', '2023-02-28T10:05:59', 0, 0),
-(4, 12, 'Neurology', '2023-04-30T09:00:00', '2023-04-30T09:30:00', 'CANCELLED', '2025-07-11T20:54:03', 0, 0),
-(33, 13, 'Pediatrics', '2025-06-20T12:14:54', '2025-06-20T12:44:54', 'CANCELLED', '2023-03-05T17:26:15', 0, 0),
-(29, 19, 'Orthopedics', '2024-05-14T11:23:11', '2024-05-14T11:53:11', 'COMPLETED', '2025-02-17T20:19:40', 0, 0),
-(10, 2, 'Pediatrics', '2023-06-10T17:29:00', '2023-06-10T17:59:00', 'CANCELLED', '2023-05-12T00:01:04', 0, 0),
-(33, 21, 'Orthopedics', '2023-03-02T17:29:00', '2023-03-02T17:59:00', 'CANCELLED', '2024-11-11T00:48:40', 0, 0),
-(29, 17, 'Dermatology', '2023-09-04T14:29:15', '2023-09-04T14:59:15', 'COMPLETED', '2024-03-15T11:02:13', 0, 0),
-(25, 14, 'Neurology', '2025-07-17T17:29:00', '2025-07-17T17:59:00', 'CANCELLED', '2024-06-03T20:37:55', 0, 0),
-(5, 11, 'Cardiology', '2025-05-16T17:29:00', '2025-05-16T17:59:00', 'COMPLETED', '2024-01-27T11:05:01', 0, 0),
-(47, 22, 'Dermatology', '2023-08-22T14:19:26', '2023-08-22T14:49:26', 'SCHEDULED', '2025-06-24T06:06:13', 0, 0),
-(43, 5, 'Neurology', '2024-04-26T17:29:00', '2024-04-26T17:59:00', 'SCHEDULED', '2025-07-13T08:44:41', 0, 0),
-(46, 3, 'Neurology', '2025-05-18T09:00:00', '2025-05-18T09:30:00', 'CANCELLED', '2024-05-25T06:29:36', 0, 0),
-(53, 5, 'Dermatology', '2023-05-26T09:00:00', '2023-05-26T09:30:00', 'CANCELLED', '2024-07-16T01:55:45', 0, 0),
-(2, 12, 'Neurology', '2023-10-08T09:00:00', '2023-10-08T09:30:00', 'COMPLETED', '2025-01-25T09:29:38', 0, 0),
-(13, 8, 'Orthopedics', '2023-08-29T16:46:29', '2023-08-29T17:16:29', 'COMPLETED', '2023-06-07T02:48:03', 0, 0),
-(33, 25, 'Dermatology', '2025-03-28T17:29:00', '2025-03-28T17:59:00', 'CANCELLED', '2024-06-07T03:29:08', 0, 0),
-(57, 25, 'Dermatology', '2023-07-23T13:51:44', '2023-07-23T14:21:44', 'COMPLETED', '2023-08-28T14:57:35', 0, 0),
-(11, 6, 'Dermatology', '2023-09-15T09:00:00', '2023-09-15T09:30:00', 'SCHEDULED', '2024-09-30T05:55:09', 0, 0),
-(24, 22, 'Orthopedics', '2024-11-21T09:00:00', '2024-11-21T09:30:00', 'CANCELLED', '2024-11-28T09:14:51', 0, 0),
-(15, 18, 'Orthopedics', '2024-04-25T17:47:57', '2024-04-25T17:59:00', 'SCHEDULED', '2024-07-25T10:06:17', 0, 0),
-(44, 19, 'Pediatrics', '2024-12-18T09:00:00', '2024-12-18T09:30:00', 'COMPLETED', '2025-02-20T05:43:13', 0, 0),
-(34, 14, 'Orthopedics', '2023-11-07T09:00:00', '2023-11-07T09:30:00', 'SCHEDULED', '2024-01-24T08:47:43', 0, 0),
-(4, 21, 'Pediatrics', '2024-07-30T15:47:25', '2024-07-30T16:17:25', 'SCHEDULED', '2025-03-12T10:29:45', 0, 0),
-(55, 4, 'Neurology', '2023-05-11T09:00:00', '2023-05-11T09:30:00', 'COMPLETED', '2024-11-28T23:50:04', 0, 0),
-(58, 17, 'Orthopedics', '2024-11-10T14:09:33', '2024-11-10T14:39:33', 'SCHEDULED', '2024-12-01T19:16:13', 0, 0),
-(57, 12, 'Cardiology', '2024-10-06T12:28:40', '2024-10-06T12:58:40', 'COMPLETED', '2025-02-18T20:10:54', 0, 0),
-(24, 8, 'Pediatrics', '2023-05-07T17:29:00', '2023-05-07T17:59:00', 'SCHEDULED', '2023-02-13T18:54:28', 0, 0),
-(21, 4, 'Neurology', '2023-08-15T17:29:00', '2023-08-15T17:59:00', 'SCHEDULED', '2024-03-21T15:38:20', 0, 0),
-(59, 16, 'Orthopedics', '2024-12-29T17:41:35', '2024-12-29T17:59:00', 'CANCELLED', '2023-01-09T03:46:43', 0, 0),
-(58, 3, 'Cardiology', '2024-02-02T13:32:08', '2024-02-02T14:02:08', 'SCHEDULED', '2025-05-02T12:54:18', 0, 0),
-(47, 20, 'Dermatology', '2024-10-19T12:04:52', '2024-10-19T12:34:52', 'COMPLETED', '2024-01-05T03:52:11', 0, 0),
-(20, 4, 'Cardiology', '2024-01-06T09:40:08', '2024-01-06T10:10:08', 'CANCELLED', '2024-12-11T02:25:51', 0, 0),
-(5, 4, 'Pediatrics', '2025-07-16T09:00:00', '2025-07-16T09:30:00', 'SCHEDULED', '2025-03-11T14:35:59', 0, 0),
-(37, 8, 'Orthopedics', '2024-03-28T11:24:24', '2024-03-28T11:54:24', 'SCHEDULED', '2024-07-02T01:56:07', 0, 0),
-(16, 19, 'Pediatrics', '2023-10-18T17:29:00', '2023-10-18T17:59:00', 'CANCELLED', '2024-07-14T04:16:57', 0, 0),
-(5, 17, 'Dermatology', '2025-02-27T09:00:00', '2025-02-27T13:32:30', 'CANCELLED', '2023-02-01T14:07:04', 0, 0),
-(25, 16, 'Cardiology', '2024-08-23T17:29:00', '2024-08-23T17:59:00', 'COMPLETED', '2023-01-26T05:33:15', 0, 0),
-(23, 3, 'Neurology', '2024-01-10T13:49:33', '2024-01-10T14:19:33', 'CANCELLED', '2024-05-31T13:11:32', 0, 0),
-(9, 2, 'Neurology', '2025-04-28T09:00:00', '2025-04-28T09:30:00', 'CANCELLED', '2023-09-29T23:47:44', 0, 0),
-(54, 25, 'Pediatrics', '2025-01-13T09:00:00', '2025-01-13T09:26:06', 'SCHEDULED', '2023-04-09T00:33:30', 0, 0),
-(46, 25, 'Pediatrics', '2023-02-27T10:51:20', '2023-02-27T11:21:20', 'SCHEDULED', '2023-03-10T01:12:58', 0, 0),
-(51, 7, 'Cardiology', '2024-05-05T09:00:00', '2024-05-05T09:30:00', 'CANCELLED', '2024-09-10T14:52:07', 0, 0),
-(53, 18, 'Pediatrics', '2024-01-29T12:13:18', '2024-01-29T12:43:18', 'CANCELLED', '2023-10-24T20:51:08', 0, 0),
-(19, 12, 'Cardiology', '2024-05-30T15:02:57', '2024-05-30T15:32:57', 'SCHEDULED', '2024-07-25T16:44:57', 0, 0),
-(28, 13, 'Pediatrics', '2024-08-23T15:09:42', '2024-08-23T15:39:42', 'SCHEDULED', '2025-02-09T19:47:49', 0, 0),
-(45, 16, 'Neurology', '2025-03-17T16:00:25', '2025-03-17T16:30:25', 'SCHEDULED', '2024-10-21T10:29:40', 0, 0),
-(6, 14, 'Dermatology', '2023-10-08T09:00:00', '2023-10-08T09:30:00', 'COMPLETED', '2024-05-13T23:37:48', 0, 0),
-(7, 3, 'Neurology', '2024-04-04T09:00:00', '2024-04-04T09:30:00', 'COMPLETED', '2025-07-25T03:21:45', 0, 0),
-(46, 14, 'Orthopedics', '2024-11-20T14:06:14', '2024-11-20T14:36:14', 'COMPLETED', '2023-03-07T19:06:53', 0, 0),
-(47, 12, 'Dermatology', '2024-11-06T15:45:26', '2024-11-06T16:15:26', 'CANCELLED', '2023-03-31T02:27:49', 0, 0),
-(5, 22, 'Pediatrics', '2024-07-18T09:13:14', '2024-07-18T09:43:14', 'CANCELLED', '2023-09-06T12:44:14', 0, 0),
-(2, 5, 'Dermatology', '2024-11-11T16:16:01', '2024-11-11T16:46:01', 'SCHEDULED', '2023-04-15T10:38:29', 0, 0),
-(16, 25, 'Neurology', '2024-07-16T13:57:08', '2024-07-16T14:27:08', 'CANCELLED', '2023-02-20T07:24:44', 0, 0),
-(39, 5, 'Pediatrics', '2024-07-30T09:00:00', '2024-07-30T09:30:00', 'COMPLETED', '2023-04-30T10:29:47', 0, 0),
-(37, 5, 'Dermatology', '2024-07-24T09:00:00', '2024-07-24T09:30:00', 'COMPLETED', '2024-03-08T22:18:27', 0, 0),
-(16, 4, 'Cardiology', '2023-10-17T09:00:00', '2023-10-17T09:30:00', 'CANCELLED', '2024-08-24T03:56:06', 0, 0),
-(59, 18, 'Cardiology', '2024-02-11T15:44:30', '2024-02-11T16:14:30', 'CANCELLED', '2024-11-24T06:16:03', 0, 0),
-(14, 20, 'Neurology', '2025-02-02T09:00:00', '2025-02-02T09:30:00', 'SCHEDULED', '2023-07-30T20:19:19', 0, 0),
-(55, 3, 'Pediatrics', '2023-09-26T09:00:00', '2023-09-26T09:30:00', 'SCHEDULED', '2024-05-11T11:05:44', 0, 0),
-(43, 12, 'Cardiology', '2025-05-04T09:22:47', '2025-05-04T09:52:47', 'COMPLETED', '2024-04-10T23:11:43', 0, 0),
-(55, 6, 'Orthopedics', '2024-07-15T13:24:19', '2024-07-15T13:54:19', 'SCHEDULED', '2023-07-08T12:43:12', 0, 0),
-(13, 5, 'Orthopedics', '2025-02-06T10:28:22', '2025-02-06T10:58:22', 'COMPLETED', '2025-05-10T15:24:58', 0, 0),
-(37, 12, 'Pediatrics', '2025-05-06T17:29:00', '2025-05-06T17:59:00', 'CANCELLED', '2023-05-14T22:20:46', 0, 0),
-(5, 10, 'Pediatrics', '2025-01-13T13:55:43', '2025-01-13T14:25:43', 'COMPLETED', '2024-09-28T00:47:17', 0, 0),
-(53, 19, 'Cardiology', '2023-07-14T16:31:15', '2023-07-14T17:01:15', 'CANCELLED', '2023-04-26T05:04:20', 0, 0),
-(29, 15, 'Dermatology', '2024-06-19T09:00:00', '2024-06-19T09:30:00', 'CANCELLED', '2025-07-02T02:15:00', 0, 0),
-(12, 25, 'Orthopedics', '2024-11-03T09:00:00', '2024-11-03T09:30:00', 'SCHEDULED', '2023-07-12T21:03:43', 0, 0),
-(34, 5, 'Neurology', '2023-09-13T17:29:00', '2023-09-13T17:59:00', 'COMPLETED', '2023-12-17T06:08:29', 0, 0),
-(23, 17, 'Neurology', '2023-05-03T12:06:37', '2023-05-03T12:36:37', 'SCHEDULED', '2025-05-05T16:51:23', 0, 0),
-(18, 5, 'Neurology', '2025-04-08T17:30:09', '2025-04-08T17:59:00', 'CANCELLED', '2023-09-19T23:12:07', 0, 0),
-(38, 19, 'Orthopedics', '2023-09-23T17:29:00', '2023-09-23T17:59:00', 'COMPLETED', '2025-05-25T13:12:12', 0, 0),
-(3, 1, 'Cardiology', '2023-03-12T14:56:19', '2023-03-12T15:26:19', 'COMPLETED', '2023-11-24T11:30:21', 0, 0),
-(50, 19, 'Pediatrics', '2023-02-17T09:00:00', '2023-02-17T09:30:00', 'CANCELLED', '2025-04-27T12:36:10', 0, 0),
-(19, 21, 'Neurology', '2025-01-20T09:00:00', '2025-01-20T09:30:00', 'CANCELLED', '2024-09-22T20:13:36', 0, 0),
-(20, 15, 'Cardiology', '2023-04-04T09:00:00', '2023-04-04T09:30:00', 'COMPLETED', '2024-10-07T15:30:06', 0, 0),
-(31, 15, 'Orthopedics', '2024-06-12T11:17:53', '2024-06-12T11:47:53', 'SCHEDULED', '2024-04-30T13:55:12', 0, 0),
-(56, 23, 'Neurology', '2024-06-20T12:20:51', '2024-06-20T12:50:51', 'SCHEDULED', '2024-07-29T14:44:23', 0, 0),
-(33, 18, 'Cardiology', '2024-05-10T17:30:09', '2024-05-10T17:59:00', 'COMPLETED', '2023-07-10T07:56:52', 0, 0),
-(18, 15, 'Orthopedics', '2023-08-07T17:29:00', '2023-08-07T17:59:00', 'SCHEDULED', '2024-03-26T19:53:15', 0, 0),
-(25, 20, 'Pediatrics', '2024-01-21T16:11:12', '2024-01-21T16:41:12', 'COMPLETED', '2025-06-16T09:44:01', 0, 0),
-(47, 11, 'Orthopedics', '2023-09-05T12:42:56', '2023-09-05T13:12:56', 'CANCELLED', '2024-12-26T04:07:44', 0, 0),
-(32, 10, 'Pediatrics', '2023-02-06T09:00:00', '2023-02-06T09:30:00', 'COMPLETED', '2025-02-24T04:20:07', 0, 0),
-(30, 8, 'Orthopedics', '2025-06-25T09:00:00', '2025-06-25T09:30:00', 'SCHEDULED', '2023-03-20T12:16:58', 0, 0),
-(19, 16, 'Dermatology', '2025-01-01T09:00:00', '2025-01-01T09:30:00', 'CANCELLED', '2023-01-13T16:52:32', 0, 0),
-(55, 4, 'Pediatrics', '2023-07-28T09:00:00', '2023-07-28T09:30:00', 'CANCELLED', '2024-07-22T05:10:43', 0, 0),
-(49, 13, 'Neurology', '2023-03-12T09:00:00', '2023-03-12T09:30:00', 'SCHEDULED', '2025-06-04T21:38:26', 0, 0),
-(36, 7, 'Neurology', '2025-05-09T09:38:44', '2025-05-09T10:08:44', 'SCHEDULED', '2024-08-23T04:07:41', 0, 0),
-(33, 15, 'Dermatology', '2024-03-10T12:44:33', '2024-03-10T13:14:33', 'SCHEDULED', '2023-05-31T04:32:49', 0, 0),
-(26, 12, 'Neurology', '2025-05-16T13:28:41', '2025-05-16T13:58:41', 'SCHEDULED', '2023-11-06T05:24:56', 0, 0),
-(39, 17, 'Pediatrics', '2025-02-15T17:29:00', '2025-02-15T17:59:00', 'SCHEDULED', '2023-03-02T10:49:04', 0, 0),
-(9, 23, 'Neurology', '2025-01-05T17:29:00', '2025-01-05T17:59:00', 'COMPLETED', '2023-08-20T08:54:37', 0, 0),
-(39, 17, 'Orthopedics', '2024-05-24T11:27:10', '2024-05-24T11:57:10', 'SCHEDULED', '2024-09-02T10:24:31', 0, 0),
-(40, 24, 'Neurology', '2025-07-11T09:00:00', '2025-07-11T09:30:00', 'CANCELLED', '2025-03-02T19:31:08', 0, 0),
-(35, 16, 'Dermatology', '2024-04-10T17:00:08', '2024-04-10T17:30:08', 'SCHEDULED', '2024-07-26T05:22:28', 0, 0),
-(22, 22, 'Cardiology', '2024-10-09T09:00:00', '2024-10-09T09:30:00', 'COMPLETED', '2023-02-11T09:28:40', 0, 0),
-(39, 16, 'Neurology', '2025-06-17T15:05:10', '2025-06-17T15:35:10', 'SCHEDULED', '2023-03-21T18:39:33', 0, 0),
-(38, 16, 'Orthopedics', '2025-03-25T09:00:00', '2025-03-25T09:17:52', 'SCHEDULED', '2024-01-12T05:44:32', 0, 0),
-(3, 19, 'Cardiology', '2023-10-24T09:00:00', '2023-10-24T09:27:19', 'COMPLETED', '2024-05-02T07:18:12', 0, 0),
-(27, 5, 'Pediatrics', '2023-11-13T17:37:58', '2023-11-13T17:59:00', 'CANCELLED', '2025-01-02T14:43:33', 0, 0),
-(56, 24, 'Cardiology', '2023-08-03T12:05:17', '2023-08-03T12:35:17', 'SCHEDULED', '2025-05-21T07:22:28', 0, 0),
-(21, 22, 'Pediatrics', '2025-03-27T09:00:00', '2025-03-27T09:30:00', 'COMPLETED', '2023-09-27T00:42:31', 0, 0),
-(30, 18, 'Neurology', '2025-04-28T14:32:30', '2025-04-28T15:02:30', 'CANCELLED', '2024-02-15T16:08:11', 0, 0),
-(40, 16, 'Orthopedics', '2024-01-18T17:29:00', '2024-01-18T17:59:00', 'CANCELLED', '2024-04-08T16:51:19', 0, 0),
-(15, 10, 'Neurology', '2023-11-18T17:29:00', '2023-11-18T17:59:00', 'COMPLETED', '2025-01-15T08:22:05', 0, 0),
-(23, 18, 'Neurology', '2024-03-23T09:00:00', '2024-03-23T09:30:00', 'CANCELLED', '2025-04-23T19:37:25', 0, 0),
-(25, 13, 'Neurology', '2023-08-16T13:01:32', '2023-08-16T13:31:32', 'SCHEDULED', '2024-03-22T19:38:10', 0, 0),
-(46, 3, 'Neurology', '2024-11-18T09:00:00', '2024-11-18T09:30:00', 'CANCELLED', '2025-01-14T05:22:10', 0, 0),
-(14, 7, 'Dermatology', '2024-02-26T09:00:00', '2024-02-26T09:30:00', 'CANCELLED', '2024-02-26T22:46:56', 0, 0),
-(9, 4, 'Dermatology', '2025-06-30T14:37:36', '2025-06-30T15:07:36', 'SCHEDULED', '2023-03-20T20:40:20', 0, 0),
-(43, 17, 'Orthopedics', '2023-12-28T16:46:34', '2023-12-28T17:16:34', 'SCHEDULED', '2024-10-04T00:59:30', 0, 0),
-(22, 23, 'Pediatrics', '2023-06-06T09:00:00', '2023-06-06T09:30:00', 'SCHEDULED', '2025-05-04T22:37:50', 0, 0),
-(60, 6, 'Pediatrics', '2025-01-08T17:29:00', '2025-01-08T17:59:00', 'CANCELLED', '2023-11-06T20:15:27', 0, 0),
-(49, 10, 'Neurology', '2024-03-19T09:03:18', '2024-03-19T09:33:18', 'SCHEDULED', '2025-06-10T21:14:34', 0, 0),
-(15, 18, 'Cardiology', '2023-09-29T17:29:00', '2023-09-29T17:59:00', 'SCHEDULED', '2023-02-26T10:50:51', 0, 0),
-(54, 13, 'Pediatrics', '2023-10-17T10:12:03', '2023-10-17T10:42:03', 'SCHEDULED', '2023-01-15T09:30:18', 0, 0),
-(20, 19, 'Dermatology', '2023-06-16T16:27:34', '2023-06-16T16:57:34', 'COMPLETED', '2024-12-06T19:21:40', 0, 0),
-(42, 18, 'Dermatology', '2025-02-06T09:00:00', '2025-02-06T09:30:00', 'CANCELLED', '2024-12-28T01:04:44', 0, 0),
-(18, 7, 'Cardiology', '2024-05-28T16:47:48', '2024-05-28T17:17:48', 'CANCELLED', '2024-12-13T21:34:17', 0, 0),
-(42, 9, 'Orthopedics', '2023-01-22T17:29:00', '2023-01-22T17:59:00', 'COMPLETED', '2025-06-01T00:25:05', 0, 0),
-(44, 25, 'Orthopedics', '2023-09-30T14:55:28', '2023-09-30T15:25:28', 'COMPLETED', '2025-03-11T11:03:19', 0, 0),
-(21, 3, 'Pediatrics', '2023-05-29T09:00:00', '2023-05-29T09:30:00', 'SCHEDULED', '2025-01-11T16:46:44', 0, 0),
-(21, 8, 'Cardiology', '2024-02-10T09:00:00', '2024-02-10T09:30:00', 'SCHEDULED', '2024-11-24T23:30:26', 0, 0),
-(49, 9, 'Neurology', '2024-04-14T09:00:00', '2024-04-14T09:30:00', 'CANCELLED', '2025-06-08T22:24:56', 0, 0),
-(1, 9, 'Neurology', '2024-01-03T09:00:00', '2024-01-03T09:30:00', 'CANCELLED', '2023-07-03T15:44:30', 0, 0),
-(30, 10, 'Orthopedics', '2024-09-21T17:29:00', '2024-09-21T17:59:00', 'CANCELLED', '2024-04-28T02:05:53', 0, 0),
-(45, 4, 'Neurology', '2024-07-24T17:29:00', '2024-07-24T17:59:00', 'SCHEDULED', '2023-07-27T11:48:18', 0, 0),
-(31, 5, 'Pediatrics', '2025-07-29T17:29:00', '2025-07-29T17:59:00', 'COMPLETED', '2025-05-03T04:56:47', 0, 0),
-(59, 16, 'Dermatology', '2023-12-06T09:00:00', '2023-12-06T09:30:00', 'CANCELLED', '2025-07-14T13:34:23', 0, 0),
-(56, 3, 'Dermatology', '2024-11-24T17:29:00', '2024-11-24T17:59:00', 'CANCELLED', '2024-07-16T00:19:03', 0, 0),
-(5, 19, 'Cardiology', '2023-04-06T17:29:00', '2023-04-06T17:59:00', 'CANCELLED', '2023-11-11T00:57:03', 0, 0),
-(37, 18, 'Orthopedics', '2023-09-13T14:23:23', '2023-09-13T14:53:23', 'CANCELLED', '2024-11-17T09:00:35', 0, 0),
-(8, 22, 'Orthopedics', '2025-06-24T17:29:00', '2025-06-24T17:59:00', 'SCHEDULED', '2025-03-03T20:10:20', 0, 0),
-(29, 2, 'Pediatrics', '2023-07-24T17:29:00', '2023-07-24T17:59:00', 'COMPLETED', '2024-12-10T14:40:53', 0, 0),
-(37, 2, 'Dermatology', '2024-12-19T09:00:00', '2024-12-19T09:30:00', 'CANCELLED', '2023-02-03T19:39:41', 0, 0),
-(26, 9, 'Cardiology', '2023-12-05T11:56:58', '2023-12-05T12:26:58', 'SCHEDULED', '2023-03-12T08:31:34', 0, 0),
-(28, 12, 'Cardiology', '2025-04-20T16:02:15', '2025-04-20T16:32:15', 'SCHEDULED', '2025-01-03T08:05:24', 0, 0),
-(3, 10, 'Pediatrics', '2023-10-07T14:11:24', '2023-10-07T14:41:24', 'CANCELLED', '2024-10-15T00:13:44', 0, 0),
-(24, 13, 'Pediatrics', '2024-08-09T10:05:02', '2024-08-09T10:35:02', 'SCHEDULED', '2025-04-17T18:34:16', 0, 0),
-(9, 21, 'Neurology', '2023-07-04T09:00:00', '2023-07-04T09:30:00', 'CANCELLED', '2024-09-02T14:17:16', 0, 0),
-(34, 5, 'Orthopedics', '2023-01-06T09:29:37', '2023-01-06T09:59:37', 'COMPLETED', '2024-12-20T06:02:11', 0, 0),
-(44, 24, 'Dermatology', '2024-10-20T17:29:00', '2024-10-20T17:59:00', 'COMPLETED', '2023-12-23T18:29:49', 0, 0),
-(16, 15, 'Neurology', '2023-08-29T17:29:00', '2023-08-29T17:59:00', 'SCHEDULED', '2023-06-25T07:09:11', 0, 0),
-(3, 22, 'Pediatrics', '2023-01-25T09:00:00', '2023-01-25T09:30:00', 'SCHEDULED', '2023-04-15T12:47:12', 0, 0),
-(7, 20, 'Cardiology', '2024-11-24T12:31:45', '2024-11-24T13:01:45', 'CANCELLED', '2023-03-17T14:47:05', 0, 0),
-(16, 24, 'Cardiology', '2024-09-16T17:29:00', '2024-09-16T17:59:00', 'SCHEDULED', '2025-04-18T11:42:15', 0, 0),
-(14, 25, 'Cardiology', '2023-08-06T16:37:58', '2023-08-06T17:07:58', 'COMPLETED', '2023-12-30T18:10:26', 0, 0),
-(53, 24, 'Dermatology', '2024-05-10T09:35:29', '2024-05-10T10:05:29', 'CANCELLED', '2024-05-13T03:15:43', 0, 0),
-(16, 10, 'Orthopedics', '2025-03-20T17:38:52', '2025-03-20T17:59:00', 'COMPLETED', '2024-04-11T19:29:15', 0, 0),
-(18, 2, 'Dermatology', '2025-07-08T09:00:00', '2025-07-08T09:30:00', 'CANCELLED', '2024-10-25T15:11:31', 0, 0),
-(36, 16, 'Cardiology', '2024-06-19T09:00:00', '2024-06-19T09:30:00', 'CANCELLED', '2024-05-10T03:16:54', 0, 0),
-(45, 14, 'Pediatrics', '2023-08-20T17:29:00', '2023-08-20T17:59:00', 'COMPLETED', '2023-10-13T15:30:18', 0, 0),
-(49, 18, 'Pediatrics', '2024-01-10T09:00:00', '2024-01-10T09:30:00', 'COMPLETED', '2023-08-13T05:49:23', 0, 0),
-(52, 15, 'Cardiology', '2025-05-23T15:16:04', '2025-05-23T15:46:04', 'COMPLETED', '2025-05-15T17:09:22', 0, 0),
-(34, 5, 'Pediatrics', '2024-01-13T09:00:00', '2024-01-13T09:30:00', 'SCHEDULED', '2024-05-28T01:05:48', 0, 0),
-(42, 3, 'Pediatrics', '2024-07-30T10:46:18', '2024-07-30T11:16:18', 'CANCELLED', '2023-10-23T21:40:10', 0, 0),
-(4, 9, 'Pediatrics', '2025-07-28T17:29:00', '2025-07-28T17:59:00', 'SCHEDULED', '2023-04-24T01:35:47', 0, 0),
-(13, 25, 'Dermatology', '2025-05-18T09:00:00', '2025-05-18T09:30:00', 'COMPLETED', '2023-11-21T11:56:58', 0, 0),
-(56, 11, 'Neurology', '2023-01-24T17:29:00', '2023-01-24T17:59:00', 'SCHEDULED', '2023-07-02T05:51:53', 0, 0),
-(48, 25, 'Pediatrics', '2024-01-12T17:29:00', '2024-01-12T17:59:00', 'CANCELLED', '2023-11-14T16:48:09', 0, 0),
-(26, 8, 'Dermatology', '2024-05-14T14:40:35', '2024-05-14T15:10:35', 'COMPLETED', '2024-12-25T07:04:37', 0, 0),
-(35, 21, 'Neurology', '2024-04-24T09:00:00', '2024-04-24T09:30:00', 'COMPLETED', '2025-03-07T15:11:10', 0, 0),
-(57, 16, 'Pediatrics', '2023-06-03T09:00:00', '2023-06-03T09:30:00', 'COMPLETED', '2023-11-12T13:08:30', 0, 0),
-(24, 11, 'Pediatrics', '2023-03-13T09:00:00', '2023-03-13T09:30:00', 'SCHEDULED', '2023-08-15T16:23:35', 0, 0),
-(2, 9, 'Dermatology', '2025-06-26T09:00:00', '2025-06-26T09:30:00', 'CANCELLED', '2024-10-10T16:26:20', 0, 0),
-(19, 5, 'Orthopedics', '2024-05-27T10:16:09', '2024-05-27T10:46:09', 'COMPLETED', '2025-06-04T03:17:33', 0, 0),
-(54, 8, 'Pediatrics', '2025-05-05T09:26:29', '2025-05-05T09:56:29', 'COMPLETED', '2025-01-29T01:06:53', 0, 0),
-(47, 21, 'Pediatrics', '2024-12-16T17:29:00', '2024-12-16T17:59:00', 'CANCELLED', '2024-07-01T02:04:45', 0, 0),
-(11, 5, 'Dermatology', '2025-01-28T13:45:07', '2025-01-28T14:15:07', 'CANCELLED', '2023-04-02T05:41:22', 0, 0),
-(34, 2, 'Cardiology', '2023-03-17T09:00:00', '2023-03-17T09:14:51', 'COMPLETED', '2023-08-02T14:03:20', 0, 0),
-(54, 21, 'Orthopedics', '2023-04-16T14:01:42', '2023-04-16T14:31:42', 'SCHEDULED', '2023-12-06T18:27:37', 0, 0),
-(33, 15, 'Neurology', '2023-04-04T17:29:00', '2023-04-04T17:59:00', 'CANCELLED', '2025-01-27T20:31:47', 0, 0),
-(2, 1, 'Dermatology', '2025-05-06T17:29:00', '2025-05-06T17:59:00', 'SCHEDULED', '2023-01-26T23:35:45', 0, 0),
-(34, 24, 'Neurology', '2025-04-12T09:00:00', '2025-04-12T09:30:00', 'SCHEDULED', '2025-02-19T03:58:14', 0, 0),
-(53, 23, 'Pediatrics', '2023-10-06T11:33:08', '2023-10-06T12:03:08', 'SCHEDULED', '2025-03-25T14:30:17', 0, 0),
-(10, 8, 'Orthopedics', '2025-03-28T17:29:00', '2025-03-28T17:59:00', 'COMPLETED', '2024-02-20T06:35:18', 0, 0),
-(51, 13, 'Cardiology', '2024-08-02T12:22:15', '2024-08-02T12:52:15', 'COMPLETED', '2025-05-27T16:48:29', 0, 0),
-(16, 23, 'Orthopedics', '2024-04-10T17:29:00', '2024-04-10T17:59:00', 'CANCELLED', '2023-02-19T05:17:02', 0, 0),
-(6, 13, 'Pediatrics', '2024-08-08T17:29:00', '2024-08-08T17:59:00', 'COMPLETED', '2023-03-29T04:06:59', 0, 0),
-(41, 1, 'Orthopedics', '2023-05-09T10:45:43', '2023-05-09T11:15:43', 'COMPLETED', '2024-05-29T14:39:49', 0, 0),
-(37, 4, 'Dermatology', '2023-03-08T09:00:00', '2023-03-08T09:30:00', 'SCHEDULED', '2025-05-30T11:14:40', 0, 0),
-(31, 9, 'Cardiology', '2023-04-26T11:53:47', '2023-04-26T12:23:47', 'CANCELLED', '2025-05-25T09:10:13', 0, 0),
-(43, 2, 'Orthopedics', '2024-05-03T12:50:21', '2024-05-03T13:20:21', 'SCHEDULED', '2025-06-30T22:17:32', 0, 0),
-(10, 25, 'Pediatrics', '2023-04-30T12:26:15', '2023-04-30T12:56:15', 'SCHEDULED', '2025-05-26T01:53:08', 0, 0),
-(16, 19, 'Pediatrics', '2025-04-19T17:37:41', '2025-04-19T17:59:00', 'COMPLETED', '2023-08-06T09:44:10', 0, 0),
-(51, 23, 'Cardiology', '2025-02-16T17:29:00', '2025-02-16T17:59:00', 'SCHEDULED', '2023-06-01T17:59:24', 0, 0),
-(28, 8, 'Cardiology', '2024-06-13T09:00:00', '2024-06-13T09:30:00', 'CANCELLED', '2025-07-14T05:54:01', 0, 0),
-(26, 25, 'Neurology', '2023-02-16T09:00:00', '2023-02-16T09:30:00', 'COMPLETED', '2025-02-01T03:01:21', 0, 0),
-(15, 12, 'Dermatology', '2024-08-06T09:00:00', '2024-08-06T09:30:00', 'SCHEDULED', '2025-06-29T03:00:27', 0, 0),
-(43, 13, 'Cardiology', '2024-04-03T17:29:00', '2024-04-03T17:59:00', 'CANCELLED', '2023-04-25T04:31:40', 0, 0),
-(6, 9, 'Orthopedics', '2024-08-13T09:00:00', '2024-08-13T09:30:00', 'CANCELLED', '2024-08-28T06:09:36', 0, 0),
-(21, 12, 'Cardiology', '2023-05-23T09:00:00', '2023-05-23T09:30:00', 'COMPLETED', '2024-11-21T20:57:17', 0, 0),
-(24, 25, 'Neurology', '2023-06-08T17:29:00', '2023-06-08T17:59:00', 'SCHEDULED', '2023-10-19T02:28:19', 0, 0),
-(28, 15, 'Dermatology', '2025-05-11T17:29:00', '2025-05-11T17:59:00', 'COMPLETED', '2023-06-10T11:02:22', 0, 0),
-(2, 3, 'Neurology', '2025-05-10T17:29:00', '2025-05-10T17:59:00', 'CANCELLED', '2025-07-18T00:41:19', 0, 0),
-(51, 11, 'Pediatrics', '2023-01-20T09:00:00', '2023-01-20T09:30:00', 'COMPLETED', '2024-08-25T10:12:55', 0, 0),
-(50, 3, 'Dermatology', '2024-01-13T09:00:00', '2024-01-13T09:30:00', 'CANCELLED', '2023-09-21T10:30:34', 0, 0),
-(44, 13, 'Orthopedics', '2023-08-04T16:19:57', '2023-08-04T16:49:57', 'COMPLETED', '2024-02-21T22:55:50', 0, 0),
-(32, 5, 'Cardiology', '2023-09-17T17:56:37', '2023-09-17T17:59:00', 'COMPLETED', '2024-10-16T03:49:59', 0, 0),
-(20, 16, 'Cardiology', '2024-07-14T17:29:00', '2024-07-14T17:59:00', 'SCHEDULED', '2025-02-09T04:51:16', 0, 0),
-(39, 20, 'Orthopedics', '2024-12-12T09:00:00', '2024-12-12T09:30:00', 'SCHEDULED', '2024-04-18T06:28:24', 0, 0),
-(1, 13, 'Neurology', '2024-08-13T09:00:00', '2024-08-13T09:30:00', 'COMPLETED', '2024-06-03T23:52:15', 0, 0),
-(28, 21, 'Dermatology', '2023-07-31T11:05:17', '2023-07-31T11:35:17', 'COMPLETED', '2025-07-26T01:20:45', 0, 0),
-(45, 7, 'Pediatrics', '2024-05-03T09:00:00', '2024-05-03T09:30:00', 'COMPLETED', '2024-05-10T18:18:52', 0, 0),
-(19, 24, 'Pediatrics', '2025-06-13T14:20:08', '2025-06-13T14:50:08', 'COMPLETED', '2024-08-07T04:21:28', 0, 0),
-(18, 13, 'Neurology', '2023-06-26T17:29:00', '2023-06-26T17:59:00', 'SCHEDULED', '2025-07-08T23:49:26', 0, 0),
-(35, 6, 'Dermatology', '2023-02-11T17:29:00', '2023-02-11T17:59:00', 'CANCELLED', '2023-11-22T16:15:31', 0, 0),
-(29, 10, 'Cardiology', '2024-09-27T13:54:14', '2024-09-27T14:24:14', 'SCHEDULED', '2024-04-15T10:25:09', 0, 0),
-(16, 9, 'Orthopedics', '2024-10-19T09:00:00', '2024-10-19T09:30:00', 'SCHEDULED', '2024-11-28T14:25:14', 0, 0),
-(39, 16, 'Dermatology', '2024-09-14T15:05:49', '2024-09-14T15:35:49', 'CANCELLED', '2024-10-11T19:22:48', 0, 0),
-(35, 2, 'Neurology', '2025-04-14T09:00:00', '2025-04-14T09:30:00', 'CANCELLED', '2023-05-13T00:21:22', 0, 0),
-(7, 25, 'Orthopedics', '2024-07-05T11:41:17', '2024-07-05T12:11:17', 'CANCELLED', '2023-03-10T19:30:01', 0, 0),
-(37, 21, 'Pediatrics', '2024-05-30T09:00:00', '2024-05-30T09:30:00', 'SCHEDULED', '2023-01-17T09:14:58', 0, 0),
-(7, 9, 'Orthopedics', '2025-03-04T09:00:00', '2025-03-04T09:30:00', 'CANCELLED', '2025-06-20T19:17:26', 0, 0),
-(45, 19, 'Orthopedics', '2024-11-23T11:49:44', '2024-11-23T12:19:44', 'COMPLETED', '2024-12-20T08:14:51', 0, 0),
-(50, 22, 'Dermatology', '2025-02-16T10:43:00', '2025-02-16T11:13:00', 'COMPLETED', '2023-02-08T03:45:43', 0, 0),
-(31, 4, 'Neurology', '2024-10-08T09:00:00', '2024-10-08T09:30:00', 'SCHEDULED', '2023-08-09T02:02:00', 0, 0),
-(23, 10, 'Neurology', '2024-12-08T09:00:00', '2024-12-08T09:30:00', 'CANCELLED', '2025-01-20T04:47:10', 0, 0),
-(23, 16, 'Cardiology', '2024-11-11T16:00:36', '2024-11-11T16:30:36', 'COMPLETED', '2023-04-15T08:26:27', 0, 0),
-(20, 2, 'Cardiology', '2023-02-05T09:00:00', '2023-02-05T09:30:00', 'CANCELLED', '2023-06-19T21:20:10', 0, 0),
-(44, 6, 'Orthopedics', '2025-03-12T13:38:49', '2025-03-12T14:08:49', 'CANCELLED', '2023-09-06T18:17:31', 0, 0),
-(22, 18, 'Pediatrics', '2024-12-18T17:29:00', '2024-12-18T17:59:00', 'COMPLETED', '2023-10-14T12:51:38', 0, 0),
-(12, 21, 'Pediatrics', '2024-09-06T12:22:48', '2024-09-06T12:52:48', 'CANCELLED', '2023-11-03T12:47:17', 0, 0),
-(29, 19, 'Pediatrics', '2024-08-27T09:00:00', '2024-08-27T09:30:00', 'CANCELLED', '2023-11-30T16:10:45', 0, 0),
-(14, 9, 'Cardiology', '2025-06-15T17:29:00', '2025-06-15T17:59:00', 'CANCELLED', '2023-10-18T10:22:04', 0, 0),
-(24, 11, 'Orthopedics', '2024-12-11T17:29:00', '2024-12-11T17:59:00', 'COMPLETED', '2025-01-30T09:17:07', 0, 0),
-(34, 21, 'Neurology', '2025-07-16T09:00:00', '2025-07-16T09:11:08', 'CANCELLED', '2024-09-01T19:06:04', 0, 0),
-(38, 4, 'Neurology', '2024-06-30T17:29:00', '2024-06-30T17:59:00', 'CANCELLED', '2023-09-26T00:17:30', 0, 0),
-(53, 22, 'Neurology', '2025-07-05T17:29:00', '2025-07-05T17:59:00', 'CANCELLED', '2023-07-28T01:56:05', 0, 0),
-(21, 4, 'Orthopedics', '2024-04-19T09:23:30', '2024-04-19T09:53:30', 'SCHEDULED', '2024-08-02T21:51:32', 0, 0),
-(45, 5, 'Dermatology', '2024-08-26T10:57:37', '2024-08-26T11:27:37', 'CANCELLED', '2023-08-03T04:03:55', 0, 0),
-(37, 13, 'Pediatrics', '2023-10-16T13:23:59', '2023-10-16T13:53:59', 'CANCELLED', '2025-04-14T18:57:04', 0, 0),
-(45, 21, 'Orthopedics', '2025-05-12T09:00:00', '2025-05-12T09:30:00', 'COMPLETED', '2024-03-24T16:32:27', 0, 0),
-(9, 6, 'Neurology', '2024-12-01T14:32:05', '2024-12-01T15:02:05', 'COMPLETED', '2023-01-15T21:17:47', 0, 0),
-(32, 5, 'Orthopedics', '2024-08-19T10:28:34', '2024-08-19T10:58:34', 'CANCELLED', '2025-02-07T21:48:48', 0, 0),
-(27, 22, 'Pediatrics', '2024-10-07T15:49:32', '2024-10-07T16:19:32', 'COMPLETED', '2023-09-17T19:39:43', 0, 0),
-(6, 19, 'Cardiology', '2023-12-09T13:56:09', '2023-12-09T14:26:09', 'SCHEDULED', '2024-03-02T23:15:34', 0, 0),
-(15, 18, 'Neurology', '2023-09-19T09:00:00', '2023-09-19T09:30:00', 'CANCELLED', '2025-02-08T10:37:11', 0, 0),
-(36, 17, 'Cardiology', '2025-06-08T16:19:39', '2025-06-08T16:49:39', 'COMPLETED', '2025-04-23T16:27:57', 0, 0),
-(53, 12, 'Dermatology', '2023-03-06T15:21:09', '2023-03-06T15:51:09', 'CANCELLED', '2023-12-06T11:50:01', 0, 0),
-(28, 4, 'Orthopedics', '2024-04-07T11:23:36', '2024-04-07T11:53:36', 'COMPLETED', '2024-02-13T06:27:42', 0, 0),
-(23, 3, 'Pediatrics', '2023-07-02T09:00:00', '2023-07-02T09:30:00', 'SCHEDULED', '2025-07-02T07:23:29', 0, 0),
-(45, 12, 'Dermatology', '2024-10-27T09:00:00', '2024-10-27T09:30:00', 'CANCELLED', '2023-08-05T07:03:20', 0, 0),
-(51, 7, 'Orthopedics', '2023-04-03T09:00:00', '2023-04-03T09:30:00', 'COMPLETED', '2025-04-06T20:51:59', 0, 0),
-(18, 20, 'Dermatology', '2023-09-19T13:33:47', '2023-09-19T14:03:47', 'CANCELLED', '2024-03-30T14:12:44', 0, 0),
-(19, 19, 'Neurology', '2025-03-10T09:00:00', '2025-03-10T09:30:00', 'SCHEDULED', '2024-10-01T09:25:09', 0, 0),
-(59, 2, 'Neurology', '2023-07-17T09:00:00', '2023-07-17T09:30:00', 'SCHEDULED', '2023-08-16T04:21:02', 0, 0),
-(46, 11, 'Orthopedics', '2024-09-02T09:00:00', '2024-09-02T09:30:00', 'SCHEDULED', '2025-06-15T23:59:02', 0, 0),
-(41, 9, 'Pediatrics', '2024-08-05T17:29:00', '2024-08-05T17:59:00', 'SCHEDULED', '2023-05-25T14:49:30', 0, 0),
-(26, 17, 'Neurology', '2024-07-27T09:00:00', '2024-07-27T09:30:00', 'COMPLETED', '2024-05-23T10:13:43', 0, 0),
-(38, 1, 'Cardiology', '2024-12-13T09:00:00', '2024-12-13T09:30:00', 'SCHEDULED', '2025-04-10T04:47:17', 0, 0),
-(26, 7, 'Pediatrics', '2023-11-26T09:00:00', '2023-11-26T09:30:00', 'COMPLETED', '2024-05-16T13:17:06', 0, 0),
-(54, 10, 'Neurology', '2025-04-30T09:00:00', '2025-04-30T09:30:00', 'SCHEDULED', '2025-05-29T11:18:27', 0, 0),
-(55, 16, 'Neurology', '2023-03-17T09:00:00', '2023-03-17T09:30:00', 'SCHEDULED', '2024-12-14T22:27:00', 0, 0),
-(2, 4, 'Orthopedics', '2024-11-16T12:19:57', '2024-11-16T12:49:57', 'SCHEDULED', '2024-10-26T13:30:50', 0, 0),
-(13, 23, 'Orthopedics', '2024-04-13T17:29:00', '2024-04-13T17:59:00', 'COMPLETED', '2023-05-25T23:58:00', 0, 0),
-(42, 12, 'Neurology', '2023-05-09T09:00:00', '2023-05-09T09:30:00', 'CANCELLED', '2023-09-15T03:13:20', 0, 0),
-(4, 13, 'Neurology', '2023-12-30T17:30:54', '2023-12-30T17:59:00', 'CANCELLED', '2023-05-22T16:09:07', 0, 0),
-(46, 4, 'Cardiology', '2023-11-28T12:55:05', '2023-11-28T13:25:05', 'SCHEDULED', '2023-07-26T03:24:24', 0, 0),
-(38, 8, 'Dermatology', '2024-11-22T09:17:45', '2024-11-22T09:47:45', 'SCHEDULED', '2024-06-17T17:22:21', 0, 0),
-(53, 4, 'Pediatrics', '2023-07-25T09:00:00', '2023-07-25T09:30:00', 'SCHEDULED', '2023-12-22T15:45:28', 0, 0),
-(25, 3, 'Cardiology', '2023-06-10T09:00:00', '2023-06-10T09:30:00', 'COMPLETED', '2024-04-09T21:02:50', 0, 0),
-(9, 13, 'Orthopedics', '2023-08-10T17:29:00', '2023-08-10T17:59:00', 'CANCELLED', '2025-05-25T01:01:07', 0, 0);
\ No newline at end of file
+INSERT INTO appointments (appointment_id, patient_id, doctor_id, department, slot_start, slot_end, status, created_at, reschedule_count, version) VALUES
+(1, 42, 1, 'Cardiology', '2025-01-14T09:00:00', '2025-01-14T09:30:00', 'COMPLETED', '2023-06-17T17:06:31', 0, 0),
+(2, 32, 23, 'Pediatrics', '2023-04-25T09:00:00', '2023-04-25T09:30:00', 'COMPLETED', '2023-08-19T10:17:09', 0, 0),
+(3, 5, 5, 'Neurology', '2025-06-28T09:00:00', '2025-06-28T09:30:00', 'CANCELLED', '2024-05-20T03:47:31', 0, 0),
+(4, 25, 20, 'Dermatology', '2024-04-03T09:00:00', '2024-04-03T09:30:00', 'CANCELLED', '2025-07-29T11:56:48', 0, 0),
+(5, 28, 4, 'Cardiology', '2025-05-06T11:16:01', '2025-05-06T11:46:01', 'COMPLETED', '2024-12-02T11:11:14', 0, 0),
+(6, 57, 8, 'Pediatrics', '2024-06-10T12:17:11', '2024-06-10T12:47:11', 'COMPLETED', '2024-10-08T05:13:05', 0, 0),
+(7, 47, 4, 'Neurology', '2024-10-24T17:29:00', '2024-10-24T17:59:00', 'CANCELLED', '2024-01-31T22:58:49', 0, 0),
+(8, 24, 5, 'Pediatrics', '2023-04-15T09:00:00', '2023-04-15T09:30:00', 'SCHEDULED', '2023-05-25T19:52:12', 0, 0),
+(9, 28, 4, 'Neurology', '2023-07-22T09:00:00', '2023-07-22T09:30:00', 'SCHEDULED', '2025-06-30T01:00:10', 0, 0),
+(10, 36, 18, 'Neurology', '2023-07-09T17:29:00', '2023-07-09T17:59:00', 'COMPLETED', '2024-10-19T00:13:43', 0, 0),
+(11, 56, 24, 'Cardiology', '2024-03-22T17:29:00', '2024-03-22T17:59:00', 'COMPLETED', '2024-06-30T06:19:12', 0, 0),
+(12, 7, 19, 'Dermatology', '2023-11-27T11:28:39', '2023-11-27T11:58:39', 'CANCELLED', '2025-01-19T01:19:25', 0, 0),
+(13, 15, 4, 'Neurology', '2025-05-14T09:00:00', '2025-05-14T09:30:00', 'SCHEDULED', '2024-03-08T17:46:32', 0, 0),
+(14, 37, 8, 'Pediatrics', '2025-05-21T10:19:01', '2025-05-21T10:49:01', 'SCHEDULED', '2024-02-20T11:10:26', 0, 0),
+(15, 2, 6, 'Neurology', '2024-04-24T17:29:00', '2024-04-24T17:59:00', 'COMPLETED', '2023-01-10T11:38:25', 0, 0),
+(16, 12, 5, 'Dermatology', '2024-09-14T14:19:24', '2024-09-14T14:49:24', 'SCHEDULED', '2023-02-17T14:58:46', 0, 0),
+(17, 6, 24, 'Dermatology', '2023-12-01T09:00:00', '2023-12-01T09:30:00', 'COMPLETED', '2024-12-05T17:08:27', 0, 0),
+(18, 22, 6, 'Neurology', '2024-04-29T09:00:00', '2024-04-29T09:30:00', 'CANCELLED', '2025-07-15T04:50:00', 0, 0),
+(19, 6, 2, 'Orthopedics', '2023-09-02T12:39:58', '2023-09-02T13:09:58', 'CANCELLED', '2023-05-07T17:34:47', 0, 0),
+(20, 18, 15, 'Pediatrics', '2025-01-24T10:46:50', '2025-01-24T11:16:50', 'COMPLETED', '2024-10-05T09:53:20', 0, 0),
+(21, 18, 7, 'Dermatology', '2023-06-26T17:29:00', '2023-06-26T17:59:00', 'COMPLETED', '2023-06-22T06:16:13', 0, 0),
+(22, 19, 22, 'Dermatology', '2025-01-25T17:29:00', '2025-01-25T17:59:00', 'CANCELLED', '2024-04-24T02:42:30', 0, 0),
+(23, 3, 8, 'Pediatrics', '2025-07-20T09:00:00', '2025-07-20T09:30:00', 'SCHEDULED', '2023-11-14T13:26:47', 0, 0),
+(24, 20, 7, 'Orthopedics', '2024-02-01T17:29:00', '2024-02-01T17:59:00', 'COMPLETED', '2023-07-06T09:20:26', 0, 0),
+(25, 1, 16, 'Pediatrics', '2023-09-30T17:29:00', '2023-09-30T17:59:00', 'COMPLETED', '2025-04-07T08:06:32', 0, 0),
+(26, 46, 8, 'Dermatology', '2025-05-17T17:29:00', '2025-05-17T17:59:00', 'SCHEDULED', '2024-09-08T19:53:10', 0, 0),
+(27, 56, 24, 'Cardiology', '2024-11-08T15:26:43', '2024-11-08T15:56:43', 'COMPLETED', '2023-05-01T22:55:42', 0, 0),
+(28, 56, 11, 'Dermatology', '2024-10-28T17:29:00', '2024-10-28T17:59:00', 'COMPLETED', '2024-10-10T20:45:34', 0, 0),
+(29, 19, 4, 'Pediatrics', '2023-02-02T09:35:19', '2023-02-02T10:05:19', 'SCHEDULED', '2024-12-15T17:39:20', 0, 0),
+(30, 54, 23, 'Neurology', '2023-05-17T17:29:00', '2023-05-17T17:59:00', 'SCHEDULED', '2024-01-13T23:29:44', 0, 0),
+(31, 28, 19, 'Pediatrics', '2025-03-24T17:29:00', '2025-03-24T17:59:00', 'COMPLETED', '2024-04-26T23:52:26', 0, 0),
+(32, 48, 11, 'Orthopedics', '2024-06-01T09:41:53', '2024-06-01T10:11:53', 'SCHEDULED', '2025-03-04T00:11:46', 0, 0),
+(33, 41, 4, 'Dermatology', '2025-03-03T09:00:00', '2025-03-03T09:30:00', 'COMPLETED', '2024-06-29T09:56:48', 0, 0),
+(34, 47, 21, 'Orthopedics', '2024-01-03T09:00:00', '2024-01-03T09:30:00', 'SCHEDULED', '2024-02-02T15:11:13', 0, 0),
+(35, 13, 6, 'Dermatology', '2023-08-26T11:23:55', '2023-08-26T11:53:55', 'SCHEDULED', '2025-02-06T14:01:04', 0, 0),
+(36, 30, 25, 'Dermatology', '2025-06-19T09:00:00', '2025-06-19T09:30:00', 'CANCELLED', '2025-05-26T21:46:44', 0, 0),
+(37, 42, 21, 'Dermatology', '2024-05-17T09:00:00', '2024-05-17T09:30:00', 'SCHEDULED', '2024-11-14T03:32:46', 0, 0),
+(38, 5, 16, 'Pediatrics', '2024-04-15T09:57:50', '2024-04-15T10:27:50', 'CANCELLED', '2023-03-29T06:14:54', 0, 0),
+(39, 23, 17, 'Cardiology', '2024-04-27T09:00:00', '2024-04-27T09:30:00', 'COMPLETED', '2023-02-28T10:05:59', 0, 0),
+(40, 4, 12, 'Neurology', '2023-04-30T09:00:00', '2023-04-30T09:30:00', 'CANCELLED', '2025-07-11T20:54:03', 0, 0),
+(41, 33, 13, 'Pediatrics', '2025-06-20T12:14:54', '2025-06-20T12:44:54', 'CANCELLED', '2023-03-05T17:26:15', 0, 0),
+(42, 29, 19, 'Orthopedics', '2024-05-14T11:23:11', '2024-05-14T11:53:11', 'COMPLETED', '2025-02-17T20:19:40', 0, 0),
+(43, 10, 2, 'Pediatrics', '2023-06-10T17:29:00', '2023-06-10T17:59:00', 'CANCELLED', '2023-05-12T00:01:04', 0, 0),
+(44, 33, 21, 'Orthopedics', '2023-03-02T17:29:00', '2023-03-02T17:59:00', 'CANCELLED', '2024-11-11T00:48:40', 0, 0),
+(45, 29, 17, 'Dermatology', '2023-09-04T14:29:15', '2023-09-04T14:59:15', 'COMPLETED', '2024-03-15T11:02:13', 0, 0),
+(46, 25, 14, 'Neurology', '2025-07-17T17:29:00', '2025-07-17T17:59:00', 'CANCELLED', '2024-06-03T20:37:55', 0, 0),
+(47, 5, 11, 'Cardiology', '2025-05-16T17:29:00', '2025-05-16T17:59:00', 'COMPLETED', '2024-01-27T11:05:01', 0, 0),
+(48, 47, 22, 'Dermatology', '2023-08-22T14:19:26', '2023-08-22T14:49:26', 'SCHEDULED', '2025-06-24T06:06:13', 0, 0),
+(49, 43, 5, 'Neurology', '2024-04-26T17:29:00', '2024-04-26T17:59:00', 'SCHEDULED', '2025-07-13T08:44:41', 0, 0),
+(50, 46, 3, 'Neurology', '2025-05-18T09:00:00', '2025-05-18T09:30:00', 'CANCELLED', '2024-05-25T06:29:36', 0, 0),
+(51, 53, 5, 'Dermatology', '2023-05-26T09:00:00', '2023-05-26T09:30:00', 'CANCELLED', '2024-07-16T01:55:45', 0, 0),
+(52, 2, 12, 'Neurology', '2023-10-08T09:00:00', '2023-10-08T09:30:00', 'COMPLETED', '2025-01-25T09:29:38', 0, 0),
+(53, 13, 8, 'Orthopedics', '2023-08-29T16:46:29', '2023-08-29T17:16:29', 'COMPLETED', '2023-06-07T02:48:03', 0, 0),
+(54, 33, 25, 'Dermatology', '2025-03-28T17:29:00', '2025-03-28T17:59:00', 'CANCELLED', '2024-06-07T03:29:08', 0, 0),
+(55, 57, 25, 'Dermatology', '2023-07-23T13:51:44', '2023-07-23T14:21:44', 'COMPLETED', '2023-08-28T14:57:35', 0, 0),
+(56, 11, 6, 'Dermatology', '2023-09-15T09:00:00', '2023-09-15T09:30:00', 'SCHEDULED', '2024-09-30T05:55:09', 0, 0),
+(57, 24, 22, 'Orthopedics', '2024-11-21T09:00:00', '2024-11-21T09:30:00', 'CANCELLED', '2024-11-28T09:14:51', 0, 0),
+(58, 15, 18, 'Orthopedics', '2024-04-25T17:47:57', '2024-04-25T17:59:00', 'SCHEDULED', '2024-07-25T10:06:17', 0, 0),
+(59, 44, 19, 'Pediatrics', '2024-12-18T09:00:00', '2024-12-18T09:30:00', 'COMPLETED', '2025-02-20T05:43:13', 0, 0),
+(60, 34, 14, 'Orthopedics', '2023-11-07T09:00:00', '2023-11-07T09:30:00', 'SCHEDULED', '2024-01-24T08:47:43', 0, 0),
+(61, 4, 21, 'Pediatrics', '2024-07-30T15:47:25', '2024-07-30T16:17:25', 'SCHEDULED', '2025-03-12T10:29:45', 0, 0),
+(62, 55, 4, 'Neurology', '2023-05-11T09:00:00', '2023-05-11T09:30:00', 'COMPLETED', '2024-11-28T23:50:04', 0, 0),
+(63, 58, 17, 'Orthopedics', '2024-11-10T14:09:33', '2024-11-10T14:39:33', 'SCHEDULED', '2024-12-01T19:16:13', 0, 0),
+(64, 57, 12, 'Cardiology', '2024-10-06T12:28:40', '2024-10-06T12:58:40', 'COMPLETED', '2025-02-18T20:10:54', 0, 0),
+(65, 24, 8, 'Pediatrics', '2023-05-07T17:29:00', '2023-05-07T17:59:00', 'SCHEDULED', '2023-02-13T18:54:28', 0, 0),
+(66, 21, 4, 'Neurology', '2023-08-15T17:29:00', '2023-08-15T17:59:00', 'SCHEDULED', '2024-03-21T15:38:20', 0, 0),
+(67, 59, 16, 'Orthopedics', '2024-12-29T17:41:35', '2024-12-29T17:59:00', 'CANCELLED', '2023-01-09T03:46:43', 0, 0),
+(68, 58, 3, 'Cardiology', '2024-02-02T13:32:08', '2024-02-02T14:02:08', 'SCHEDULED', '2025-05-02T12:54:18', 0, 0),
+(69, 47, 20, 'Dermatology', '2024-10-19T12:04:52', '2024-10-19T12:34:52', 'COMPLETED', '2024-01-05T03:52:11', 0, 0),
+(70, 20, 4, 'Cardiology', '2024-01-06T09:40:08', '2024-01-06T10:10:08', 'CANCELLED', '2024-12-11T02:25:51', 0, 0),
+(71, 5, 4, 'Pediatrics', '2025-07-16T09:00:00', '2025-07-16T09:30:00', 'SCHEDULED', '2025-03-11T14:35:59', 0, 0),
+(72, 37, 8, 'Orthopedics', '2024-03-28T11:24:24', '2024-03-28T11:54:24', 'SCHEDULED', '2024-07-02T01:56:07', 0, 0),
+(73, 16, 19, 'Pediatrics', '2023-10-18T17:29:00', '2023-10-18T17:59:00', 'CANCELLED', '2024-07-14T04:16:57', 0, 0),
+(74, 5, 17, 'Dermatology', '2025-02-27T09:00:00', '2025-02-27T13:32:30', 'CANCELLED', '2023-02-01T14:07:04', 0, 0),
+(75, 25, 16, 'Cardiology', '2024-08-23T17:29:00', '2024-08-23T17:59:00', 'COMPLETED', '2023-01-26T05:33:15', 0, 0),
+(76, 23, 3, 'Neurology', '2024-01-10T13:49:33', '2024-01-10T14:19:33', 'CANCELLED', '2024-05-31T13:11:32', 0, 0),
+(77, 9, 2, 'Neurology', '2025-04-28T09:00:00', '2025-04-28T09:30:00', 'CANCELLED', '2023-09-29T23:47:44', 0, 0),
+(78, 54, 25, 'Pediatrics', '2025-01-13T09:00:00', '2025-01-13T09:26:06', 'SCHEDULED', '2023-04-09T00:33:30', 0, 0),
+(79, 46, 25, 'Pediatrics', '2023-02-27T10:51:20', '2023-02-27T11:21:20', 'SCHEDULED', '2023-03-10T01:12:58', 0, 0),
+(80, 51, 7, 'Cardiology', '2024-05-05T09:00:00', '2024-05-05T09:30:00', 'CANCELLED', '2024-09-10T14:52:07', 0, 0),
+(81, 53, 18, 'Pediatrics', '2024-01-29T12:13:18', '2024-01-29T12:43:18', 'CANCELLED', '2023-10-24T20:51:08', 0, 0),
+(82, 19, 12, 'Cardiology', '2024-05-30T15:02:57', '2024-05-30T15:32:57', 'SCHEDULED', '2024-07-25T16:44:57', 0, 0),
+(83, 28, 13, 'Pediatrics', '2024-08-23T15:09:42', '2024-08-23T15:39:42', 'SCHEDULED', '2025-02-09T19:47:49', 0, 0),
+(84, 45, 16, 'Neurology', '2025-03-17T16:00:25', '2025-03-17T16:30:25', 'SCHEDULED', '2024-10-21T10:29:40', 0, 0),
+(85, 6, 14, 'Dermatology', '2023-10-08T09:00:00', '2023-10-08T09:30:00', 'COMPLETED', '2024-05-13T23:37:48', 0, 0),
+(86, 7, 3, 'Neurology', '2024-04-04T09:00:00', '2024-04-04T09:30:00', 'COMPLETED', '2025-07-25T03:21:45', 0, 0),
+(87, 46, 14, 'Orthopedics', '2024-11-20T14:06:14', '2024-11-20T14:36:14', 'COMPLETED', '2023-03-07T19:06:53', 0, 0),
+(88, 47, 12, 'Dermatology', '2024-11-06T15:45:26', '2024-11-06T16:15:26', 'CANCELLED', '2023-03-31T02:27:49', 0, 0),
+(89, 5, 22, 'Pediatrics', '2024-07-18T09:13:14', '2024-07-18T09:43:14', 'CANCELLED', '2023-09-06T12:44:14', 0, 0),
+(90, 2, 5, 'Dermatology', '2024-11-11T16:16:01', '2024-11-11T16:46:01', 'SCHEDULED', '2023-04-15T10:38:29', 0, 0),
+(91, 16, 25, 'Neurology', '2024-07-16T13:57:08', '2024-07-16T14:27:08', 'CANCELLED', '2023-02-20T07:24:44', 0, 0),
+(92, 39, 5, 'Pediatrics', '2024-07-30T09:00:00', '2024-07-30T09:30:00', 'COMPLETED', '2023-04-30T10:29:47', 0, 0),
+(93, 37, 5, 'Dermatology', '2024-07-24T09:00:00', '2024-07-24T09:30:00', 'COMPLETED', '2024-03-08T22:18:27', 0, 0),
+(94, 16, 4, 'Cardiology', '2023-10-17T09:00:00', '2023-10-17T09:30:00', 'CANCELLED', '2024-08-24T03:56:06', 0, 0),
+(95, 59, 18, 'Cardiology', '2024-02-11T15:44:30', '2024-02-11T16:14:30', 'CANCELLED', '2024-11-24T06:16:03', 0, 0),
+(96, 14, 20, 'Neurology', '2025-02-02T09:00:00', '2025-02-02T09:30:00', 'SCHEDULED', '2023-07-30T20:19:19', 0, 0),
+(97, 55, 3, 'Pediatrics', '2023-09-26T09:00:00', '2023-09-26T09:30:00', 'SCHEDULED', '2024-05-11T11:05:44', 0, 0),
+(98, 43, 12, 'Cardiology', '2025-05-04T09:22:47', '2025-05-04T09:52:47', 'COMPLETED', '2024-04-10T23:11:43', 0, 0),
+(99, 55, 6, 'Orthopedics', '2024-07-15T13:24:19', '2024-07-15T13:54:19', 'SCHEDULED', '2023-07-08T12:43:12', 0, 0),
+(100, 13, 5, 'Orthopedics', '2025-02-06T10:28:22', '2025-02-06T10:58:22', 'COMPLETED', '2025-05-10T15:24:58', 0, 0),
+(101, 37, 12, 'Pediatrics', '2025-05-06T17:29:00', '2025-05-06T17:59:00', 'CANCELLED', '2023-05-14T22:20:46', 0, 0),
+(102, 5, 10, 'Pediatrics', '2025-01-13T13:55:43', '2025-01-13T14:25:43', 'COMPLETED', '2024-09-28T00:47:17', 0, 0),
+(103, 53, 19, 'Cardiology', '2023-07-14T16:31:15', '2023-07-14T17:01:15', 'CANCELLED', '2023-04-26T05:04:20', 0, 0),
+(104, 29, 15, 'Dermatology', '2024-06-19T09:00:00', '2024-06-19T09:30:00', 'CANCELLED', '2025-07-02T02:15:00', 0, 0),
+(105, 12, 25, 'Orthopedics', '2024-11-03T09:00:00', '2024-11-03T09:30:00', 'SCHEDULED', '2023-07-12T21:03:43', 0, 0),
+(106, 34, 5, 'Neurology', '2023-09-13T17:29:00', '2023-09-13T17:59:00', 'COMPLETED', '2023-12-17T06:08:29', 0, 0),
+(107, 23, 17, 'Neurology', '2023-05-03T12:06:37', '2023-05-03T12:36:37', 'SCHEDULED', '2025-05-05T16:51:23', 0, 0),
+(108, 18, 5, 'Neurology', '2025-04-08T17:30:09', '2025-04-08T17:59:00', 'CANCELLED', '2023-09-19T23:12:07', 0, 0),
+(109, 38, 19, 'Orthopedics', '2023-09-23T17:29:00', '2023-09-23T17:59:00', 'COMPLETED', '2025-05-25T13:12:12', 0, 0),
+(110, 3, 1, 'Cardiology', '2023-03-12T14:56:19', '2023-03-12T15:26:19', 'COMPLETED', '2023-11-24T11:30:21', 0, 0),
+(111, 50, 19, 'Pediatrics', '2023-02-17T09:00:00', '2023-02-17T09:30:00', 'CANCELLED', '2025-04-27T12:36:10', 0, 0),
+(112, 19, 21, 'Neurology', '2025-01-20T09:00:00', '2025-01-20T09:30:00', 'CANCELLED', '2024-09-22T20:13:36', 0, 0),
+(113, 20, 15, 'Cardiology', '2023-04-04T09:00:00', '2023-04-04T09:30:00', 'COMPLETED', '2024-10-07T15:30:06', 0, 0),
+(114, 31, 15, 'Orthopedics', '2024-06-12T11:17:53', '2024-06-12T11:47:53', 'SCHEDULED', '2024-04-30T13:55:12', 0, 0),
+(115, 56, 23, 'Neurology', '2024-06-20T12:20:51', '2024-06-20T12:50:51', 'SCHEDULED', '2024-07-29T14:44:23', 0, 0),
+(116, 33, 18, 'Cardiology', '2024-05-10T17:30:09', '2024-05-10T17:59:00', 'COMPLETED', '2023-07-10T07:56:52', 0, 0),
+(117, 18, 15, 'Orthopedics', '2023-08-07T17:29:00', '2023-08-07T17:59:00', 'SCHEDULED', '2024-03-26T19:53:15', 0, 0),
+(118, 25, 20, 'Pediatrics', '2024-01-21T16:11:12', '2024-01-21T16:41:12', 'COMPLETED', '2025-06-16T09:44:01', 0, 0),
+(119, 47, 11, 'Orthopedics', '2023-09-05T12:42:56', '2023-09-05T13:12:56', 'CANCELLED', '2024-12-26T04:07:44', 0, 0),
+(120, 32, 10, 'Pediatrics', '2023-02-06T09:00:00', '2023-02-06T09:30:00', 'COMPLETED', '2025-02-24T04:20:07', 0, 0),
+(121, 30, 8, 'Orthopedics', '2025-06-25T09:00:00', '2025-06-25T09:30:00', 'SCHEDULED', '2023-03-20T12:16:58', 0, 0),
+(122, 19, 16, 'Dermatology', '2025-01-01T09:00:00', '2025-01-01T09:30:00', 'CANCELLED', '2023-01-13T16:52:32', 0, 0),
+(123, 55, 4, 'Pediatrics', '2023-07-28T09:00:00', '2023-07-28T09:30:00', 'CANCELLED', '2024-07-22T05:10:43', 0, 0),
+(124, 49, 13, 'Neurology', '2023-03-12T09:00:00', '2023-03-12T09:30:00', 'SCHEDULED', '2025-06-04T21:38:26', 0, 0),
+(125, 36, 7, 'Neurology', '2025-05-09T09:38:44', '2025-05-09T10:08:44', 'SCHEDULED', '2024-08-23T04:07:41', 0, 0),
+(126, 33, 15, 'Dermatology', '2024-03-10T12:44:33', '2024-03-10T13:14:33', 'SCHEDULED', '2023-05-31T04:32:49', 0, 0),
+(127, 26, 12, 'Neurology', '2025-05-16T13:28:41', '2025-05-16T13:58:41', 'SCHEDULED', '2023-11-06T05:24:56', 0, 0),
+(128, 39, 17, 'Pediatrics', '2025-02-15T17:29:00', '2025-02-15T17:59:00', 'SCHEDULED', '2023-03-02T10:49:04', 0, 0),
+(129, 9, 23, 'Neurology', '2025-01-05T17:29:00', '2025-01-05T17:59:00', 'COMPLETED', '2023-08-20T08:54:37', 0, 0),
+(130, 39, 17, 'Orthopedics', '2024-05-24T11:27:10', '2024-05-24T11:57:10', 'SCHEDULED', '2024-09-02T10:24:31', 0, 0),
+(131, 40, 24, 'Neurology', '2025-07-11T09:00:00', '2025-07-11T09:30:00', 'CANCELLED', '2025-03-02T19:31:08', 0, 0),
+(132, 35, 16, 'Dermatology', '2024-04-10T17:00:08', '2024-04-10T17:30:08', 'SCHEDULED', '2024-07-26T05:22:28', 0, 0),
+(133, 22, 22, 'Cardiology', '2024-10-09T09:00:00', '2024-10-09T09:30:00', 'COMPLETED', '2023-02-11T09:28:40', 0, 0),
+(134, 39, 16, 'Neurology', '2025-06-17T15:05:10', '2025-06-17T15:35:10', 'SCHEDULED', '2023-03-21T18:39:33', 0, 0),
+(135, 38, 16, 'Orthopedics', '2025-03-25T09:00:00', '2025-03-25T09:17:52', 'SCHEDULED', '2024-01-12T05:44:32', 0, 0),
+(136, 3, 19, 'Cardiology', '2023-10-24T09:00:00', '2023-10-24T09:27:19', 'COMPLETED', '2024-05-02T07:18:12', 0, 0),
+(137, 27, 5, 'Pediatrics', '2023-11-13T17:37:58', '2023-11-13T17:59:00', 'CANCELLED', '2025-01-02T14:43:33', 0, 0),
+(138, 56, 24, 'Cardiology', '2023-08-03T12:05:17', '2023-08-03T12:35:17', 'SCHEDULED', '2025-05-21T07:22:28', 0, 0),
+(139, 21, 22, 'Pediatrics', '2025-03-27T09:00:00', '2025-03-27T09:30:00', 'COMPLETED', '2023-09-27T00:42:31', 0, 0),
+(140, 30, 18, 'Neurology', '2025-04-28T14:32:30', '2025-04-28T15:02:30', 'CANCELLED', '2024-02-15T16:08:11', 0, 0),
+(141, 40, 16, 'Orthopedics', '2024-01-18T17:29:00', '2024-01-18T17:59:00', 'CANCELLED', '2024-04-08T16:51:19', 0, 0),
+(142, 15, 10, 'Neurology', '2023-11-18T17:29:00', '2023-11-18T17:59:00', 'COMPLETED', '2025-01-15T08:22:05', 0, 0),
+(143, 23, 18, 'Neurology', '2024-03-23T09:00:00', '2024-03-23T09:30:00', 'CANCELLED', '2025-04-23T19:37:25', 0, 0),
+(144, 25, 13, 'Neurology', '2023-08-16T13:01:32', '2023-08-16T13:31:32', 'SCHEDULED', '2024-03-22T19:38:10', 0, 0),
+(145, 46, 3, 'Neurology', '2024-11-18T09:00:00', '2024-11-18T09:30:00', 'CANCELLED', '2025-01-14T05:22:10', 0, 0),
+(146, 14, 7, 'Dermatology', '2024-02-26T09:00:00', '2024-02-26T09:30:00', 'CANCELLED', '2024-02-26T22:46:56', 0, 0),
+(147, 9, 4, 'Dermatology', '2025-06-30T14:37:36', '2025-06-30T15:07:36', 'SCHEDULED', '2023-03-20T20:40:20', 0, 0),
+(148, 43, 17, 'Orthopedics', '2023-12-28T16:46:34', '2023-12-28T17:16:34', 'SCHEDULED', '2024-10-04T00:59:30', 0, 0),
+(149, 22, 23, 'Pediatrics', '2023-06-06T09:00:00', '2023-06-06T09:30:00', 'SCHEDULED', '2025-05-04T22:37:50', 0, 0),
+(150, 60, 6, 'Pediatrics', '2025-01-08T17:29:00', '2025-01-08T17:59:00', 'CANCELLED', '2023-11-06T20:15:27', 0, 0),
+(151, 49, 10, 'Neurology', '2024-03-19T09:03:18', '2024-03-19T09:33:18', 'SCHEDULED', '2025-06-10T21:14:34', 0, 0),
+(152, 15, 18, 'Cardiology', '2023-09-29T17:29:00', '2023-09-29T17:59:00', 'SCHEDULED', '2023-02-26T10:50:51', 0, 0),
+(153, 54, 13, 'Pediatrics', '2023-10-17T10:12:03', '2023-10-17T10:42:03', 'SCHEDULED', '2023-01-15T09:30:18', 0, 0),
+(154, 20, 19, 'Dermatology', '2023-06-16T16:27:34', '2023-06-16T16:57:34', 'COMPLETED', '2024-12-06T19:21:40', 0, 0),
+(155, 42, 18, 'Dermatology', '2025-02-06T09:00:00', '2025-02-06T09:30:00', 'CANCELLED', '2024-12-28T01:04:44', 0, 0),
+(156, 18, 7, 'Cardiology', '2024-05-28T16:47:48', '2024-05-28T17:17:48', 'CANCELLED', '2024-12-13T21:34:17', 0, 0),
+(157, 42, 9, 'Orthopedics', '2023-01-22T17:29:00', '2023-01-22T17:59:00', 'COMPLETED', '2025-06-01T00:25:05', 0, 0),
+(158, 44, 25, 'Orthopedics', '2023-09-30T14:55:28', '2023-09-30T15:25:28', 'COMPLETED', '2025-03-11T11:03:19', 0, 0),
+(159, 21, 3, 'Pediatrics', '2023-05-29T09:00:00', '2023-05-29T09:30:00', 'SCHEDULED', '2025-01-11T16:46:44', 0, 0),
+(160, 21, 8, 'Cardiology', '2024-02-10T09:00:00', '2024-02-10T09:30:00', 'SCHEDULED', '2024-11-24T23:30:26', 0, 0),
+(161, 49, 9, 'Neurology', '2024-04-14T09:00:00', '2024-04-14T09:30:00', 'CANCELLED', '2025-06-08T22:24:56', 0, 0),
+(162, 1, 9, 'Neurology', '2024-01-03T09:00:00', '2024-01-03T09:30:00', 'CANCELLED', '2023-07-03T15:44:30', 0, 0),
+(163, 30, 10, 'Orthopedics', '2024-09-21T17:29:00', '2024-09-21T17:59:00', 'CANCELLED', '2024-04-28T02:05:53', 0, 0),
+(164, 45, 4, 'Neurology', '2024-07-24T17:29:00', '2024-07-24T17:59:00', 'SCHEDULED', '2023-07-27T11:48:18', 0, 0),
+(165, 31, 5, 'Pediatrics', '2025-07-29T17:29:00', '2025-07-29T17:59:00', 'COMPLETED', '2025-05-03T04:56:47', 0, 0),
+(166, 59, 16, 'Dermatology', '2023-12-06T09:00:00', '2023-12-06T09:30:00', 'CANCELLED', '2025-07-14T13:34:23', 0, 0),
+(167, 56, 3, 'Dermatology', '2024-11-24T17:29:00', '2024-11-24T17:59:00', 'CANCELLED', '2024-07-16T00:19:03', 0, 0),
+(168, 5, 19, 'Cardiology', '2023-04-06T17:29:00', '2023-04-06T17:59:00', 'CANCELLED', '2023-11-11T00:57:03', 0, 0),
+(169, 37, 18, 'Orthopedics', '2023-09-13T14:23:23', '2023-09-13T14:53:23', 'CANCELLED', '2024-11-17T09:00:35', 0, 0),
+(170, 8, 22, 'Orthopedics', '2025-06-24T17:29:00', '2025-06-24T17:59:00', 'SCHEDULED', '2025-03-03T20:10:20', 0, 0),
+(171, 29, 2, 'Pediatrics', '2023-07-24T17:29:00', '2023-07-24T17:59:00', 'COMPLETED', '2024-12-10T14:40:53', 0, 0),
+(172, 37, 2, 'Dermatology', '2024-12-19T09:00:00', '2024-12-19T09:30:00', 'CANCELLED', '2023-02-03T19:39:41', 0, 0),
+(173, 26, 9, 'Cardiology', '2023-12-05T11:56:58', '2023-12-05T12:26:58', 'SCHEDULED', '2023-03-12T08:31:34', 0, 0),
+(174, 28, 12, 'Cardiology', '2025-04-20T16:02:15', '2025-04-20T16:32:15', 'SCHEDULED', '2025-01-03T08:05:24', 0, 0),
+(175, 3, 10, 'Pediatrics', '2023-10-07T14:11:24', '2023-10-07T14:41:24', 'CANCELLED', '2024-10-15T00:13:44', 0, 0),
+(176, 24, 13, 'Pediatrics', '2024-08-09T10:05:02', '2024-08-09T10:35:02', 'SCHEDULED', '2025-04-17T18:34:16', 0, 0),
+(177, 9, 21, 'Neurology', '2023-07-04T09:00:00', '2023-07-04T09:30:00', 'CANCELLED', '2024-09-02T14:17:16', 0, 0),
+(178, 34, 5, 'Orthopedics', '2023-01-06T09:29:37', '2023-01-06T09:59:37', 'COMPLETED', '2024-12-20T06:02:11', 0, 0),
+(179, 44, 24, 'Dermatology', '2024-10-20T17:29:00', '2024-10-20T17:59:00', 'COMPLETED', '2023-12-23T18:29:49', 0, 0),
+(180, 16, 15, 'Neurology', '2023-08-29T17:29:00', '2023-08-29T17:59:00', 'SCHEDULED', '2023-06-25T07:09:11', 0, 0),
+(181, 3, 22, 'Pediatrics', '2023-01-25T09:00:00', '2023-01-25T09:30:00', 'SCHEDULED', '2023-04-15T12:47:12', 0, 0),
+(182, 7, 20, 'Cardiology', '2024-11-24T12:31:45', '2024-11-24T13:01:45', 'CANCELLED', '2023-03-17T14:47:05', 0, 0),
+(183, 16, 24, 'Cardiology', '2024-09-16T17:29:00', '2024-09-16T17:59:00', 'SCHEDULED', '2025-04-18T11:42:15', 0, 0),
+(184, 14, 25, 'Cardiology', '2023-08-06T16:37:58', '2023-08-06T17:07:58', 'COMPLETED', '2023-12-30T18:10:26', 0, 0),
+(185, 53, 24, 'Dermatology', '2024-05-10T09:35:29', '2024-05-10T10:05:29', 'CANCELLED', '2024-05-13T03:15:43', 0, 0),
+(186, 16, 10, 'Orthopedics', '2025-03-20T17:38:52', '2025-03-20T17:59:00', 'COMPLETED', '2024-04-11T19:29:15', 0, 0),
+(187, 18, 2, 'Dermatology', '2025-07-08T09:00:00', '2025-07-08T09:30:00', 'CANCELLED', '2024-10-25T15:11:31', 0, 0),
+(188, 36, 16, 'Cardiology', '2024-06-19T09:00:00', '2024-06-19T09:30:00', 'CANCELLED', '2024-05-10T03:16:54', 0, 0),
+(189, 45, 14, 'Pediatrics', '2023-08-20T17:29:00', '2023-08-20T17:59:00', 'COMPLETED', '2023-10-13T15:30:18', 0, 0),
+(190, 49, 18, 'Pediatrics', '2024-01-10T09:00:00', '2024-01-10T09:30:00', 'COMPLETED', '2023-08-13T05:49:23', 0, 0),
+(191, 52, 15, 'Cardiology', '2025-05-23T15:16:04', '2025-05-23T15:46:04', 'COMPLETED', '2025-05-15T17:09:22', 0, 0),
+(192, 34, 5, 'Pediatrics', '2024-01-13T09:00:00', '2024-01-13T09:30:00', 'SCHEDULED', '2024-05-28T01:05:48', 0, 0),
+(193, 42, 3, 'Pediatrics', '2024-07-30T10:46:18', '2024-07-30T11:16:18', 'CANCELLED', '2023-10-23T21:40:10', 0, 0),
+(194, 4, 9, 'Pediatrics', '2025-07-28T17:29:00', '2025-07-28T17:59:00', 'SCHEDULED', '2023-04-24T01:35:47', 0, 0),
+(195, 13, 25, 'Dermatology', '2025-05-18T09:00:00', '2025-05-18T09:30:00', 'COMPLETED', '2023-11-21T11:56:58', 0, 0),
+(196, 56, 11, 'Neurology', '2023-01-24T17:29:00', '2023-01-24T17:59:00', 'SCHEDULED', '2023-07-02T05:51:53', 0, 0),
+(197, 48, 25, 'Pediatrics', '2024-01-12T17:29:00', '2024-01-12T17:59:00', 'CANCELLED', '2023-11-14T16:48:09', 0, 0),
+(198, 26, 8, 'Dermatology', '2024-05-14T14:40:35', '2024-05-14T15:10:35', 'COMPLETED', '2024-12-25T07:04:37', 0, 0),
+(199, 35, 21, 'Neurology', '2024-04-24T09:00:00', '2024-04-24T09:30:00', 'COMPLETED', '2025-03-07T15:11:10', 0, 0),
+(200, 57, 16, 'Pediatrics', '2023-06-03T09:00:00', '2023-06-03T09:30:00', 'COMPLETED', '2023-11-12T13:08:30', 0, 0),
+(201, 24, 11, 'Pediatrics', '2023-03-13T09:00:00', '2023-03-13T09:30:00', 'SCHEDULED', '2023-08-15T16:23:35', 0, 0),
+(202, 2, 9, 'Dermatology', '2025-06-26T09:00:00', '2025-06-26T09:30:00', 'CANCELLED', '2024-10-10T16:26:20', 0, 0),
+(203, 19, 5, 'Orthopedics', '2024-05-27T10:16:09', '2024-05-27T10:46:09', 'COMPLETED', '2025-06-04T03:17:33', 0, 0),
+(204, 54, 8, 'Pediatrics', '2025-05-05T09:26:29', '2025-05-05T09:56:29', 'COMPLETED', '2025-01-29T01:06:53', 0, 0),
+(205, 47, 21, 'Pediatrics', '2024-12-16T17:29:00', '2024-12-16T17:59:00', 'CANCELLED', '2024-07-01T02:04:45', 0, 0),
+(206, 11, 5, 'Dermatology', '2025-01-28T13:45:07', '2025-01-28T14:15:07', 'CANCELLED', '2023-04-02T05:41:22', 0, 0),
+(207, 34, 2, 'Cardiology', '2023-03-17T09:00:00', '2023-03-17T09:14:51', 'COMPLETED', '2023-08-02T14:03:20', 0, 0),
+(208, 54, 21, 'Orthopedics', '2023-04-16T14:01:42', '2023-04-16T14:31:42', 'SCHEDULED', '2023-12-06T18:27:37', 0, 0),
+(209, 33, 15, 'Neurology', '2023-04-04T17:29:00', '2023-04-04T17:59:00', 'CANCELLED', '2025-01-27T20:31:47', 0, 0),
+(210, 2, 1, 'Dermatology', '2025-05-06T17:29:00', '2025-05-06T17:59:00', 'SCHEDULED', '2023-01-26T23:35:45', 0, 0),
+(211, 34, 24, 'Neurology', '2025-04-12T09:00:00', '2025-04-12T09:30:00', 'SCHEDULED', '2025-02-19T03:58:14', 0, 0),
+(212, 53, 23, 'Pediatrics', '2023-10-06T11:33:08', '2023-10-06T12:03:08', 'SCHEDULED', '2025-03-25T14:30:17', 0, 0),
+(213, 10, 8, 'Orthopedics', '2025-03-28T17:29:00', '2025-03-28T17:59:00', 'COMPLETED', '2024-02-20T06:35:18', 0, 0),
+(214, 51, 13, 'Cardiology', '2024-08-02T12:22:15', '2024-08-02T12:52:15', 'COMPLETED', '2025-05-27T16:48:29', 0, 0),
+(215, 16, 23, 'Orthopedics', '2024-04-10T17:29:00', '2024-04-10T17:59:00', 'CANCELLED', '2023-02-19T05:17:02', 0, 0),
+(216, 6, 13, 'Pediatrics', '2024-08-08T17:29:00', '2024-08-08T17:59:00', 'COMPLETED', '2023-03-29T04:06:59', 0, 0),
+(217, 41, 1, 'Orthopedics', '2023-05-09T10:45:43', '2023-05-09T11:15:43', 'COMPLETED', '2024-05-29T14:39:49', 0, 0),
+(218, 37, 4, 'Dermatology', '2023-03-08T09:00:00', '2023-03-08T09:30:00', 'SCHEDULED', '2025-05-30T11:14:40', 0, 0),
+(219, 31, 9, 'Cardiology', '2023-04-26T11:53:47', '2023-04-26T12:23:47', 'CANCELLED', '2025-05-25T09:10:13', 0, 0),
+(220, 43, 2, 'Orthopedics', '2024-05-03T12:50:21', '2024-05-03T13:20:21', 'SCHEDULED', '2025-06-30T22:17:32', 0, 0),
+(221, 10, 25, 'Pediatrics', '2023-04-30T12:26:15', '2023-04-30T12:56:15', 'SCHEDULED', '2025-05-26T01:53:08', 0, 0),
+(222, 16, 19, 'Pediatrics', '2025-04-19T17:37:41', '2025-04-19T17:59:00', 'COMPLETED', '2023-08-06T09:44:10', 0, 0),
+(223, 51, 23, 'Cardiology', '2025-02-16T17:29:00', '2025-02-16T17:59:00', 'SCHEDULED', '2023-06-01T17:59:24', 0, 0),
+(224, 28, 8, 'Cardiology', '2024-06-13T09:00:00', '2024-06-13T09:30:00', 'CANCELLED', '2025-07-14T05:54:01', 0, 0),
+(225, 26, 25, 'Neurology', '2023-02-16T09:00:00', '2023-02-16T09:30:00', 'COMPLETED', '2025-02-01T03:01:21', 0, 0),
+(226, 15, 12, 'Dermatology', '2024-08-06T09:00:00', '2024-08-06T09:30:00', 'SCHEDULED', '2025-06-29T03:00:27', 0, 0),
+(227, 43, 13, 'Cardiology', '2024-04-03T17:29:00', '2024-04-03T17:59:00', 'CANCELLED', '2023-04-25T04:31:40', 0, 0),
+(228, 6, 9, 'Orthopedics', '2024-08-13T09:00:00', '2024-08-13T09:30:00', 'CANCELLED', '2024-08-28T06:09:36', 0, 0),
+(229, 21, 12, 'Cardiology', '2023-05-23T09:00:00', '2023-05-23T09:30:00', 'COMPLETED', '2024-11-21T20:57:17', 0, 0),
+(230, 24, 25, 'Neurology', '2023-06-08T17:29:00', '2023-06-08T17:59:00', 'SCHEDULED', '2023-10-19T02:28:19', 0, 0),
+(231, 28, 15, 'Dermatology', '2025-05-11T17:29:00', '2025-05-11T17:59:00', 'COMPLETED', '2023-06-10T11:02:22', 0, 0),
+(232, 2, 3, 'Neurology', '2025-05-10T17:29:00', '2025-05-10T17:59:00', 'CANCELLED', '2025-07-18T00:41:19', 0, 0),
+(233, 51, 11, 'Pediatrics', '2023-01-20T09:00:00', '2023-01-20T09:30:00', 'COMPLETED', '2024-08-25T10:12:55', 0, 0),
+(234, 50, 3, 'Dermatology', '2024-01-13T09:00:00', '2024-01-13T09:30:00', 'CANCELLED', '2023-09-21T10:30:34', 0, 0),
+(235, 44, 13, 'Orthopedics', '2023-08-04T16:19:57', '2023-08-04T16:49:57', 'COMPLETED', '2024-02-21T22:55:50', 0, 0),
+(236, 32, 5, 'Cardiology', '2023-09-17T17:56:37', '2023-09-17T17:59:00', 'COMPLETED', '2024-10-16T03:49:59', 0, 0),
+(237, 20, 16, 'Cardiology', '2024-07-14T17:29:00', '2024-07-14T17:59:00', 'SCHEDULED', '2025-02-09T04:51:16', 0, 0),
+(238, 39, 20, 'Orthopedics', '2024-12-12T09:00:00', '2024-12-12T09:30:00', 'SCHEDULED', '2024-04-18T06:28:24', 0, 0),
+(239, 1, 13, 'Neurology', '2024-08-13T09:00:00', '2024-08-13T09:30:00', 'COMPLETED', '2024-06-03T23:52:15', 0, 0),
+(240, 28, 21, 'Dermatology', '2023-07-31T11:05:17', '2023-07-31T11:35:17', 'COMPLETED', '2025-07-26T01:20:45', 0, 0),
+(241, 45, 7, 'Pediatrics', '2024-05-03T09:00:00', '2024-05-03T09:30:00', 'COMPLETED', '2024-05-10T18:18:52', 0, 0),
+(242, 19, 24, 'Pediatrics', '2025-06-13T14:20:08', '2025-06-13T14:50:08', 'COMPLETED', '2024-08-07T04:21:28', 0, 0),
+(243, 18, 13, 'Neurology', '2023-06-26T17:29:00', '2023-06-26T17:59:00', 'SCHEDULED', '2025-07-08T23:49:26', 0, 0),
+(244, 35, 6, 'Dermatology', '2023-02-11T17:29:00', '2023-02-11T17:59:00', 'CANCELLED', '2023-11-22T16:15:31', 0, 0),
+(245, 29, 10, 'Cardiology', '2024-09-27T13:54:14', '2024-09-27T14:24:14', 'SCHEDULED', '2024-04-15T10:25:09', 0, 0),
+(246, 16, 9, 'Orthopedics', '2024-10-19T09:00:00', '2024-10-19T09:30:00', 'SCHEDULED', '2024-11-28T14:25:14', 0, 0),
+(247, 39, 16, 'Dermatology', '2024-09-14T15:05:49', '2024-09-14T15:35:49', 'CANCELLED', '2024-10-11T19:22:48', 0, 0),
+(248, 35, 2, 'Neurology', '2025-04-14T09:00:00', '2025-04-14T09:30:00', 'CANCELLED', '2023-05-13T00:21:22', 0, 0),
+(249, 7, 25, 'Orthopedics', '2024-07-05T11:41:17', '2024-07-05T12:11:17', 'CANCELLED', '2023-03-10T19:30:01', 0, 0),
+(250, 37, 21, 'Pediatrics', '2024-05-30T09:00:00', '2024-05-30T09:30:00', 'SCHEDULED', '2023-01-17T09:14:58', 0, 0),
+(251, 7, 9, 'Orthopedics', '2025-03-04T09:00:00', '2025-03-04T09:30:00', 'CANCELLED', '2025-06-20T19:17:26', 0, 0),
+(252, 45, 19, 'Orthopedics', '2024-11-23T11:49:44', '2024-11-23T12:19:44', 'COMPLETED', '2024-12-20T08:14:51', 0, 0),
+(253, 50, 22, 'Dermatology', '2025-02-16T10:43:00', '2025-02-16T11:13:00', 'COMPLETED', '2023-02-08T03:45:43', 0, 0),
+(254, 31, 4, 'Neurology', '2024-10-08T09:00:00', '2024-10-08T09:30:00', 'SCHEDULED', '2023-08-09T02:02:00', 0, 0),
+(255, 23, 10, 'Neurology', '2024-12-08T09:00:00', '2024-12-08T09:30:00', 'CANCELLED', '2025-01-20T04:47:10', 0, 0),
+(256, 23, 16, 'Cardiology', '2024-11-11T16:00:36', '2024-11-11T16:30:36', 'COMPLETED', '2023-04-15T08:26:27', 0, 0),
+(257, 20, 2, 'Cardiology', '2023-02-05T09:00:00', '2023-02-05T09:30:00', 'CANCELLED', '2023-06-19T21:20:10', 0, 0),
+(258, 44, 6, 'Orthopedics', '2025-03-12T13:38:49', '2025-03-12T14:08:49', 'CANCELLED', '2023-09-06T18:17:31', 0, 0),
+(259, 22, 18, 'Pediatrics', '2024-12-18T17:29:00', '2024-12-18T17:59:00', 'COMPLETED', '2023-10-14T12:51:38', 0, 0),
+(260, 12, 21, 'Pediatrics', '2024-09-06T12:22:48', '2024-09-06T12:52:48', 'CANCELLED', '2023-11-03T12:47:17', 0, 0),
+(261, 29, 19, 'Pediatrics', '2024-08-27T09:00:00', '2024-08-27T09:30:00', 'CANCELLED', '2023-11-30T16:10:45', 0, 0),
+(262, 14, 9, 'Cardiology', '2025-06-15T17:29:00', '2025-06-15T17:59:00', 'CANCELLED', '2023-10-18T10:22:04', 0, 0),
+(263, 24, 11, 'Orthopedics', '2024-12-11T17:29:00', '2024-12-11T17:59:00', 'COMPLETED', '2025-01-30T09:17:07', 0, 0),
+(264, 34, 21, 'Neurology', '2025-07-16T09:00:00', '2025-07-16T09:11:08', 'CANCELLED', '2024-09-01T19:06:04', 0, 0),
+(265, 38, 4, 'Neurology', '2024-06-30T17:29:00', '2024-06-30T17:59:00', 'CANCELLED', '2023-09-26T00:17:30', 0, 0),
+(266, 53, 22, 'Neurology', '2025-07-05T17:29:00', '2025-07-05T17:59:00', 'CANCELLED', '2023-07-28T01:56:05', 0, 0),
+(267, 21, 4, 'Orthopedics', '2024-04-19T09:23:30', '2024-04-19T09:53:30', 'SCHEDULED', '2024-08-02T21:51:32', 0, 0),
+(268, 45, 5, 'Dermatology', '2024-08-26T10:57:37', '2024-08-26T11:27:37', 'CANCELLED', '2023-08-03T04:03:55', 0, 0),
+(269, 37, 13, 'Pediatrics', '2023-10-16T13:23:59', '2023-10-16T13:53:59', 'CANCELLED', '2025-04-14T18:57:04', 0, 0),
+(270, 45, 21, 'Orthopedics', '2025-05-12T09:00:00', '2025-05-12T09:30:00', 'COMPLETED', '2024-03-24T16:32:27', 0, 0),
+(271, 9, 6, 'Neurology', '2024-12-01T14:32:05', '2024-12-01T15:02:05', 'COMPLETED', '2023-01-15T21:17:47', 0, 0),
+(272, 32, 5, 'Orthopedics', '2024-08-19T10:28:34', '2024-08-19T10:58:34', 'CANCELLED', '2025-02-07T21:48:48', 0, 0),
+(273, 27, 22, 'Pediatrics', '2024-10-07T15:49:32', '2024-10-07T16:19:32', 'COMPLETED', '2023-09-17T19:39:43', 0, 0),
+(274, 6, 19, 'Cardiology', '2023-12-09T13:56:09', '2023-12-09T14:26:09', 'SCHEDULED', '2024-03-02T23:15:34', 0, 0),
+(275, 15, 18, 'Neurology', '2023-09-19T09:00:00', '2023-09-19T09:30:00', 'CANCELLED', '2025-02-08T10:37:11', 0, 0),
+(276, 36, 17, 'Cardiology', '2025-06-08T16:19:39', '2025-06-08T16:49:39', 'COMPLETED', '2025-04-23T16:27:57', 0, 0),
+(277, 53, 12, 'Dermatology', '2023-03-06T15:21:09', '2023-03-06T15:51:09', 'CANCELLED', '2023-12-06T11:50:01', 0, 0),
+(278, 28, 4, 'Orthopedics', '2024-04-07T11:23:36', '2024-04-07T11:53:36', 'COMPLETED', '2024-02-13T06:27:42', 0, 0),
+(279, 23, 3, 'Pediatrics', '2023-07-02T09:00:00', '2023-07-02T09:30:00', 'SCHEDULED', '2025-07-02T07:23:29', 0, 0),
+(280, 45, 12, 'Dermatology', '2024-10-27T09:00:00', '2024-10-27T09:30:00', 'CANCELLED', '2023-08-05T07:03:20', 0, 0),
+(281, 51, 7, 'Orthopedics', '2023-04-03T09:00:00', '2023-04-03T09:30:00', 'COMPLETED', '2025-04-06T20:51:59', 0, 0),
+(282, 18, 20, 'Dermatology', '2023-09-19T13:33:47', '2023-09-19T14:03:47', 'CANCELLED', '2024-03-30T14:12:44', 0, 0),
+(283, 19, 19, 'Neurology', '2025-03-10T09:00:00', '2025-03-10T09:30:00', 'SCHEDULED', '2024-10-01T09:25:09', 0, 0),
+(284, 59, 2, 'Neurology', '2023-07-17T09:00:00', '2023-07-17T09:30:00', 'SCHEDULED', '2023-08-16T04:21:02', 0, 0),
+(285, 46, 11, 'Orthopedics', '2024-09-02T09:00:00', '2024-09-02T09:30:00', 'SCHEDULED', '2025-06-15T23:59:02', 0, 0),
+(286, 41, 9, 'Pediatrics', '2024-08-05T17:29:00', '2024-08-05T17:59:00', 'SCHEDULED', '2023-05-25T14:49:30', 0, 0),
+(287, 26, 17, 'Neurology', '2024-07-27T09:00:00', '2024-07-27T09:30:00', 'COMPLETED', '2024-05-23T10:13:43', 0, 0),
+(288, 38, 1, 'Cardiology', '2024-12-13T09:00:00', '2024-12-13T09:30:00', 'SCHEDULED', '2025-04-10T04:47:17', 0, 0),
+(289, 26, 7, 'Pediatrics', '2023-11-26T09:00:00', '2023-11-26T09:30:00', 'COMPLETED', '2024-05-16T13:17:06', 0, 0),
+(290, 54, 10, 'Neurology', '2025-04-30T09:00:00', '2025-04-30T09:30:00', 'SCHEDULED', '2025-05-29T11:18:27', 0, 0),
+(291, 55, 16, 'Neurology', '2023-03-17T09:00:00', '2023-03-17T09:30:00', 'SCHEDULED', '2024-12-14T22:27:00', 0, 0),
+(292, 2, 4, 'Orthopedics', '2024-11-16T12:19:57', '2024-11-16T12:49:57', 'SCHEDULED', '2024-10-26T13:30:50', 0, 0),
+(293, 13, 23, 'Orthopedics', '2024-04-13T17:29:00', '2024-04-13T17:59:00', 'COMPLETED', '2023-05-25T23:58:00', 0, 0),
+(294, 42, 12, 'Neurology', '2023-05-09T09:00:00', '2023-05-09T09:30:00', 'CANCELLED', '2023-09-15T03:13:20', 0, 0),
+(295, 4, 13, 'Neurology', '2023-12-30T17:30:54', '2023-12-30T17:59:00', 'CANCELLED', '2023-05-22T16:09:07', 0, 0),
+(296, 46, 4, 'Cardiology', '2023-11-28T12:55:05', '2023-11-28T13:25:05', 'SCHEDULED', '2023-07-26T03:24:24', 0, 0),
+(297, 38, 8, 'Dermatology', '2024-11-22T09:17:45', '2024-11-22T09:47:45', 'SCHEDULED', '2024-06-17T17:22:21', 0, 0),
+(298, 53, 4, 'Pediatrics', '2023-07-25T09:00:00', '2023-07-25T09:30:00', 'SCHEDULED', '2023-12-22T15:45:28', 0, 0),
+(299, 25, 3, 'Cardiology', '2023-06-10T09:00:00', '2023-06-10T09:30:00', 'COMPLETED', '2024-04-09T21:02:50', 0, 0),
+(300, 9, 13, 'Orthopedics', '2023-08-10T17:29:00', '2023-08-10T17:59:00', 'CANCELLED', '2025-05-25T01:01:07', 0, 0);
+
+-- Appointment IDs come from a sequence; move it past the seeded IDs
+ALTER SEQUENCE appointment_seq RESTART WITH 301;
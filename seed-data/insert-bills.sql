@@ -309,3 +309,6 @@ INSERT INTO bills (bill_id, patient_id, appointment_id, consultation_fee, medica
 (298, 20, 169, 500.0, 127.62, 31.38, 659.0, 'VOID', '2023-07-24 16:49:16'),
 (299, 14, 71, 500.0, 256.19, 37.81, 794.0, 'VOID', '2023-11-11 06:40:19'),
 (300, 56, 71, 491.43, 0.0, 24.57, 516.0, 'VOID', '2025-03-24 16:53:01');
+
+-- Bill IDs come from a sequence; move it past the seeded IDs
+ALTER SEQUENCE bill_seq RESTART WITH 301;
@@ -30,9 +30,9 @@ ALTER TABLE doctors ALTER COLUMN doctor_id RESTART WITH 1;
 -- Password: (empty)
 -- ============================================
 
--- Method 1: TRUNCATE TABLE (Recommended - Also resets sequence automatically)
+-- Appointment IDs come from a sequence (appointment_seq) rather than an identity column
 TRUNCATE TABLE appointments;
-ALTER TABLE appointments ALTER COLUMN appointment_id RESTART WITH 1;
+ALTER SEQUENCE appointment_seq RESTART WITH 1;
 
 -- ============================================
 -- BILLING SERVICE (Port 8004)
@@ -41,9 +41,9 @@ ALTER TABLE appointments ALTER COLUMN appointment_id RESTART WITH 1;
 -- Password: (empty)
 -- ============================================
 
--- Method 1: TRUNCATE TABLE (Recommended - Also resets sequence automatically)
+-- Bill IDs come from a sequence (bill_seq) rather than an identity column
 TRUNCATE TABLE bills;
-ALTER TABLE bills ALTER COLUMN bill_id RESTART WITH 1;
+ALTER SEQUENCE bill_seq RESTART WITH 1;
 
 -- ============================================
 -- VERIFICATION